@@ -0,0 +1,20 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest;
+
+import javax.inject.Qualifier;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Qualifies the {@link org.lfenergy.compas.cim.mapping.service.CimMappingWorkerPool} used by the asynchronous map
+ * endpoints, so it can't be confused with other worker pools.
+ */
+@Qualifier
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+public @interface CimAsyncPool {
+}
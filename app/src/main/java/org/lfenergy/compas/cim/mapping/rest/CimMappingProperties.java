@@ -0,0 +1,85 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithName;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryMode;
+import org.lfenergy.compas.cim.mapping.service.CimMappingThreadMode;
+
+import java.time.Duration;
+
+@ConfigMapping(prefix = "compas.cim")
+public interface CimMappingProperties {
+    @WithName("triplestore.implementation")
+    String tripleStoreImplementation();
+
+    @WithName("reader.mode")
+    CimReaderMode readerMode();
+
+    @WithName("query.mode")
+    CimQueryMode queryMode();
+
+    @WithName("mapping.parallelism")
+    int mappingParallelism();
+
+    @WithName("boundary-cache.max-size")
+    MemorySize boundaryCacheMaxSize();
+
+    @WithName("cache.max-entries")
+    int cacheMaxEntries();
+
+    @WithName("cache.ttl")
+    Duration cacheTtl();
+
+    @WithName("worker.thread-mode")
+    CimMappingThreadMode workerThreadMode();
+
+    @WithName("async.threads")
+    int asyncThreads();
+
+    @WithName("async.queue-depth")
+    int asyncQueueDepth();
+
+    @WithName("async.retry-after")
+    Duration asyncRetryAfter();
+
+    @WithName("jobs.threads")
+    int jobsThreads();
+
+    @WithName("jobs.queue-depth")
+    int jobsQueueDepth();
+
+    @WithName("jobs.result-ttl")
+    Duration jobsResultTtl();
+
+    @WithName("jobs.max-results")
+    int jobsMaxResults();
+
+    @WithName("batch.threads")
+    int batchThreads();
+
+    @WithName("batch.queue-depth")
+    int batchQueueDepth();
+
+    @WithName("memory.budget")
+    MemorySize memoryBudget();
+
+    @WithName("memory.factor")
+    int memoryFactor();
+
+    @WithName("memory.max-wait")
+    Duration memoryMaxWait();
+
+    @WithName("memory.retry-after")
+    Duration memoryRetryAfter();
+
+    @WithName("profile.enabled")
+    boolean profileEnabled();
+
+    @WithName("metrics.count-triples")
+    boolean metricsCountTriples();
+}
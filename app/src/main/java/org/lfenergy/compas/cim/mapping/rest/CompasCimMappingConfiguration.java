@@ -3,10 +3,30 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.lfenergy.compas.cim.mapping.rest;
 
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
 import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.lfenergy.compas.cim.mapping.cgmes.CimBoundaryCache;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.cgmes.CimTripleStore;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.cim.mapping.mapper.CimMappingParallelism;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryMode;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryRegistry;
 import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapper;
+import org.lfenergy.compas.cim.mapping.service.CimMappingBatchSettings;
+import org.lfenergy.compas.cim.mapping.service.CimMappingJobSettings;
+import org.lfenergy.compas.cim.mapping.service.CimMappingResultCache;
+import org.lfenergy.compas.cim.mapping.service.CimMappingWorkerPool;
+import org.lfenergy.compas.cim.mapping.service.CimMemoryBudget;
 
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Disposes;
 import javax.enterprise.inject.Produces;
+import javax.inject.Singleton;
+
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.UNSUPPORTED_THREAD_MODE_ERROR_CODE;
 
 /**
  * Create Beans from other dependencies that are used in the application.
@@ -22,4 +42,114 @@ public class CompasCimMappingConfiguration {
     public CimToSclMapper createCimToSclMapper() {
         return CimToSclMapper.INSTANCE;
     }
+
+    @Produces
+    @Singleton
+    public CimTripleStore createCimTripleStore(CimMappingProperties cimMappingProperties) {
+        return new CimTripleStore(cimMappingProperties.tripleStoreImplementation());
+    }
+
+    @Produces
+    @Singleton
+    public CimReaderMode createCimReaderMode(CimMappingProperties cimMappingProperties) {
+        return cimMappingProperties.readerMode();
+    }
+
+    @Produces
+    @Singleton
+    public CimQueryMode createCimQueryMode(CimMappingProperties cimMappingProperties) {
+        return cimMappingProperties.queryMode();
+    }
+
+    @Produces
+    @Singleton
+    public CimMappingParallelism createCimMappingParallelism(CimMappingProperties cimMappingProperties) {
+        return new CimMappingParallelism(cimMappingProperties.mappingParallelism());
+    }
+
+    /**
+     * Stop the threads used to map the Substations in parallel when the application stops.
+     */
+    void closeCimMappingParallelism(@Disposes CimMappingParallelism cimMappingParallelism) {
+        cimMappingParallelism.close();
+    }
+
+    @Produces
+    @Singleton
+    public CimBoundaryCache createCimBoundaryCache(CimMappingProperties cimMappingProperties) {
+        return new CimBoundaryCache(cimMappingProperties.boundaryCacheMaxSize().asLongValue());
+    }
+
+    @Produces
+    @Singleton
+    public CimMappingResultCache createCimMappingResultCache(CimMappingProperties cimMappingProperties) {
+        return new CimMappingResultCache(cimMappingProperties.cacheMaxEntries(), cimMappingProperties.cacheTtl());
+    }
+
+    @Produces
+    @Singleton
+    public CimMemoryBudget createCimMemoryBudget(CimMappingProperties cimMappingProperties) {
+        return new CimMemoryBudget(cimMappingProperties.memoryBudget().asLongValue(),
+                cimMappingProperties.memoryFactor(), cimMappingProperties.memoryMaxWait());
+    }
+
+    @Produces
+    @ApplicationScoped
+    @CimAsyncPool
+    public CimMappingWorkerPool createCimMappingWorkerPool(CimMappingProperties cimMappingProperties) {
+        return new CimMappingWorkerPool("cim-mapping-worker", cimMappingProperties.asyncThreads(),
+                cimMappingProperties.asyncQueueDepth(), cimMappingProperties.workerThreadMode());
+    }
+
+    /**
+     * Stop the threads used by the asynchronous map endpoints when the application stops.
+     */
+    void closeCimMappingWorkerPool(@Disposes @CimAsyncPool CimMappingWorkerPool cimMappingWorkerPool) {
+        cimMappingWorkerPool.close();
+    }
+
+    @Produces
+    @Singleton
+    public CimMappingJobSettings createCimMappingJobSettings(CimMappingProperties cimMappingProperties) {
+        return new CimMappingJobSettings(cimMappingProperties.jobsThreads(),
+                cimMappingProperties.jobsQueueDepth(),
+                cimMappingProperties.jobsResultTtl(),
+                cimMappingProperties.jobsMaxResults(),
+                cimMappingProperties.workerThreadMode());
+    }
+
+    @Produces
+    @Singleton
+    public CimMappingBatchSettings createCimMappingBatchSettings(CimMappingProperties cimMappingProperties) {
+        return new CimMappingBatchSettings(cimMappingProperties.batchThreads(),
+                cimMappingProperties.batchQueueDepth(),
+                cimMappingProperties.workerThreadMode());
+    }
+
+    /**
+     * Stop the application when it starts if the configured kind of threads isn't supported by the JVM, instead of
+     * only failing when the first mapping is started.
+     */
+    void checkWorkerThreadMode(@Observes StartupEvent event, CimMappingProperties cimMappingProperties) {
+        var threadMode = cimMappingProperties.workerThreadMode();
+        if (!threadMode.isSupported()) {
+            throw new CompasCimMappingException(UNSUPPORTED_THREAD_MODE_ERROR_CODE,
+                    "Thread mode " + threadMode + " isn't supported by Java " + Runtime.version().feature());
+        }
+    }
+
+    /**
+     * Warm up all the CIM Queries once when the application starts, so this isn't done during the first request.
+     */
+    void warmUpCimQueries(@Observes StartupEvent event, CimQueryRegistry cimQueryRegistry,
+                          CimTripleStore cimTripleStore) {
+        cimQueryRegistry.warmUp(cimTripleStore.getImplementation());
+    }
+
+    /**
+     * Log the statistics of all the CIM Queries collected while the application ran.
+     */
+    void logCimQueryStatistics(@Observes ShutdownEvent event, CimQueryRegistry cimQueryRegistry) {
+        cimQueryRegistry.logStatistics();
+    }
 }
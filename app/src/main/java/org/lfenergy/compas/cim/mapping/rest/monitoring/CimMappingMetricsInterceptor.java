@@ -0,0 +1,57 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.monitoring;
+
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingStage;
+
+import javax.inject.Inject;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+
+/**
+ * Records the time it takes to unmarshal the request body and to marshal the response body in the metrics.
+ * <p>
+ * Remark: a streamed response maps the Substations while it's written, so writing it isn't recorded as
+ * marshalling. Otherwise, the mapping would be recorded twice.
+ */
+@Provider
+public class CimMappingMetricsInterceptor implements ReaderInterceptor, WriterInterceptor {
+    private final CimMappingMetrics cimMappingMetrics;
+
+    @Inject
+    public CimMappingMetricsInterceptor(CimMappingMetrics cimMappingMetrics) {
+        this.cimMappingMetrics = cimMappingMetrics;
+    }
+
+    @Override
+    public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+        var start = System.nanoTime();
+        try {
+            return context.proceed();
+        } finally {
+            cimMappingMetrics.recordStage(CimMappingStage.UNMARSHAL_REQUEST, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        if (context.getEntity() instanceof StreamingOutput) {
+            context.proceed();
+            return;
+        }
+
+        var start = System.nanoTime();
+        try {
+            context.proceed();
+        } finally {
+            cimMappingMetrics.recordStage(CimMappingStage.MARSHAL_RESPONSE, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingStage;
+import org.lfenergy.compas.cim.mapping.rest.CimMappingProperties;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the metrics of the mapping using Micrometer, exposed in Prometheus format on '/q/metrics'.
+ * The timers publish a histogram, so the percentiles can be calculated over all instances. The triples read are
+ * only counted when configured, because that needs a scan of the complete Triple Store for every request.
+ */
+@ApplicationScoped
+public class MicrometerCimMappingMetrics implements CimMappingMetrics {
+    static final String STAGE_TIMER = "cim.mapping.stage";
+    static final String QUERY_TIMER = "cim.mapping.query";
+    static final String INPUT_TRIPLES_COUNTER = "cim.mapping.input.triples";
+    static final String OUTPUT_ELEMENTS_COUNTER = "cim.mapping.output.elements";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<CimMappingStage, Timer> stageTimers = new EnumMap<>(CimMappingStage.class);
+    private final Map<String, Timer> queryTimers = new ConcurrentHashMap<>();
+    private final Counter inputTriples;
+    private final Counter outputElements;
+    private final boolean countingInputTriples;
+
+    @Inject
+    public MicrometerCimMappingMetrics(MeterRegistry meterRegistry, CimMappingProperties cimMappingProperties) {
+        this(meterRegistry, cimMappingProperties.metricsCountTriples());
+    }
+
+    public MicrometerCimMappingMetrics(MeterRegistry meterRegistry, boolean countingInputTriples) {
+        this.meterRegistry = meterRegistry;
+        this.countingInputTriples = countingInputTriples;
+        for (var stage : CimMappingStage.values()) {
+            stageTimers.put(stage, Timer.builder(STAGE_TIMER)
+                    .description("Time a stage of the mapping took")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        inputTriples = Counter.builder(INPUT_TRIPLES_COUNTER)
+                .description("Number of triples read from the CIM Files")
+                .register(meterRegistry);
+        outputElements = Counter.builder(OUTPUT_ELEMENTS_COUNTER)
+                .description("Number of SCL Elements created by the mapping")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isCountingInputTriples() {
+        return countingInputTriples;
+    }
+
+    @Override
+    public void recordStage(CimMappingStage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordQuery(String query, long nanos) {
+        queryTimers.computeIfAbsent(query, name -> Timer.builder(QUERY_TIMER)
+                        .description("Time a query on the Triple Store took")
+                        .tag("query", name.toLowerCase(Locale.ROOT))
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void countInputTriples(long triples) {
+        inputTriples.increment(triples);
+    }
+
+    @Override
+    public void countOutputElements(long elements) {
+        outputElements.increment(elements);
+    }
+}
@@ -0,0 +1,73 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.monitoring;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingSpan;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingStage;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.util.Locale;
+
+/**
+ * Creates the spans of the mapping using OpenTelemetry, which are exported over OTLP. Every span is made current
+ * while it's open, so the spans of the queries become children of the stage they're executed in and the stages
+ * become children of the span of the request.
+ */
+@ApplicationScoped
+public class OpenTelemetryCimMappingTracing implements CimMappingTracing {
+    static final AttributeKey<String> STAGE_ATTRIBUTE = AttributeKey.stringKey("cim.mapping.stage");
+    static final AttributeKey<String> QUERY_ATTRIBUTE = AttributeKey.stringKey("cim.query");
+    static final AttributeKey<Long> ROWS_ATTRIBUTE = AttributeKey.longKey("cim.query.rows");
+    static final AttributeKey<Long> FILTERED_ROWS_ATTRIBUTE = AttributeKey.longKey("cim.query.rows.filtered");
+
+    private final Tracer tracer;
+
+    @Inject
+    public OpenTelemetryCimMappingTracing(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public CimMappingSpan startStage(CimMappingStage stage) {
+        var name = stage.name().toLowerCase(Locale.ROOT);
+        return start(tracer.spanBuilder("cim " + name)
+                .setAttribute(STAGE_ATTRIBUTE, name)
+                .startSpan());
+    }
+
+    @Override
+    public CimMappingSpan startQuery(String query) {
+        return start(tracer.spanBuilder("cim query " + query.toLowerCase(Locale.ROOT))
+                .setAttribute(QUERY_ATTRIBUTE, query)
+                .startSpan());
+    }
+
+    private CimMappingSpan start(Span span) {
+        return new OpenTelemetryCimMappingSpan(span, span.makeCurrent());
+    }
+
+    private record OpenTelemetryCimMappingSpan(Span span, Scope scope) implements CimMappingSpan {
+        @Override
+        public void setRows(int rows) {
+            span.setAttribute(ROWS_ATTRIBUTE, (long) rows);
+        }
+
+        @Override
+        public void setFilteredRows(int rows) {
+            span.setAttribute(FILTERED_ROWS_ATTRIBUTE, (long) rows);
+        }
+
+        @Override
+        public void close() {
+            scope.close();
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lfenergy.compas.cim.mapping.rest.CimMappingProperties;
+import org.lfenergy.compas.cim.mapping.service.CimMemoryBudget;
+
+import javax.inject.Inject;
+import javax.ws.rs.ServiceUnavailableException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Rejects a conversion before its body is read when the memory estimated from the Content-Length isn't available
+ * in the {@link CimMemoryBudget}, so a burst of large uploads isn't read into memory or spooled first. The check
+ * doesn't wait and doesn't reserve anything, the conversion still reserves the memory when it starts. Requests
+ * without a Content-Length, like chunked uploads, are only limited by that reservation.
+ */
+@Provider
+@CimMemoryBudgetCheck
+public class CimMemoryBudgetFilter implements ContainerRequestFilter {
+    private static final Logger LOGGER = LogManager.getLogger(CimMemoryBudgetFilter.class);
+
+    private final CimMemoryBudget cimMemoryBudget;
+    private final CimMappingProperties cimMappingProperties;
+
+    @Inject
+    public CimMemoryBudgetFilter(CimMemoryBudget cimMemoryBudget, CimMappingProperties cimMappingProperties) {
+        this.cimMemoryBudget = cimMemoryBudget;
+        this.cimMappingProperties = cimMappingProperties;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        var contentLength = requestContext.getLength();
+        if (contentLength > 0 && !cimMemoryBudget.isAvailable(contentLength)) {
+            LOGGER.warn("Rejecting request of {} bytes, not enough memory available", contentLength);
+            throw new ServiceUnavailableException(
+                    "Not enough memory available to convert the CIM Files, try again later.",
+                    cimMappingProperties.memoryRetryAfter().toSeconds());
+        }
+    }
+}
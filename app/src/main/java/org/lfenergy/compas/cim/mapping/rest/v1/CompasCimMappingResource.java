@@ -4,30 +4,68 @@
 package org.lfenergy.compas.cim.mapping.rest.v1;
 
 import io.quarkus.security.Authenticated;
+import io.smallrye.mutiny.Uni;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.resteasy.plugins.providers.multipart.InputPart;
+import org.jboss.resteasy.plugins.providers.multipart.MultipartFormDataInput;
+import org.lfenergy.compas.cim.mapping.cgmes.CimFileDataSource;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.cim.mapping.mapper.CimMappingProfile;
+import org.lfenergy.compas.cim.mapping.model.CimData;
+import org.lfenergy.compas.cim.mapping.rest.CimAsyncPool;
+import org.lfenergy.compas.cim.mapping.rest.CimMappingProperties;
 import org.lfenergy.compas.cim.mapping.rest.UserInfoProperties;
-import org.lfenergy.compas.cim.mapping.rest.v1.model.MapRequest;
-import org.lfenergy.compas.cim.mapping.rest.v1.model.MapResponse;
+import org.lfenergy.compas.cim.mapping.rest.v1.model.*;
+import org.lfenergy.compas.cim.mapping.service.CimMappingBatchGroup;
+import org.lfenergy.compas.cim.mapping.service.CimMappingJob;
+import org.lfenergy.compas.cim.mapping.service.CimMappingJobStatus;
+import org.lfenergy.compas.cim.mapping.service.CimMappingWorkerPool;
+import org.lfenergy.compas.cim.mapping.service.CimMemoryBudget;
+import org.lfenergy.compas.cim.mapping.service.CompasCimMappingBatchService;
+import org.lfenergy.compas.cim.mapping.service.CompasCimMappingJobService;
 import org.lfenergy.compas.cim.mapping.service.CompasCimMappingService;
+import org.lfenergy.compas.scl2007b4.model.SCL;
 
 import javax.enterprise.context.RequestScoped;
 import javax.inject.Inject;
 import javax.validation.Valid;
-import javax.ws.rs.Consumes;
-import javax.ws.rs.POST;
-import javax.ws.rs.Path;
-import javax.ws.rs.Produces;
+import javax.ws.rs.*;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static org.lfenergy.compas.cim.mapping.constraint.impl.CimDataNamePatternValidator.REGEX_VALID_NAME;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.JOB_QUEUE_FULL_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.MEMORY_BUDGET_FULL_ERROR_CODE;
 
 @Authenticated
 @RequestScoped
 @Path("/cim/v1/")
 public class CompasCimMappingResource {
     private static final Logger LOGGER = LogManager.getLogger(CompasCimMappingResource.class);
+    private static final Pattern FILENAME_PATTERN = Pattern.compile("filename=\"([^\"]+)\"");
+    private static final Pattern VALID_NAME_PATTERN = Pattern.compile(REGEX_VALID_NAME);
 
     private CompasCimMappingService compasCimMappingService;
+    private CompasCimMappingJobService compasCimMappingJobService;
+    private CompasCimMappingBatchService compasCimMappingBatchService;
+    private CimMappingWorkerPool cimMappingWorkerPool;
+    private CimMemoryBudget cimMemoryBudget;
 
     @Inject
     JsonWebToken jsonWebToken;
@@ -36,21 +74,456 @@ public class CompasCimMappingResource {
     UserInfoProperties userInfoProperties;
 
     @Inject
-    public CompasCimMappingResource(CompasCimMappingService compasCimMappingService) {
+    CimMappingProperties cimMappingProperties;
+
+    @Inject
+    public CompasCimMappingResource(CompasCimMappingService compasCimMappingService,
+                                    CompasCimMappingJobService compasCimMappingJobService,
+                                    CompasCimMappingBatchService compasCimMappingBatchService,
+                                    @CimAsyncPool CimMappingWorkerPool cimMappingWorkerPool,
+                                    CimMemoryBudget cimMemoryBudget) {
         this.compasCimMappingService = compasCimMappingService;
+        this.compasCimMappingJobService = compasCimMappingJobService;
+        this.compasCimMappingBatchService = compasCimMappingBatchService;
+        this.cimMappingWorkerPool = cimMappingWorkerPool;
+        this.cimMemoryBudget = cimMemoryBudget;
     }
 
     @POST
     @Path("/map")
     @Consumes(MediaType.APPLICATION_XML)
     @Produces(MediaType.APPLICATION_XML)
+    @CimMemoryBudgetCheck
     public MapResponse map(@Valid MapRequest request) {
         LOGGER.info("Converting CIM File to SCL File");
         String who = jsonWebToken.getClaim(userInfoProperties.who());
         LOGGER.trace("Username used for Who {}", who);
 
+        try (var reservation = reserveMemory(CimMemoryBudget.getSize(request.getCimData()))) {
+            var response = new MapResponse();
+            response.setScl(compasCimMappingService.map(request.getCimData(), who));
+            return response;
+        }
+    }
+
+    @POST
+    @Path("/map")
+    @Consumes(MediaType.MULTIPART_FORM_DATA)
+    @Produces(MediaType.APPLICATION_XML)
+    @CimMemoryBudgetCheck
+    public MapResponse mapFiles(MultipartFormDataInput input) throws IOException {
+        LOGGER.info("Converting uploaded CIM File(s) to SCL File");
+        String who = jsonWebToken.getClaim(userInfoProperties.who());
+        LOGGER.trace("Username used for Who {}", who);
+
+        try (var dataSource = spoolFiles(input);
+             var reservation = reserveMemory(dataSource.getSize())) {
+            var response = new MapResponse();
+            response.setScl(compasCimMappingService.mapFiles(dataSource, who));
+            return response;
+        } finally {
+            input.close();
+        }
+    }
+
+    @POST
+    @Path("/map/stream")
+    @Consumes(MediaType.APPLICATION_XML)
+    @Produces(MediaType.APPLICATION_XML)
+    @CimMemoryBudgetCheck
+    public StreamingOutput streamMap(@Valid MapRequest request) {
+        LOGGER.info("Converting CIM File to SCL File, streaming the response");
+        String who = jsonWebToken.getClaim(userInfoProperties.who());
+        LOGGER.trace("Username used for Who {}", who);
+
+        var reservation = reserveMemory(CimMemoryBudget.getSize(request.getCimData()));
+        try {
+            return new MapResponseStreamingOutput(compasCimMappingService.stream(request.getCimData(), who),
+                    reservation);
+        } catch (RuntimeException exp) {
+            reservation.close();
+            throw exp;
+        }
+    }
+
+    @POST
+    @Path("/map/stream")
+    @Consumes(MediaType.MULTIPART_FORM_DATA)
+    @Produces(MediaType.APPLICATION_XML)
+    @CimMemoryBudgetCheck
+    public StreamingOutput streamMapFiles(MultipartFormDataInput input) throws IOException {
+        LOGGER.info("Converting uploaded CIM File(s) to SCL File, streaming the response");
+        String who = jsonWebToken.getClaim(userInfoProperties.who());
+        LOGGER.trace("Username used for Who {}", who);
+
+        // The CIM Model is completely read before the response is written, so the files can be removed already.
+        try (var dataSource = spoolFiles(input)) {
+            var reservation = reserveMemory(dataSource.getSize());
+            try {
+                return new MapResponseStreamingOutput(compasCimMappingService.streamFiles(dataSource, who),
+                        reservation);
+            } catch (RuntimeException exp) {
+                reservation.close();
+                throw exp;
+            }
+        } finally {
+            input.close();
+        }
+    }
+
+    @POST
+    @Path("/map-batch")
+    @Consumes(MediaType.APPLICATION_XML)
+    @Produces(MediaType.APPLICATION_XML)
+    @CimMemoryBudgetCheck
+    public StreamingOutput mapBatch(@Valid MapBatchRequest request) {
+        LOGGER.info("Converting batch of {} group(s) of CIM Files to SCL Files", request.getGroups().size());
+        String who = jsonWebToken.getClaim(userInfoProperties.who());
+        LOGGER.trace("Username used for Who {}", who);
+
+        var groups = request.getGroups().stream()
+                .map(group -> new CimMappingBatchGroup(group.getId(), group.getCimData()))
+                .toList();
+        return new MapBatchStreamingOutput(compasCimMappingBatchService, groups, who);
+    }
+
+    @POST
+    @Path("/map/async")
+    @Consumes(MediaType.APPLICATION_XML)
+    @Produces(MediaType.APPLICATION_XML)
+    @CimMemoryBudgetCheck
+    public Uni<MapResponse> mapAsync(@Valid MapRequest request) {
+        LOGGER.info("Converting CIM File to SCL File on the worker pool");
+        String who = jsonWebToken.getClaim(userInfoProperties.who());
+        LOGGER.trace("Username used for Who {}", who);
+
+        return mapOnWorkerPool(cimMappingWorkerPool, () -> compasCimMappingService.map(request.getCimData(), who),
+                CimMemoryBudget.getSize(request.getCimData()), () -> {
+                });
+    }
+
+    @POST
+    @Path("/map/async")
+    @Consumes(MediaType.MULTIPART_FORM_DATA)
+    @Produces(MediaType.APPLICATION_XML)
+    @CimMemoryBudgetCheck
+    public Uni<MapResponse> mapFilesAsync(MultipartFormDataInput input) throws IOException {
+        LOGGER.info("Converting uploaded CIM File(s) to SCL File on the worker pool");
+        String who = jsonWebToken.getClaim(userInfoProperties.who());
+        LOGGER.trace("Username used for Who {}", who);
+
+        return mapFilesOnWorkerPool(cimMappingWorkerPool, input, who);
+    }
+
+    /**
+     * Spool the uploaded files and map them on the worker pool, the spooled files are removed when the mapping
+     * is finished or couldn't be started.
+     *
+     * @param workerPool The worker pool to map on.
+     * @param input      The multipart request with the uploaded files.
+     * @param who        The name of the user who created the SCL from the CIM Data.
+     * @return The response, completed when the mapping is finished.
+     * @throws IOException When the uploaded files can't be read or spooled.
+     */
+    private Uni<MapResponse> mapFilesOnWorkerPool(CimMappingWorkerPool workerPool, MultipartFormDataInput input,
+                                                  String who) throws IOException {
+        CimFileDataSource dataSource;
+        try {
+            dataSource = spoolFiles(input);
+        } finally {
+            input.close();
+        }
+        try {
+            return mapOnWorkerPool(workerPool, () -> compasCimMappingService.mapFiles(dataSource, who),
+                    dataSource.getSize(), () -> closeQuietly(dataSource));
+        } catch (RuntimeException exp) {
+            closeQuietly(dataSource);
+            throw exp;
+        }
+    }
+
+    /**
+     * Map on a worker pool, so the request thread is released while the CPU-bound mapping is running.
+     * The memory is also reserved on the worker pool, so the request thread never waits for other conversions.
+     * When the worker pool is saturated the request is rejected immediately, instead of waiting for a thread.
+     *
+     * @param workerPool   The worker pool to map on.
+     * @param mapping      Creates the SCL, called on a thread of the worker pool.
+     * @param payloadBytes The total size of the CIM Files in bytes, reserved before the mapping is started.
+     * @param cleanup      Called on the worker pool when the mapping is finished or the memory isn't available.
+     * @return The response, completed when the mapping is finished.
+     */
+    private Uni<MapResponse> mapOnWorkerPool(CimMappingWorkerPool workerPool, Supplier<SCL> mapping,
+                                             long payloadBytes, Runnable cleanup) {
+        try {
+            var result = workerPool.supply(() -> {
+                try (var reservation = reserveMemory(payloadBytes)) {
+                    var response = new MapResponse();
+                    response.setScl(mapping.get());
+                    return response;
+                } finally {
+                    cleanup.run();
+                }
+            });
+            return Uni.createFrom().completionStage(result);
+        } catch (RejectedExecutionException exp) {
+            throw new ServiceUnavailableException("Too many mappings running, try again later.",
+                    cimMappingProperties.asyncRetryAfter().toSeconds());
+        }
+    }
+
+    /**
+     * Reserve the memory needed to convert the CIM Files, waiting for other conversions to finish if needed.
+     * When the memory doesn't become available in time the request is rejected, so the client retries later
+     * instead of the application running out of memory.
+     *
+     * @param payloadBytes The total size of the CIM Files in bytes.
+     * @return The reservation, which needs to be closed when the conversion is finished.
+     */
+    private CimMemoryBudget.Reservation reserveMemory(long payloadBytes) {
+        try {
+            return cimMemoryBudget.reserve(payloadBytes);
+        } catch (CompasCimMappingException exp) {
+            if (MEMORY_BUDGET_FULL_ERROR_CODE.equals(exp.getErrorCode())) {
+                throw new ServiceUnavailableException(exp.getMessage(),
+                        cimMappingProperties.memoryRetryAfter().toSeconds());
+            }
+            throw exp;
+        }
+    }
+
+    private static void closeQuietly(CimFileDataSource dataSource) {
+        try {
+            dataSource.close();
+        } catch (IOException exp) {
+            LOGGER.warn("Unable to remove the CIM Files: {}", exp.getMessage());
+        }
+    }
+
+    @POST
+    @Path("/profile")
+    @Consumes(MediaType.APPLICATION_XML)
+    @Produces(MediaType.APPLICATION_XML)
+    @CimMemoryBudgetCheck
+    public ProfileResponse profile(@Valid MapRequest request) {
+        if (!cimMappingProperties.profileEnabled()) {
+            throw new NotFoundException("Profiling a conversion isn't enabled");
+        }
+        LOGGER.info("Profiling the conversion of CIM File to SCL File");
+        try (var reservation = reserveMemory(CimMemoryBudget.getSize(request.getCimData()))) {
+            return toProfileResponse(compasCimMappingService.profile(request.getCimData()));
+        }
+    }
+
+    private static ProfileResponse toProfileResponse(CimMappingProfile profile) {
+        var response = new ProfileResponse();
+        response.setReadTime(profile.getReadTime().toString());
+        response.setMapTime(profile.getMapTime().toString());
+        response.setMethods(toProfileEntries(profile.getMethods()));
+        response.setElements(toProfileEntries(profile.getElements()));
+        response.setTripleCounts(profile.getTriplesByClass().entrySet().stream()
+                .map(triples -> {
+                    var tripleCount = new TripleCount();
+                    tripleCount.setCimClass(triples.getKey());
+                    tripleCount.setTriples(triples.getValue());
+                    return tripleCount;
+                })
+                .toList());
+        return response;
+    }
+
+    private static List<ProfileEntry> toProfileEntries(Map<String, CimMappingProfile.Entry> entries) {
+        return entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, CimMappingProfile.Entry> entry) -> entry.getValue().nanos()).reversed())
+                .map(entry -> {
+                    var profileEntry = new ProfileEntry();
+                    profileEntry.setName(entry.getKey());
+                    profileEntry.setCount(entry.getValue().count());
+                    profileEntry.setTime(entry.getValue().getTime().toString());
+                    profileEntry.setAllocatedBytes(entry.getValue().allocatedBytes());
+                    return profileEntry;
+                })
+                .toList();
+    }
+
+    @POST
+    @Path("/jobs")
+    @Consumes(MediaType.APPLICATION_XML)
+    @Produces(MediaType.APPLICATION_XML)
+    public Response submitJob(@Valid MapRequest request) throws IOException {
+        LOGGER.info("Submitting job to convert CIM File to SCL File");
+        var who = getJobOwner();
+        LOGGER.trace("Username used for Who {}", who);
+
+        return submitJob(spoolCimData(request.getCimData()), who);
+    }
+
+    @POST
+    @Path("/jobs")
+    @Consumes(MediaType.MULTIPART_FORM_DATA)
+    @Produces(MediaType.APPLICATION_XML)
+    public Response submitJobFiles(MultipartFormDataInput input) throws IOException {
+        LOGGER.info("Submitting job to convert uploaded CIM File(s) to SCL File");
+        try {
+            var who = getJobOwner();
+            LOGGER.trace("Username used for Who {}", who);
+
+            return submitJob(spoolFiles(input), who);
+        } finally {
+            input.close();
+        }
+    }
+
+    @GET
+    @Path("/jobs/{id}")
+    @Produces(MediaType.APPLICATION_XML)
+    public JobResponse getJob(@PathParam("id") String id) {
+        return toJobResponse(findJob(id));
+    }
+
+    @GET
+    @Path("/jobs/{id}/result")
+    @Produces(MediaType.APPLICATION_XML)
+    public MapResponse getJobResult(@PathParam("id") String id) {
+        var job = findJob(id);
+        if (job.getStatus() != CimMappingJobStatus.COMPLETED) {
+            throw new ClientErrorException("Job '" + id + "' isn't completed, status is " + job.getStatus(),
+                    Response.Status.CONFLICT);
+        }
+
         var response = new MapResponse();
-        response.setScl(compasCimMappingService.map(request.getCimData(), who));
+        response.setScl(job.getScl());
+        return response;
+    }
+
+    private Response submitJob(CimFileDataSource dataSource, String who) {
+        try {
+            var job = compasCimMappingJobService.submit(dataSource, who);
+            return Response.accepted(toJobResponse(job))
+                    .location(URI.create("cim/v1/jobs/" + job.getId()))
+                    .build();
+        } catch (CompasCimMappingException exp) {
+            if (JOB_QUEUE_FULL_ERROR_CODE.equals(exp.getErrorCode())) {
+                throw new ServiceUnavailableException(exp.getMessage());
+            }
+            throw exp;
+        }
+    }
+
+    /**
+     * Search the job, jobs of other users are handled the same as unknown jobs.
+     *
+     * @param id The ID of the job.
+     * @return The job found.
+     */
+    private CimMappingJob findJob(String id) {
+        var who = getJobOwner();
+        return compasCimMappingJobService.getJob(id)
+                .filter(job -> who.equals(job.getWho()))
+                .orElseThrow(() -> new NotFoundException("Job '" + id + "' not found"));
+    }
+
+    /**
+     * Jobs can only be accessed by the user who submitted them, so a user without a name can't use jobs at all.
+     * Otherwise all users without a name would share their jobs.
+     *
+     * @return The name of the user, used as owner of the jobs.
+     */
+    private String getJobOwner() {
+        String who = jsonWebToken.getClaim(userInfoProperties.who());
+        if (who == null) {
+            throw new ForbiddenException("No username found in the token, which is needed to use jobs");
+        }
+        return who;
+    }
+
+    private static JobResponse toJobResponse(CimMappingJob job) {
+        var response = new JobResponse();
+        response.setId(job.getId());
+        response.setStatus(job.getStatus().name());
+        response.setTotalSubstations(job.getTotalSubstations());
+        response.setMappedSubstations(job.getMappedSubstations());
+        response.setSubmitted(format(job.getSubmitted()));
+        response.setStarted(format(job.getStarted()));
+        response.setFinished(format(job.getFinished()));
+        response.setErrorCode(job.getErrorCode());
+        response.setErrorMessage(job.getErrorMessage());
         return response;
     }
+
+    private static String format(Instant instant) {
+        return instant == null ? null : instant.toString();
+    }
+
+    /**
+     * Spool the CIM Data from the request to a data source, so it can be mapped after the request is finished.
+     *
+     * @param cimData The CIM XML Data from the request.
+     * @return The data source containing the CIM Files, which needs to be closed by the caller.
+     * @throws IOException When the CIM Data can't be spooled.
+     */
+    private CimFileDataSource spoolCimData(List<CimData> cimData) throws IOException {
+        var dataSource = new CimFileDataSource();
+        try {
+            if (cimData != null) {
+                for (var data : cimData) {
+                    var content = data.getRdfData() == null ? "" : data.getRdfData();
+                    dataSource.addFile(data.getName(), new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+            return dataSource;
+        } catch (IOException | RuntimeException exp) {
+            dataSource.close();
+            throw exp;
+        }
+    }
+
+    /**
+     * Spool all uploaded files to a data source, archives are decompressed while they're spooled.
+     *
+     * @param input The multipart request with the uploaded files.
+     * @return The data source containing the CIM Files, which needs to be closed by the caller.
+     * @throws IOException When the uploaded files can't be read or spooled.
+     */
+    private CimFileDataSource spoolFiles(MultipartFormDataInput input) throws IOException {
+        var dataSource = new CimFileDataSource();
+        try {
+            for (var part : input.getParts()) {
+                var fileName = getFileName(part);
+                if (fileName != null) {
+                    validateFileName(fileName);
+                    LOGGER.debug("Spooling uploaded CIM File '{}'", fileName);
+                    try (var content = part.getBody(InputStream.class, null)) {
+                        if (CimFileDataSource.isArchive(fileName)) {
+                            dataSource.addArchive(fileName, content);
+                        } else {
+                            dataSource.addFile(fileName, content);
+                        }
+                    }
+                }
+            }
+            return dataSource;
+        } catch (IOException | RuntimeException exp) {
+            dataSource.close();
+            throw exp;
+        }
+    }
+
+    private static String getFileName(InputPart part) {
+        var contentDisposition = part.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION);
+        if (contentDisposition != null) {
+            var matcher = FILENAME_PATTERN.matcher(contentDisposition);
+            if (matcher.find()) {
+                return matcher.group(1);
+            }
+        }
+        return null;
+    }
+
+    private static void validateFileName(String fileName) {
+        if (!CimFileDataSource.isArchive(fileName) && !VALID_NAME_PATTERN.matcher(fileName).matches()) {
+            throw new BadRequestException("Invalid CIM File name '" + fileName + "'");
+        }
+    }
 }
\ No newline at end of file
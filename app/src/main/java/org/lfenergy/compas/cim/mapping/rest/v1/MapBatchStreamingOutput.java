@@ -0,0 +1,104 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lfenergy.compas.cim.mapping.rest.v1.model.MapBatchResult;
+import org.lfenergy.compas.cim.mapping.service.CimMappingBatchGroup;
+import org.lfenergy.compas.cim.mapping.service.CimMappingBatchResult;
+import org.lfenergy.compas.cim.mapping.service.CompasCimMappingBatchService;
+
+import javax.ws.rs.core.StreamingOutput;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.CIM_MAPPING_SERVICE_V1_NS_URI;
+
+/**
+ * Writes the MapBatchResponse while the groups of the batch are mapped. The envelope is written using StAX, the
+ * result of every group is marshalled as JAXB fragment as soon as it's mapped, in the order of the groups in the
+ * request. This way only the SCLs of the groups being mapped need to be kept in memory, not those of the complete
+ * batch.
+ * <p>
+ * Remark: a failing group is written as a result with an error, but an error writing the response results in an
+ * incomplete XML Document.
+ */
+public class MapBatchStreamingOutput implements StreamingOutput {
+    private static final Logger LOGGER = LogManager.getLogger(MapBatchStreamingOutput.class);
+
+    private static final String CMS_PREFIX = "cms";
+    private static final QName RESULT_QNAME = new QName(CIM_MAPPING_SERVICE_V1_NS_URI, "Result");
+
+    private static JAXBContext jaxbContext;
+
+    private final CompasCimMappingBatchService compasCimMappingBatchService;
+    private final List<CimMappingBatchGroup> groups;
+    private final String who;
+
+    public MapBatchStreamingOutput(CompasCimMappingBatchService compasCimMappingBatchService,
+                                   List<CimMappingBatchGroup> groups,
+                                   String who) {
+        this.compasCimMappingBatchService = compasCimMappingBatchService;
+        this.groups = groups;
+        this.who = who;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try {
+            var marshaller = getJaxbContext().createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+            var writer = XMLOutputFactory.newFactory().createXMLStreamWriter(output, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.setPrefix(CMS_PREFIX, CIM_MAPPING_SERVICE_V1_NS_URI);
+            writer.writeStartElement(CMS_PREFIX, "MapBatchResponse", CIM_MAPPING_SERVICE_V1_NS_URI);
+            writer.writeNamespace(CMS_PREFIX, CIM_MAPPING_SERVICE_V1_NS_URI);
+
+            compasCimMappingBatchService.mapBatch(groups, who, result -> writeResult(marshaller, writer, result));
+
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+        } catch (JAXBException | XMLStreamException exp) {
+            throw new IOException("Unable to write the batch result: " + exp.getMessage(), exp);
+        } catch (UncheckedIOException exp) {
+            throw exp.getCause();
+        }
+    }
+
+    private void writeResult(Marshaller marshaller, XMLStreamWriter writer, CimMappingBatchResult result) {
+        try {
+            LOGGER.trace("Writing result of group {}", result.id());
+            var mapBatchResult = new MapBatchResult();
+            mapBatchResult.setId(result.id());
+            mapBatchResult.setScl(result.scl());
+            mapBatchResult.setErrorCode(result.errorCode());
+            mapBatchResult.setErrorMessage(result.errorMessage());
+            marshaller.marshal(new JAXBElement<>(RESULT_QNAME, MapBatchResult.class, mapBatchResult), writer);
+            // Push the result to the client, so it doesn't wait in a buffer until the next group is mapped.
+            writer.flush();
+        } catch (JAXBException | XMLStreamException exp) {
+            throw new UncheckedIOException(new IOException("Unable to write the result of group '"
+                    + result.id() + "': " + exp.getMessage(), exp));
+        }
+    }
+
+    private static synchronized JAXBContext getJaxbContext() throws JAXBException {
+        if (jaxbContext == null) {
+            jaxbContext = JAXBContext.newInstance(MapBatchResult.class);
+        }
+        return jaxbContext;
+    }
+}
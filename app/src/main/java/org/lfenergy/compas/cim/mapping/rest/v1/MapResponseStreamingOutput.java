@@ -0,0 +1,130 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lfenergy.compas.cim.mapping.service.CimMemoryBudget;
+import org.lfenergy.compas.cim.mapping.service.CimToSclStream;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.THeader;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
+
+import javax.ws.rs.core.StreamingOutput;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.CIM_MAPPING_SERVICE_V1_NS_URI;
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.SCL_NS_URI;
+
+/**
+ * Writes the same XML as the MapResponse, but the Substations are written as soon as they are mapped. The envelope
+ * is written using StAX, the Header and every Substation are marshalled as JAXB fragment. This way only a single
+ * Substation needs to be kept in memory, instead of the complete SCL.
+ * <p>
+ * Remark: once the first Substation is written the response can't be changed anymore, so an error while mapping
+ * results in an incomplete XML Document.
+ */
+public class MapResponseStreamingOutput implements StreamingOutput {
+    private static final Logger LOGGER = LogManager.getLogger(MapResponseStreamingOutput.class);
+
+    private static final String CMS_PREFIX = "cms";
+    private static final QName HEADER_QNAME = new QName(SCL_NS_URI, "Header");
+    private static final QName SUBSTATION_QNAME = new QName(SCL_NS_URI, "Substation");
+
+    private static JAXBContext jaxbContext;
+
+    private final CimToSclStream cimToSclStream;
+    private final CimMemoryBudget.Reservation reservation;
+
+    public MapResponseStreamingOutput(CimToSclStream cimToSclStream) {
+        this(cimToSclStream, null);
+    }
+
+    /**
+     * @param cimToSclStream The SCL Header and the Substations to be mapped.
+     * @param reservation    The memory reserved for the conversion, released when the response is written.
+     */
+    public MapResponseStreamingOutput(CimToSclStream cimToSclStream, CimMemoryBudget.Reservation reservation) {
+        this.cimToSclStream = cimToSclStream;
+        this.reservation = reservation;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try {
+            var marshaller = getJaxbContext().createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+            var writer = XMLOutputFactory.newFactory().createXMLStreamWriter(output, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.setPrefix(CMS_PREFIX, CIM_MAPPING_SERVICE_V1_NS_URI);
+            writer.writeStartElement(CMS_PREFIX, "MapResponse", CIM_MAPPING_SERVICE_V1_NS_URI);
+            writer.writeNamespace(CMS_PREFIX, CIM_MAPPING_SERVICE_V1_NS_URI);
+
+            var scl = cimToSclStream.getScl();
+            writeSclStart(writer, scl);
+            if (scl.getHeader() != null) {
+                marshaller.marshal(new JAXBElement<>(HEADER_QNAME, THeader.class, scl.getHeader()), writer);
+            }
+            cimToSclStream.mapSubstations(tSubstation -> writeSubstation(marshaller, writer, tSubstation));
+
+            // End the SCL and the MapResponse Element.
+            writer.writeEndElement();
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+        } catch (JAXBException | XMLStreamException exp) {
+            throw new IOException("Unable to write the SCL: " + exp.getMessage(), exp);
+        } catch (UncheckedIOException exp) {
+            throw exp.getCause();
+        } finally {
+            if (reservation != null) {
+                reservation.close();
+            }
+        }
+    }
+
+    private void writeSclStart(XMLStreamWriter writer, SCL scl) throws XMLStreamException {
+        writer.setDefaultNamespace(SCL_NS_URI);
+        writer.writeStartElement(SCL_NS_URI, "SCL");
+        writer.writeDefaultNamespace(SCL_NS_URI);
+        writeAttribute(writer, "version", scl.getVersion());
+        writeAttribute(writer, "revision", scl.getRevision());
+        writeAttribute(writer, "release", String.valueOf(scl.getRelease()));
+    }
+
+    private void writeAttribute(XMLStreamWriter writer, String name, String value) throws XMLStreamException {
+        if (value != null) {
+            writer.writeAttribute(name, value);
+        }
+    }
+
+    private void writeSubstation(Marshaller marshaller, XMLStreamWriter writer, TSubstation tSubstation) {
+        try {
+            LOGGER.trace("Writing Substation {}", tSubstation.getName());
+            marshaller.marshal(new JAXBElement<>(SUBSTATION_QNAME, TSubstation.class, tSubstation), writer);
+            // Push the Substation to the client, so it doesn't wait in a buffer until the next one is mapped.
+            writer.flush();
+        } catch (JAXBException | XMLStreamException exp) {
+            throw new UncheckedIOException(new IOException("Unable to write Substation '"
+                    + tSubstation.getName() + "': " + exp.getMessage(), exp));
+        }
+    }
+
+    private static synchronized JAXBContext getJaxbContext() throws JAXBException {
+        if (jaxbContext == null) {
+            jaxbContext = JAXBContext.newInstance(SCL.class);
+        }
+        return jaxbContext;
+    }
+}
@@ -0,0 +1,126 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.CIM_MAPPING_SERVICE_V1_NS_URI;
+
+@Schema(description = "Status of a job converting CIM RDF Files to an IEC 61850 SCL File in the background.")
+@XmlRootElement(name = "JobResponse", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class JobResponse {
+    @Schema(description = "The ID of the job, used to poll the status and fetch the result.")
+    @XmlElement(name = "Id", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String id;
+
+    @Schema(description = "The status of the job.", enumeration = {"QUEUED", "RUNNING", "COMPLETED", "FAILED"})
+    @XmlElement(name = "Status", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String status;
+
+    @Schema(description = "The number of Substations found in the CIM RDF Files, known when the job is running.")
+    @XmlElement(name = "TotalSubstations", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private Integer totalSubstations;
+
+    @Schema(description = "The number of Substations already mapped.")
+    @XmlElement(name = "MappedSubstations", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private Integer mappedSubstations;
+
+    @Schema(description = "When the job was submitted (ISO-8601).")
+    @XmlElement(name = "Submitted", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String submitted;
+
+    @Schema(description = "When the job was started (ISO-8601).")
+    @XmlElement(name = "Started", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String started;
+
+    @Schema(description = "When the job was finished (ISO-8601).")
+    @XmlElement(name = "Finished", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String finished;
+
+    @Schema(description = "The error code, when the job failed.")
+    @XmlElement(name = "ErrorCode", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String errorCode;
+
+    @Schema(description = "The error message, when the job failed.")
+    @XmlElement(name = "ErrorMessage", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String errorMessage;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getTotalSubstations() {
+        return totalSubstations;
+    }
+
+    public void setTotalSubstations(Integer totalSubstations) {
+        this.totalSubstations = totalSubstations;
+    }
+
+    public Integer getMappedSubstations() {
+        return mappedSubstations;
+    }
+
+    public void setMappedSubstations(Integer mappedSubstations) {
+        this.mappedSubstations = mappedSubstations;
+    }
+
+    public String getSubmitted() {
+        return submitted;
+    }
+
+    public void setSubmitted(String submitted) {
+        this.submitted = submitted;
+    }
+
+    public String getStarted() {
+        return started;
+    }
+
+    public void setStarted(String started) {
+        this.started = started;
+    }
+
+    public String getFinished() {
+        return finished;
+    }
+
+    public void setFinished(String finished) {
+        this.finished = finished;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
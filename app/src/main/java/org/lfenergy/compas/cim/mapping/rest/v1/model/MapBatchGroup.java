@@ -0,0 +1,48 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.lfenergy.compas.cim.mapping.model.CimData;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+import java.util.List;
+
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.CIM_MAPPING_SERVICE_V1_NS_URI;
+
+@Schema(description = "Group of CIM RDF Files in a batch, converted to its own IEC 61850 SCL File.")
+@XmlType(name = "MapBatchGroupType", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class MapBatchGroup {
+    @Schema(description = "The ID of the group, returned with the result of the group.", example = "model-1")
+    @NotBlank
+    @XmlElement(name = "Id", namespace = CIM_MAPPING_SERVICE_V1_NS_URI, required = true)
+    private String id;
+
+    @Schema(description = "List of CIM RDF Files.")
+    @Valid
+    @XmlElement(name = "CimData", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private List<CimData> cimData;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public List<CimData> getCimData() {
+        return cimData;
+    }
+
+    public void setCimData(List<CimData> cimData) {
+        this.cimData = cimData;
+    }
+}
@@ -0,0 +1,36 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import java.util.List;
+
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.CIM_MAPPING_SERVICE_V1_NS_URI;
+
+@Schema(description = "Request to convert several independent groups of CIM RDF Files, each to its own IEC 61850 " +
+        "SCL File.")
+@XmlRootElement(name = "MapBatchRequest", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class MapBatchRequest {
+    @Schema(description = "List of groups of CIM RDF Files.")
+    @Valid
+    @NotEmpty
+    @XmlElement(name = "Group", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private List<MapBatchGroup> groups;
+
+    public List<MapBatchGroup> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<MapBatchGroup> groups) {
+        this.groups = groups;
+    }
+}
@@ -0,0 +1,32 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.CIM_MAPPING_SERVICE_V1_NS_URI;
+
+@Schema(description = "Response with a result per group of the batch, in the order of the groups in the request.")
+@XmlRootElement(name = "MapBatchResponse", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class MapBatchResponse {
+    @Schema(description = "The result of every group.")
+    @XmlElement(name = "Result", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private List<MapBatchResult> results = new ArrayList<>();
+
+    public List<MapBatchResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<MapBatchResult> results) {
+        this.results = results;
+    }
+}
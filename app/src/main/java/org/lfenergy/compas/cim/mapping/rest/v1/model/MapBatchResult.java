@@ -0,0 +1,68 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.CIM_MAPPING_SERVICE_V1_NS_URI;
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.SCL_NS_URI;
+
+@Schema(description = "Result of converting a single group of a batch, the SCL File or the reason it failed.")
+@XmlType(name = "MapBatchResultType", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class MapBatchResult {
+    @Schema(description = "The ID of the group.")
+    @XmlElement(name = "Id", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String id;
+
+    @Schema(description = "The SCL File created from the CIM RDF Files of the group, when the group is converted.")
+    @XmlElement(name = "SCL", namespace = SCL_NS_URI)
+    private SCL scl;
+
+    @Schema(description = "The error code, when the group failed.")
+    @XmlElement(name = "ErrorCode", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String errorCode;
+
+    @Schema(description = "The error message, when the group failed.")
+    @XmlElement(name = "ErrorMessage", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String errorMessage;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public SCL getScl() {
+        return scl;
+    }
+
+    public void setScl(SCL scl) {
+        this.scl = scl;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,64 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.CIM_MAPPING_SERVICE_V1_NS_URI;
+
+@Schema(description = "Time and memory of a method searching the CIM Model or of a type of SCL Element.")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class ProfileEntry {
+    @Schema(description = "The name of the method or the type of SCL Element.")
+    @XmlElement(name = "Name", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String name;
+
+    @Schema(description = "The number of calls of the method or the number of SCL Elements mapped.")
+    @XmlElement(name = "Count", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private long count;
+
+    @Schema(description = "The total time (ISO-8601 duration).")
+    @XmlElement(name = "Time", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String time;
+
+    @Schema(description = "The total memory allocated in bytes, 0 if the JVM can't measure it.")
+    @XmlElement(name = "AllocatedBytes", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private long allocatedBytes;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public String getTime() {
+        return time;
+    }
+
+    public void setTime(String time) {
+        this.time = time;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public void setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+}
@@ -0,0 +1,83 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.CIM_MAPPING_SERVICE_V1_NS_URI;
+
+@Schema(description = "Profile of converting CIM RDF Files to an IEC 61850 SCL File, used to find out why a model " +
+        "is slow to convert.")
+@XmlRootElement(name = "ProfileResponse", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class ProfileResponse {
+    @Schema(description = "The time it took to read the CIM RDF Files (ISO-8601 duration).")
+    @XmlElement(name = "ReadTime", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String readTime;
+
+    @Schema(description = "The time it took to map the CIM Model to SCL (ISO-8601 duration).")
+    @XmlElement(name = "MapTime", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String mapTime;
+
+    @Schema(description = "Time and memory per method searching the CIM Model, the slowest first.")
+    @XmlElement(name = "Method", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private List<ProfileEntry> methods = new ArrayList<>();
+
+    @Schema(description = "Time and memory per type of SCL Element, excluding the nested SCL Elements, " +
+            "the slowest first.")
+    @XmlElement(name = "Element", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private List<ProfileEntry> elements = new ArrayList<>();
+
+    @Schema(description = "Number of triples per CIM Class, only filled when the CIM Model is read into a " +
+            "Triple Store.")
+    @XmlElement(name = "TripleCount", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private List<TripleCount> tripleCounts = new ArrayList<>();
+
+    public String getReadTime() {
+        return readTime;
+    }
+
+    public void setReadTime(String readTime) {
+        this.readTime = readTime;
+    }
+
+    public String getMapTime() {
+        return mapTime;
+    }
+
+    public void setMapTime(String mapTime) {
+        this.mapTime = mapTime;
+    }
+
+    public List<ProfileEntry> getMethods() {
+        return methods;
+    }
+
+    public void setMethods(List<ProfileEntry> methods) {
+        this.methods = methods;
+    }
+
+    public List<ProfileEntry> getElements() {
+        return elements;
+    }
+
+    public void setElements(List<ProfileEntry> elements) {
+        this.elements = elements;
+    }
+
+    public List<TripleCount> getTripleCounts() {
+        return tripleCounts;
+    }
+
+    public void setTripleCounts(List<TripleCount> tripleCounts) {
+        this.tripleCounts = tripleCounts;
+    }
+}
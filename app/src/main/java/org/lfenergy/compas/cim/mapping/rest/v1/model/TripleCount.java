@@ -0,0 +1,40 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.CIM_MAPPING_SERVICE_V1_NS_URI;
+
+@Schema(description = "Number of triples read from the CIM RDF Files for a CIM Class.")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class TripleCount {
+    @Schema(description = "The name of the CIM Class, for instance 'Substation'.")
+    @XmlElement(name = "CimClass", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private String cimClass;
+
+    @Schema(description = "The number of triples of which the subject is of the CIM Class.")
+    @XmlElement(name = "Triples", namespace = CIM_MAPPING_SERVICE_V1_NS_URI)
+    private long triples;
+
+    public String getCimClass() {
+        return cimClass;
+    }
+
+    public void setCimClass(String cimClass) {
+        this.cimClass = cimClass;
+    }
+
+    public long getTriples() {
+        return triples;
+    }
+
+    public void setTriples(long triples) {
+        this.triples = triples;
+    }
+}
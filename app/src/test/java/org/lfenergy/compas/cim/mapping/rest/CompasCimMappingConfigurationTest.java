@@ -3,9 +3,26 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.lfenergy.compas.cim.mapping.rest;
 
+import com.powsybl.triplestore.api.TripleStoreFactory;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.runtime.configuration.MemorySize;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIf;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.cgmes.CimTripleStore;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryRegistry;
+import org.lfenergy.compas.cim.mapping.service.CimMappingJobSettings;
+import org.lfenergy.compas.cim.mapping.service.CimMappingThreadMode;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import java.math.BigInteger;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.UNSUPPORTED_THREAD_MODE_ERROR_CODE;
+import static org.mockito.Mockito.*;
 
 class CompasCimMappingConfigurationTest {
     private CompasCimMappingConfiguration configuration = new CompasCimMappingConfiguration();
@@ -14,4 +31,140 @@ class CompasCimMappingConfigurationTest {
     void createCimToSclMapper_WhenCalled_ThenObjectReturned() {
         assertNotNull(configuration.createCimToSclMapper());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createCimTripleStore_WhenCalled_ThenConfiguredImplementationReturned() {
+        var cimMappingProperties = mock(CimMappingProperties.class);
+        when(cimMappingProperties.tripleStoreImplementation()).thenReturn(TripleStoreFactory.defaultImplementation());
+
+        var cimTripleStore = configuration.createCimTripleStore(cimMappingProperties);
+
+        assertEquals(TripleStoreFactory.defaultImplementation(), cimTripleStore.getImplementation());
+    }
+
+    @Test
+    void createCimReaderMode_WhenCalled_ThenConfiguredModeReturned() {
+        var cimMappingProperties = mock(CimMappingProperties.class);
+        when(cimMappingProperties.readerMode()).thenReturn(CimReaderMode.STAX);
+
+        assertEquals(CimReaderMode.STAX, configuration.createCimReaderMode(cimMappingProperties));
+    }
+
+    @Test
+    void createCimMappingParallelism_WhenParallelismConfigured_ThenParallelMappingReturned() {
+        var cimMappingProperties = mock(CimMappingProperties.class);
+        when(cimMappingProperties.mappingParallelism()).thenReturn(4);
+
+        var cimMappingParallelism = configuration.createCimMappingParallelism(cimMappingProperties);
+
+        assertTrue(cimMappingParallelism.isParallel());
+        assertEquals(4, cimMappingParallelism.getPool().getParallelism());
+        configuration.closeCimMappingParallelism(cimMappingParallelism);
+        assertTrue(cimMappingParallelism.getPool().isShutdown());
+    }
+
+    @Test
+    void createCimMappingParallelism_WhenParallelismIsOne_ThenSequentialMappingReturned() {
+        var cimMappingProperties = mock(CimMappingProperties.class);
+        when(cimMappingProperties.mappingParallelism()).thenReturn(1);
+
+        var cimMappingParallelism = configuration.createCimMappingParallelism(cimMappingProperties);
+
+        assertFalse(cimMappingParallelism.isParallel());
+        assertNull(cimMappingParallelism.getPool());
+    }
+
+    @Test
+    void createCimBoundaryCache_WhenMaxSizeIsZero_ThenDisabledCacheReturned() {
+        var cimMappingProperties = mock(CimMappingProperties.class);
+        when(cimMappingProperties.boundaryCacheMaxSize()).thenReturn(new MemorySize(BigInteger.ZERO));
+
+        assertFalse(configuration.createCimBoundaryCache(cimMappingProperties).isEnabled());
+    }
+
+    @Test
+    void createCimMappingResultCache_WhenMaxEntriesConfigured_ThenEnabledCacheReturned() {
+        var cimMappingProperties = mock(CimMappingProperties.class);
+        when(cimMappingProperties.cacheMaxEntries()).thenReturn(10);
+        when(cimMappingProperties.cacheTtl()).thenReturn(Duration.ofMinutes(10));
+
+        assertTrue(configuration.createCimMappingResultCache(cimMappingProperties).isEnabled());
+    }
+
+    @Test
+    void createCimMappingWorkerPool_WhenCalled_ThenPoolReturned() {
+        var cimMappingProperties = mock(CimMappingProperties.class);
+        when(cimMappingProperties.asyncThreads()).thenReturn(2);
+        when(cimMappingProperties.asyncQueueDepth()).thenReturn(10);
+        when(cimMappingProperties.workerThreadMode()).thenReturn(CimMappingThreadMode.PLATFORM);
+
+        var cimMappingWorkerPool = configuration.createCimMappingWorkerPool(cimMappingProperties);
+
+        assertEquals(CimMappingThreadMode.PLATFORM, cimMappingWorkerPool.getThreadMode());
+        configuration.closeCimMappingWorkerPool(cimMappingWorkerPool);
+    }
+
+    @Test
+    void createCimMappingJobSettings_WhenCalled_ThenConfiguredSettingsReturned() {
+        var cimMappingProperties = mock(CimMappingProperties.class);
+        when(cimMappingProperties.jobsThreads()).thenReturn(2);
+        when(cimMappingProperties.jobsQueueDepth()).thenReturn(10);
+        when(cimMappingProperties.jobsResultTtl()).thenReturn(Duration.ofHours(1));
+        when(cimMappingProperties.jobsMaxResults()).thenReturn(20);
+        when(cimMappingProperties.workerThreadMode()).thenReturn(CimMappingThreadMode.PLATFORM);
+
+        assertEquals(new CimMappingJobSettings(2, 10, Duration.ofHours(1), 20, CimMappingThreadMode.PLATFORM),
+                configuration.createCimMappingJobSettings(cimMappingProperties));
+    }
+
+    @Test
+    void checkWorkerThreadMode_WhenPlatformConfigured_ThenStartupContinues() {
+        var cimMappingProperties = mock(CimMappingProperties.class);
+        when(cimMappingProperties.workerThreadMode()).thenReturn(CimMappingThreadMode.PLATFORM);
+
+        assertDoesNotThrow(() -> configuration.checkWorkerThreadMode(new StartupEvent(), cimMappingProperties));
+    }
+
+    @Test
+    @DisabledIf("virtualThreadsSupported")
+    void checkWorkerThreadMode_WhenVirtualConfiguredButNotSupported_ThenStartupFails() {
+        var cimMappingProperties = mock(CimMappingProperties.class);
+        when(cimMappingProperties.workerThreadMode()).thenReturn(CimMappingThreadMode.VIRTUAL);
+        var event = new StartupEvent();
+
+        var exception = assertThrows(CompasCimMappingException.class,
+                () -> configuration.checkWorkerThreadMode(event, cimMappingProperties));
+        assertEquals(UNSUPPORTED_THREAD_MODE_ERROR_CODE, exception.getErrorCode());
+    }
+
+    @Test
+    @EnabledIf("virtualThreadsSupported")
+    void checkWorkerThreadMode_WhenVirtualConfiguredAndSupported_ThenStartupContinues() {
+        var cimMappingProperties = mock(CimMappingProperties.class);
+        when(cimMappingProperties.workerThreadMode()).thenReturn(CimMappingThreadMode.VIRTUAL);
+
+        assertDoesNotThrow(() -> configuration.checkWorkerThreadMode(new StartupEvent(), cimMappingProperties));
+    }
+
+    @Test
+    void warmUpCimQueries_WhenCalled_ThenRegistryWarmedUpForConfiguredTripleStore() {
+        var cimQueryRegistry = mock(CimQueryRegistry.class);
+
+        configuration.warmUpCimQueries(new StartupEvent(), cimQueryRegistry, CimTripleStore.defaultTripleStore());
+
+        verify(cimQueryRegistry, times(1)).warmUp(TripleStoreFactory.defaultImplementation());
+    }
+
+    @Test
+    void logCimQueryStatistics_WhenCalled_ThenStatisticsLogged() {
+        var cimQueryRegistry = mock(CimQueryRegistry.class);
+
+        configuration.logCimQueryStatistics(new ShutdownEvent(), cimQueryRegistry);
+
+        verify(cimQueryRegistry, times(1)).logStatistics();
+    }
+
+    static boolean virtualThreadsSupported() {
+        return CimMappingThreadMode.VIRTUAL.isSupported();
+    }
+}
@@ -0,0 +1,34 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingStage;
+
+import javax.inject.Inject;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+
+@QuarkusTest
+class MetricsTest {
+    @Inject
+    CimMappingMetrics cimMappingMetrics;
+
+    @Test
+    void testMetricsEndpoint() {
+        cimMappingMetrics.recordStage(CimMappingStage.READ_MODEL, 1_000_000L);
+        cimMappingMetrics.countInputTriples(10);
+
+        given()
+                .when().get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("cim_mapping_stage_seconds_count{stage=\"read_model\""))
+                .body(containsString("cim_mapping_stage_seconds_bucket{stage=\"map_to_scl\""))
+                .body(containsString("cim_mapping_input_triples_total"));
+    }
+}
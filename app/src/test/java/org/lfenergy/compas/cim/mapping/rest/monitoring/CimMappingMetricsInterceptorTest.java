@@ -0,0 +1,64 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.monitoring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingStage;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CimMappingMetricsInterceptorTest {
+    @Mock
+    private CimMappingMetrics cimMappingMetrics;
+
+    @InjectMocks
+    private CimMappingMetricsInterceptor interceptor;
+
+    @Test
+    void aroundReadFrom_WhenCalled_ThenUnmarshallingRecorded() throws IOException {
+        var context = mock(ReaderInterceptorContext.class);
+        var entity = new Object();
+        when(context.proceed()).thenReturn(entity);
+
+        assertEquals(entity, interceptor.aroundReadFrom(context));
+        verify(cimMappingMetrics, times(1)).recordStage(eq(CimMappingStage.UNMARSHAL_REQUEST), anyLong());
+    }
+
+    @Test
+    void aroundWriteTo_WhenEntityMarshalled_ThenMarshallingRecorded() throws IOException {
+        var context = mock(WriterInterceptorContext.class);
+        when(context.getEntity()).thenReturn(new Object());
+
+        interceptor.aroundWriteTo(context);
+
+        verify(context, times(1)).proceed();
+        verify(cimMappingMetrics, times(1)).recordStage(eq(CimMappingStage.MARSHAL_RESPONSE), anyLong());
+    }
+
+    @Test
+    void aroundWriteTo_WhenEntityStreamed_ThenNothingRecorded() throws IOException {
+        var context = mock(WriterInterceptorContext.class);
+        when(context.getEntity()).thenReturn((StreamingOutput) output -> {
+        });
+
+        interceptor.aroundWriteTo(context);
+
+        verify(context, times(1)).proceed();
+        verifyNoInteractions(cimMappingMetrics);
+    }
+}
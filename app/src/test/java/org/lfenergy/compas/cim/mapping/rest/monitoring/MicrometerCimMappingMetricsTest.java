@@ -0,0 +1,62 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingStage;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lfenergy.compas.cim.mapping.rest.monitoring.MicrometerCimMappingMetrics.*;
+
+class MicrometerCimMappingMetricsTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MicrometerCimMappingMetrics metrics = new MicrometerCimMappingMetrics(meterRegistry, true);
+
+    @Test
+    void constructor_WhenCalled_ThenTimerRegisteredForEveryStage() {
+        for (var stage : CimMappingStage.values()) {
+            assertNotNull(meterRegistry.find(STAGE_TIMER).tag("stage", stage.name().toLowerCase()).timer());
+        }
+        assertTrue(metrics.isEnabled());
+        assertTrue(metrics.isCountingInputTriples());
+    }
+
+    @Test
+    void isCountingInputTriples_WhenNotConfigured_ThenFalseReturned() {
+        assertFalse(new MicrometerCimMappingMetrics(new SimpleMeterRegistry(), false).isCountingInputTriples());
+    }
+
+    @Test
+    void recordStage_WhenCalled_ThenTimeRecordedForStage() {
+        metrics.recordStage(CimMappingStage.MAP_TO_SCL, 2_000_000L);
+
+        var timer = meterRegistry.get(STAGE_TIMER).tag("stage", "map_to_scl").timer();
+        assertEquals(1, timer.count());
+        assertEquals(2.0, timer.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(0, meterRegistry.get(STAGE_TIMER).tag("stage", "read_model").timer().count());
+    }
+
+    @Test
+    void recordQuery_WhenCalledTwiceForSameQuery_ThenSameTimerUsed() {
+        metrics.recordQuery("SWITCH", 1_000L);
+        metrics.recordQuery("SWITCH", 1_000L);
+        metrics.recordQuery("BAY", 1_000L);
+
+        assertEquals(2, meterRegistry.get(QUERY_TIMER).tag("query", "switch").timer().count());
+        assertEquals(1, meterRegistry.get(QUERY_TIMER).tag("query", "bay").timer().count());
+    }
+
+    @Test
+    void countInputTriplesAndOutputElements_WhenCalled_ThenCountersIncremented() {
+        metrics.countInputTriples(100);
+        metrics.countInputTriples(50);
+        metrics.countOutputElements(7);
+
+        assertEquals(150.0, meterRegistry.get(INPUT_TRIPLES_COUNTER).counter().count());
+        assertEquals(7.0, meterRegistry.get(OUTPUT_ELEMENTS_COUNTER).counter().count());
+    }
+}
@@ -0,0 +1,82 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.monitoring;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingStage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lfenergy.compas.cim.mapping.rest.monitoring.OpenTelemetryCimMappingTracing.*;
+
+class OpenTelemetryCimMappingTracingTest {
+    private final List<SpanData> spans = new CopyOnWriteArrayList<>();
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(new CollectingSpanExporter()))
+            .build();
+    private final OpenTelemetryCimMappingTracing tracing =
+            new OpenTelemetryCimMappingTracing(tracerProvider.get("test"));
+
+    @AfterEach
+    void shutdown() {
+        tracerProvider.shutdown();
+    }
+
+    @Test
+    void startQuery_WhenStartedInStage_ThenQuerySpanIsChildWithRows() {
+        try (var stage = tracing.startStage(CimMappingStage.MAP_TO_SCL)) {
+            try (var query = tracing.startQuery("SWITCH")) {
+                query.setRows(10);
+                query.setFilteredRows(3);
+            }
+        }
+
+        assertEquals(2, spans.size());
+        var querySpan = spans.get(0);
+        var stageSpan = spans.get(1);
+        assertEquals("cim map_to_scl", stageSpan.getName());
+        assertEquals("map_to_scl", stageSpan.getAttributes().get(STAGE_ATTRIBUTE));
+        assertEquals("cim query switch", querySpan.getName());
+        assertEquals(stageSpan.getSpanId(), querySpan.getParentSpanId());
+        assertEquals("SWITCH", querySpan.getAttributes().get(QUERY_ATTRIBUTE));
+        assertEquals(10L, querySpan.getAttributes().get(ROWS_ATTRIBUTE));
+        assertEquals(3L, querySpan.getAttributes().get(FILTERED_ROWS_ATTRIBUTE));
+    }
+
+    @Test
+    void startStage_WhenClosed_ThenNextSpanIsNoChild() {
+        tracing.startStage(CimMappingStage.READ_MODEL).close();
+        tracing.startStage(CimMappingStage.MAP_TO_SCL).close();
+
+        assertEquals(2, spans.size());
+        assertFalse(spans.get(1).getParentSpanContext().isValid());
+    }
+
+    private class CollectingSpanExporter implements SpanExporter {
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spanData) {
+            spans.addAll(spanData);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
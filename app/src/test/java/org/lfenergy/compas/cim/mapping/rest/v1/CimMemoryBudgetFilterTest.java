@@ -0,0 +1,55 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.cim.mapping.rest.CimMappingProperties;
+import org.lfenergy.compas.cim.mapping.service.CimMemoryBudget;
+
+import javax.ws.rs.ServiceUnavailableException;
+import javax.ws.rs.container.ContainerRequestContext;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CimMemoryBudgetFilterTest {
+    private final CimMemoryBudget cimMemoryBudget = new CimMemoryBudget(1000, 10, Duration.ZERO);
+    private final CimMappingProperties cimMappingProperties = mock(CimMappingProperties.class);
+    private final CimMemoryBudgetFilter filter = new CimMemoryBudgetFilter(cimMemoryBudget, cimMappingProperties);
+
+    @Test
+    void filter_WhenContentLengthFitsBudget_ThenRequestPassed() {
+        try (var ignored = cimMemoryBudget.reserve(50)) {
+            assertDoesNotThrow(() -> filter.filter(createRequest(50)));
+        }
+    }
+
+    @Test
+    void filter_WhenContentLengthDoesntFitBudget_ThenServiceUnavailableWithRetryAfter() {
+        when(cimMappingProperties.memoryRetryAfter()).thenReturn(Duration.ofSeconds(30));
+        var request = createRequest(51);
+
+        try (var ignored = cimMemoryBudget.reserve(50)) {
+            var exception = assertThrows(ServiceUnavailableException.class, () -> filter.filter(request));
+
+            assertEquals("30", exception.getResponse().getHeaderString("Retry-After"));
+        }
+        assertEquals(0, cimMemoryBudget.getReservedBytes());
+    }
+
+    @Test
+    void filter_WhenContentLengthUnknown_ThenRequestPassed() {
+        try (var ignored = cimMemoryBudget.reserve(100)) {
+            assertDoesNotThrow(() -> filter.filter(createRequest(-1)));
+        }
+    }
+
+    private ContainerRequestContext createRequest(int contentLength) {
+        var request = mock(ContainerRequestContext.class);
+        when(request.getLength()).thenReturn(contentLength);
+        return request;
+    }
+}
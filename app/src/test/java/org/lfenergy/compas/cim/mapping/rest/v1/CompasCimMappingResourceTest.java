@@ -3,6 +3,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.lfenergy.compas.cim.mapping.rest.v1;
 
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import io.quarkus.test.common.http.TestHTTPEndpoint;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectMock;
@@ -11,23 +12,56 @@ import io.quarkus.test.security.jwt.Claim;
 import io.quarkus.test.security.jwt.JwtSecurity;
 import io.restassured.http.ContentType;
 import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.cim.mapping.cgmes.CimFileDataSource;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.cim.mapping.mapper.CimMappingProfile;
 import org.lfenergy.compas.cim.mapping.model.CimData;
+import org.lfenergy.compas.cim.mapping.rest.CimAsyncPool;
+import org.lfenergy.compas.cim.mapping.rest.v1.model.MapBatchGroup;
+import org.lfenergy.compas.cim.mapping.rest.v1.model.MapBatchRequest;
 import org.lfenergy.compas.cim.mapping.rest.v1.model.MapRequest;
+import org.lfenergy.compas.cim.mapping.service.CimMappingBatchGroup;
+import org.lfenergy.compas.cim.mapping.service.CimMappingBatchResult;
+import org.lfenergy.compas.cim.mapping.service.CimMappingJob;
+import org.lfenergy.compas.cim.mapping.service.CimMappingJobStatus;
+import org.lfenergy.compas.cim.mapping.service.CimMappingWorkerPool;
+import org.lfenergy.compas.cim.mapping.service.CimMemoryBudget;
+import org.lfenergy.compas.cim.mapping.service.CimToSclStream;
+import org.lfenergy.compas.cim.mapping.service.CompasCimMappingBatchService;
+import org.lfenergy.compas.cim.mapping.service.CompasCimMappingJobService;
 import org.lfenergy.compas.cim.mapping.service.CompasCimMappingService;
 import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
 
+import javax.inject.Inject;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.path.xml.config.XmlPathConfig.xmlPathConfig;
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.lfenergy.compas.cim.mapping.CimMappingConstants.CIM_MAPPING_SERVICE_V1_NS_URI;
 import static org.lfenergy.compas.cim.mapping.CimMappingConstants.SCL_NS_URI;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.JOB_QUEUE_FULL_ERROR_CODE;
 import static org.mockito.Mockito.*;
 
 @QuarkusTest
@@ -38,8 +72,19 @@ import static org.mockito.Mockito.*;
         @Claim(key = "name", value = "Test User")
 })
 class CompasCimMappingResourceTest {
+    private static final String MINIGRID_EQ_FILE_NAME = "MiniGridTestConfiguration_BC_EQ_v3.0.0.xml";
+
     @InjectMock
     private CompasCimMappingService compasCimMappingService;
+    @InjectMock
+    private CompasCimMappingJobService compasCimMappingJobService;
+    @InjectMock
+    private CompasCimMappingBatchService compasCimMappingBatchService;
+    @InjectMock
+    @CimAsyncPool
+    private CimMappingWorkerPool cimMappingWorkerPool;
+    @Inject
+    CimMemoryBudget cimMemoryBudget;
 
     @Test
     void mapCimToScl_WhenCalled_ThenCorrectMessageIsRetrieved() throws IOException {
@@ -72,6 +117,525 @@ class CompasCimMappingResourceTest {
         verify(compasCimMappingService, times(1)).map(any(), eq("Test User"));
     }
 
+    @Test
+    void mapCimFilesToScl_WhenCalledWithMultipart_ThenCorrectMessageIsRetrieved() throws IOException {
+        var scl = new SCL();
+        scl.setVersion("2007");
+        when(compasCimMappingService.mapFiles(any(ReadOnlyDataSource.class), eq("Test User"))).thenAnswer(invocation -> {
+            ReadOnlyDataSource dataSource = invocation.getArgument(0);
+            assertEquals(Set.of(MINIGRID_EQ_FILE_NAME), dataSource.listNames(".*"));
+            return scl;
+        });
+
+        var response = given()
+                .multiPart("file", MINIGRID_EQ_FILE_NAME, readFile().getBytes(StandardCharsets.UTF_8), "application/xml")
+                .when()
+                .post("/map")
+                .then()
+                .statusCode(200)
+                .extract()
+                .response();
+
+        var xmlPath = response.xmlPath()
+                .using(xmlPathConfig().declaredNamespace("scl", SCL_NS_URI)
+                        .declaredNamespace("cms", CIM_MAPPING_SERVICE_V1_NS_URI));
+        assertEquals("2007", xmlPath.getString("cms:MapResponse.scl:SCL.@version"));
+        verify(compasCimMappingService, times(1)).mapFiles(any(ReadOnlyDataSource.class), eq("Test User"));
+    }
+
+    @Test
+    void mapCimFilesToScl_WhenCalledWithZipArchive_ThenEntriesArePassed() throws IOException {
+        var archive = new ByteArrayOutputStream();
+        try (var zipStream = new ZipOutputStream(archive)) {
+            zipStream.putNextEntry(new ZipEntry(MINIGRID_EQ_FILE_NAME));
+            zipStream.write(readFile().getBytes(StandardCharsets.UTF_8));
+        }
+        when(compasCimMappingService.mapFiles(any(ReadOnlyDataSource.class), eq("Test User"))).thenAnswer(invocation -> {
+            ReadOnlyDataSource dataSource = invocation.getArgument(0);
+            assertEquals(Set.of(MINIGRID_EQ_FILE_NAME), dataSource.listNames(".*"));
+            return new SCL();
+        });
+
+        given()
+                .multiPart("file", "MiniGrid.zip", archive.toByteArray(), "application/zip")
+                .when()
+                .post("/map")
+                .then()
+                .statusCode(200);
+
+        verify(compasCimMappingService, times(1)).mapFiles(any(ReadOnlyDataSource.class), eq("Test User"));
+    }
+
+    @Test
+    void streamMapCimToScl_WhenCalled_ThenSubstationsAreWritten() throws IOException {
+        var cimDate = new CimData();
+        cimDate.setName(MINIGRID_EQ_FILE_NAME);
+        cimDate.setRdfData(readFile());
+        var request = new MapRequest();
+        request.setCimData(List.of(cimDate));
+        var cimToSclStream = createCimToSclStream();
+        when(compasCimMappingService.stream(any(), eq("Test User"))).thenReturn(cimToSclStream);
+
+        var response = given()
+                .contentType(ContentType.XML)
+                .body(request)
+                .when()
+                .post("/map/stream")
+                .then()
+                .statusCode(200)
+                .extract()
+                .response();
+
+        var xmlPath = response.xmlPath()
+                .using(xmlPathConfig().declaredNamespace("scl", SCL_NS_URI)
+                        .declaredNamespace("cms", CIM_MAPPING_SERVICE_V1_NS_URI));
+        assertEquals("2007", xmlPath.getString("cms:MapResponse.scl:SCL.@version"));
+        assertEquals("S1", xmlPath.getString("cms:MapResponse.scl:SCL.scl:Substation.@name"));
+        verify(compasCimMappingService, times(1)).stream(any(), eq("Test User"));
+    }
+
+    @Test
+    void streamMapCimFilesToScl_WhenCalledWithMultipart_ThenSubstationsAreWritten() throws IOException {
+        var cimToSclStream = createCimToSclStream();
+        when(compasCimMappingService.streamFiles(any(ReadOnlyDataSource.class), eq("Test User"))).thenAnswer(invocation -> {
+            ReadOnlyDataSource dataSource = invocation.getArgument(0);
+            assertEquals(Set.of(MINIGRID_EQ_FILE_NAME), dataSource.listNames(".*"));
+            return cimToSclStream;
+        });
+
+        var response = given()
+                .multiPart("file", MINIGRID_EQ_FILE_NAME, readFile().getBytes(StandardCharsets.UTF_8), "application/xml")
+                .when()
+                .post("/map/stream")
+                .then()
+                .statusCode(200)
+                .extract()
+                .response();
+
+        var xmlPath = response.xmlPath()
+                .using(xmlPathConfig().declaredNamespace("scl", SCL_NS_URI)
+                        .declaredNamespace("cms", CIM_MAPPING_SERVICE_V1_NS_URI));
+        assertEquals("S1", xmlPath.getString("cms:MapResponse.scl:SCL.scl:Substation.@name"));
+        verify(compasCimMappingService, times(1)).streamFiles(any(ReadOnlyDataSource.class), eq("Test User"));
+    }
+
+    @Test
+    void mapCimFilesToScl_WhenCalledWithInvalidFileName_ThenBadRequestReturned() {
+        given()
+                .multiPart("file", "invalid.txt", new byte[0], "application/xml")
+                .when()
+                .post("/map")
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(compasCimMappingService);
+    }
+
+    @Test
+    void mapBatch_WhenCalled_ThenResultPerGroupStreamed() throws IOException {
+        var scl = new SCL();
+        scl.setVersion("2007");
+        doAnswer(invocation -> {
+            List<CimMappingBatchGroup> groups = invocation.getArgument(0);
+            Consumer<CimMappingBatchResult> consumer = invocation.getArgument(2);
+            assertEquals(List.of("model-1", "model-2"), groups.stream().map(CimMappingBatchGroup::id).toList());
+            consumer.accept(new CimMappingBatchResult("model-1", scl, null, null));
+            consumer.accept(new CimMappingBatchResult("model-2", scl, null, null));
+            return null;
+        }).when(compasCimMappingBatchService).mapBatch(any(), eq("Test User"), any());
+
+        var request = new MapBatchRequest();
+        request.setGroups(List.of(createMapBatchGroup("model-1"), createMapBatchGroup("model-2")));
+        var response = given()
+                .contentType(ContentType.XML)
+                .body(request)
+                .when()
+                .post("/map-batch")
+                .then()
+                .statusCode(200)
+                .extract()
+                .response();
+
+        var xmlPath = response.xmlPath()
+                .using(xmlPathConfig().declaredNamespace("scl", SCL_NS_URI)
+                        .declaredNamespace("cms", CIM_MAPPING_SERVICE_V1_NS_URI));
+        assertEquals("model-1", xmlPath.getString("cms:MapBatchResponse.cms:Result[0].cms:Id"));
+        assertEquals("model-2", xmlPath.getString("cms:MapBatchResponse.cms:Result[1].cms:Id"));
+        assertEquals("2007", xmlPath.getString("cms:MapBatchResponse.cms:Result[1].scl:SCL.@version"));
+        verifyNoInteractions(compasCimMappingService);
+    }
+
+    @Test
+    void mapBatch_WhenNoGroups_ThenBadRequestReturned() {
+        given()
+                .contentType(ContentType.XML)
+                .body(new MapBatchRequest())
+                .when()
+                .post("/map-batch")
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(compasCimMappingBatchService);
+    }
+
+    @Test
+    void mapBatch_WhenMemoryBudgetFull_ThenServiceUnavailableBeforeBodyRead() throws IOException {
+        var request = new MapBatchRequest();
+        request.setGroups(List.of(createMapBatchGroup("model-1")));
+
+        try (var ignored = cimMemoryBudget.reserve(Long.MAX_VALUE)) {
+            given()
+                    .contentType(ContentType.XML)
+                    .body(request)
+                    .when()
+                    .post("/map-batch")
+                    .then()
+                    .statusCode(503)
+                    .header("Retry-After", "30");
+        }
+
+        verifyNoInteractions(compasCimMappingBatchService);
+    }
+
+    @Test
+    void mapAsync_WhenCalled_ThenMappedOnWorkerPool() throws IOException {
+        var cimDate = new CimData();
+        cimDate.setName(MINIGRID_EQ_FILE_NAME);
+        cimDate.setRdfData(readFile());
+        var request = new MapRequest();
+        request.setCimData(List.of(cimDate));
+        var scl = new SCL();
+        scl.setVersion("2007");
+        when(compasCimMappingService.map(any(), eq("Test User"))).thenReturn(scl);
+        when(cimMappingWorkerPool.supply(any())).thenAnswer(invocation -> {
+            Supplier<?> task = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(task.get());
+        });
+
+        var response = given()
+                .contentType(ContentType.XML)
+                .body(request)
+                .when()
+                .post("/map/async")
+                .then()
+                .statusCode(200)
+                .extract()
+                .response();
+
+        var xmlPath = response.xmlPath()
+                .using(xmlPathConfig().declaredNamespace("scl", SCL_NS_URI)
+                        .declaredNamespace("cms", CIM_MAPPING_SERVICE_V1_NS_URI));
+        assertEquals("2007", xmlPath.getString("cms:MapResponse.scl:SCL.@version"));
+        verify(cimMappingWorkerPool, times(1)).supply(any());
+    }
+
+    @Test
+    void mapFilesAsync_WhenWorkerPoolSaturated_ThenServiceUnavailableReturned() throws IOException {
+        when(cimMappingWorkerPool.supply(any())).thenThrow(new RejectedExecutionException("Saturated"));
+
+        given()
+                .multiPart("file", MINIGRID_EQ_FILE_NAME, readFile().getBytes(StandardCharsets.UTF_8), "application/xml")
+                .when()
+                .post("/map/async")
+                .then()
+                .statusCode(503)
+                .header("Retry-After", "10");
+
+        verifyNoInteractions(compasCimMappingService);
+    }
+
+    @Test
+    void mapCimToScl_WhenMemoryBudgetFull_ThenServiceUnavailableWithRetryAfterReturned() throws IOException {
+        var request = createMapRequest();
+
+        // Reserve the complete budget, as if a very large conversion is running.
+        try (var ignored = cimMemoryBudget.reserve(Long.MAX_VALUE)) {
+            given()
+                    .contentType(ContentType.XML)
+                    .body(request)
+                    .when()
+                    .post("/map")
+                    .then()
+                    .statusCode(503)
+                    .header("Retry-After", "30");
+        }
+
+        verifyNoInteractions(compasCimMappingService);
+        assertEquals(0, cimMemoryBudget.getReservedBytes());
+    }
+
+    @Test
+    void mapFilesAsync_WhenMemoryBudgetFull_ThenServiceUnavailableReturned() throws IOException {
+        // The request is rejected before its body is read, otherwise the memory is reserved on the worker pool.
+        when(cimMappingWorkerPool.supply(any())).thenAnswer(invocation -> {
+            Supplier<?> task = invocation.getArgument(0);
+            return CompletableFuture.supplyAsync(task);
+        });
+
+        try (var ignored = cimMemoryBudget.reserve(Long.MAX_VALUE)) {
+            given()
+                    .multiPart("file", MINIGRID_EQ_FILE_NAME, readFile().getBytes(StandardCharsets.UTF_8), "application/xml")
+                    .when()
+                    .post("/map/async")
+                    .then()
+                    .statusCode(503)
+                    .header("Retry-After", "30");
+        }
+
+        verifyNoInteractions(compasCimMappingService);
+    }
+
+    @Test
+    void mapCimToScl_WhenMapped_ThenReservedMemoryReleased() throws IOException {
+        when(compasCimMappingService.map(any(), eq("Test User"))).thenAnswer(invocation -> {
+            assertTrue(cimMemoryBudget.getReservedBytes() > 0);
+            return new SCL();
+        });
+
+        given()
+                .contentType(ContentType.XML)
+                .body(createMapRequest())
+                .when()
+                .post("/map")
+                .then()
+                .statusCode(200);
+
+        assertEquals(0, cimMemoryBudget.getReservedBytes());
+    }
+
+    @Test
+    void submitJob_WhenCalled_ThenJobAcceptedWithLocation() throws IOException {
+        var cimDate = new CimData();
+        cimDate.setName(MINIGRID_EQ_FILE_NAME);
+        cimDate.setRdfData(readFile());
+        var request = new MapRequest();
+        request.setCimData(List.of(cimDate));
+        var job = createJob("Test User", CimMappingJobStatus.QUEUED);
+        when(compasCimMappingJobService.submit(any(CimFileDataSource.class), eq("Test User"))).thenAnswer(invocation -> {
+            CimFileDataSource dataSource = invocation.getArgument(0);
+            assertEquals(Set.of(MINIGRID_EQ_FILE_NAME), dataSource.listNames(".*"));
+            return job;
+        });
+
+        var response = given()
+                .contentType(ContentType.XML)
+                .body(request)
+                .when()
+                .post("/jobs")
+                .then()
+                .statusCode(202)
+                .extract()
+                .response();
+
+        assertTrue(response.header("Location").endsWith("/cim/v1/jobs/job-1"));
+        var xmlPath = response.xmlPath()
+                .using(xmlPathConfig().declaredNamespace("cms", CIM_MAPPING_SERVICE_V1_NS_URI));
+        assertEquals("job-1", xmlPath.getString("cms:JobResponse.cms:Id"));
+        assertEquals("QUEUED", xmlPath.getString("cms:JobResponse.cms:Status"));
+    }
+
+    @Test
+    void submitJobFiles_WhenQueueFull_ThenServiceUnavailableReturned() throws IOException {
+        when(compasCimMappingJobService.submit(any(CimFileDataSource.class), eq("Test User")))
+                .thenThrow(new CompasCimMappingException(JOB_QUEUE_FULL_ERROR_CODE, "Too many mapping jobs"));
+
+        given()
+                .multiPart("file", MINIGRID_EQ_FILE_NAME, readFile().getBytes(StandardCharsets.UTF_8), "application/xml")
+                .when()
+                .post("/jobs")
+                .then()
+                .statusCode(503);
+    }
+
+    @Test
+    @TestSecurity(user = "test-mapper")
+    @JwtSecurity(claims = {})
+    void submitJob_WhenNoUsername_ThenForbiddenReturned() throws IOException {
+        var cimDate = new CimData();
+        cimDate.setName(MINIGRID_EQ_FILE_NAME);
+        cimDate.setRdfData(readFile());
+        var request = new MapRequest();
+        request.setCimData(List.of(cimDate));
+
+        given()
+                .contentType(ContentType.XML)
+                .body(request)
+                .when()
+                .post("/jobs")
+                .then()
+                .statusCode(403);
+
+        verifyNoInteractions(compasCimMappingJobService);
+    }
+
+    @Test
+    void getJob_WhenJobRunning_ThenProgressReturned() {
+        var job = createJob("Test User", CimMappingJobStatus.RUNNING);
+        when(job.getTotalSubstations()).thenReturn(4);
+        when(job.getMappedSubstations()).thenReturn(1);
+        when(compasCimMappingJobService.getJob("job-1")).thenReturn(Optional.of(job));
+
+        var response = given()
+                .when()
+                .get("/jobs/job-1")
+                .then()
+                .statusCode(200)
+                .extract()
+                .response();
+
+        var xmlPath = response.xmlPath()
+                .using(xmlPathConfig().declaredNamespace("cms", CIM_MAPPING_SERVICE_V1_NS_URI));
+        assertEquals("RUNNING", xmlPath.getString("cms:JobResponse.cms:Status"));
+        assertEquals("4", xmlPath.getString("cms:JobResponse.cms:TotalSubstations"));
+        assertEquals("1", xmlPath.getString("cms:JobResponse.cms:MappedSubstations"));
+    }
+
+    @Test
+    void getJob_WhenJobOfOtherUser_ThenNotFoundReturned() {
+        var job = createJob("Other User", CimMappingJobStatus.RUNNING);
+        when(compasCimMappingJobService.getJob("job-1")).thenReturn(Optional.of(job));
+
+        given()
+                .when()
+                .get("/jobs/job-1")
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    @TestSecurity(user = "test-mapper")
+    @JwtSecurity(claims = {})
+    void getJob_WhenNoUsername_ThenForbiddenReturned() {
+        var job = createJob(null, CimMappingJobStatus.RUNNING);
+        when(compasCimMappingJobService.getJob("job-1")).thenReturn(Optional.of(job));
+
+        given()
+                .when()
+                .get("/jobs/job-1")
+                .then()
+                .statusCode(403);
+    }
+
+    @Test
+    void getJobResult_WhenJobCompleted_ThenSclReturned() {
+        var scl = new SCL();
+        scl.setVersion("2007");
+        var job = createJob("Test User", CimMappingJobStatus.COMPLETED);
+        when(job.getScl()).thenReturn(scl);
+        when(compasCimMappingJobService.getJob("job-1")).thenReturn(Optional.of(job));
+
+        var response = given()
+                .when()
+                .get("/jobs/job-1/result")
+                .then()
+                .statusCode(200)
+                .extract()
+                .response();
+
+        var xmlPath = response.xmlPath()
+                .using(xmlPathConfig().declaredNamespace("scl", SCL_NS_URI)
+                        .declaredNamespace("cms", CIM_MAPPING_SERVICE_V1_NS_URI));
+        assertEquals("2007", xmlPath.getString("cms:MapResponse.scl:SCL.@version"));
+    }
+
+    @Test
+    void getJobResult_WhenJobNotCompleted_ThenConflictReturned() {
+        var job = createJob("Test User", CimMappingJobStatus.RUNNING);
+        when(compasCimMappingJobService.getJob("job-1")).thenReturn(Optional.of(job));
+
+        given()
+                .when()
+                .get("/jobs/job-1/result")
+                .then()
+                .statusCode(409);
+    }
+
+    @Test
+    void profile_WhenCalled_ThenSlowestMethodsAndElementsFirst() throws IOException {
+        var profile = mock(CimMappingProfile.class);
+        when(profile.getReadTime()).thenReturn(Duration.ofMillis(1500));
+        when(profile.getMapTime()).thenReturn(Duration.ofMillis(250));
+        when(profile.getMethods()).thenReturn(orderedMap(
+                "getSubstations", new CimMappingProfile.Entry(1, 1_000, 100),
+                "getSwitches", new CimMappingProfile.Entry(12, 5_000, 800)));
+        when(profile.getElements()).thenReturn(orderedMap(
+                "Substation", new CimMappingProfile.Entry(1, 2_000, 200),
+                "Bay", new CimMappingProfile.Entry(6, 3_000, 300)));
+        when(profile.getTriplesByClass()).thenReturn(Map.of("Substation", 20L));
+        when(compasCimMappingService.profile(any())).thenReturn(profile);
+
+        var response = given()
+                .contentType(ContentType.XML)
+                .body(createMapRequest())
+                .when()
+                .post("/profile")
+                .then()
+                .statusCode(200)
+                .extract()
+                .response();
+
+        var xmlPath = response.xmlPath()
+                .using(xmlPathConfig().declaredNamespace("cms", CIM_MAPPING_SERVICE_V1_NS_URI));
+        assertEquals("PT1.5S", xmlPath.getString("cms:ProfileResponse.cms:ReadTime"));
+        assertEquals("PT0.25S", xmlPath.getString("cms:ProfileResponse.cms:MapTime"));
+        assertEquals("getSwitches", xmlPath.getString("cms:ProfileResponse.cms:Method[0].cms:Name"));
+        assertEquals("12", xmlPath.getString("cms:ProfileResponse.cms:Method[0].cms:Count"));
+        assertEquals("800", xmlPath.getString("cms:ProfileResponse.cms:Method[0].cms:AllocatedBytes"));
+        assertEquals("getSubstations", xmlPath.getString("cms:ProfileResponse.cms:Method[1].cms:Name"));
+        assertEquals("Bay", xmlPath.getString("cms:ProfileResponse.cms:Element[0].cms:Name"));
+        assertEquals("Substation", xmlPath.getString("cms:ProfileResponse.cms:TripleCount.cms:CimClass"));
+        assertEquals("20", xmlPath.getString("cms:ProfileResponse.cms:TripleCount.cms:Triples"));
+        verify(compasCimMappingService, never()).map(any(), any());
+    }
+
+    private MapRequest createMapRequest() throws IOException {
+        var cimData = new CimData();
+        cimData.setName(MINIGRID_EQ_FILE_NAME);
+        cimData.setRdfData(readFile());
+        var request = new MapRequest();
+        request.setCimData(List.of(cimData));
+        return request;
+    }
+
+    private MapBatchGroup createMapBatchGroup(String id) throws IOException {
+        var group = new MapBatchGroup();
+        group.setId(id);
+        group.setCimData(createMapRequest().getCimData());
+        return group;
+    }
+
+    private static Map<String, CimMappingProfile.Entry> orderedMap(String firstKey, CimMappingProfile.Entry firstValue,
+                                                                   String secondKey, CimMappingProfile.Entry secondValue) {
+        var map = new LinkedHashMap<String, CimMappingProfile.Entry>();
+        map.put(firstKey, firstValue);
+        map.put(secondKey, secondValue);
+        return map;
+    }
+
+    private CimMappingJob createJob(String who, CimMappingJobStatus status) {
+        var job = mock(CimMappingJob.class);
+        lenient().when(job.getId()).thenReturn("job-1");
+        lenient().when(job.getWho()).thenReturn(who);
+        lenient().when(job.getStatus()).thenReturn(status);
+        lenient().when(job.getSubmitted()).thenReturn(Instant.parse("2026-01-01T12:00:00Z"));
+        return job;
+    }
+
+    private CimToSclStream createCimToSclStream() {
+        var scl = new SCL();
+        scl.setVersion("2007");
+        var cimToSclStream = mock(CimToSclStream.class);
+        when(cimToSclStream.getScl()).thenReturn(scl);
+        doAnswer(invocation -> {
+            Consumer<TSubstation> consumer = invocation.getArgument(0);
+            var tSubstation = new TSubstation();
+            tSubstation.setName("S1");
+            consumer.accept(tSubstation);
+            return null;
+        }).when(cimToSclStream).mapSubstations(any());
+        return cimToSclStream;
+    }
+
     private String readFile() throws IOException {
         var resource = requireNonNull(getClass().getResource("/minigrid/MiniGridTestConfiguration_BC_EQ_v3.0.0.xml"));
         var path = Paths.get(resource.getPath());
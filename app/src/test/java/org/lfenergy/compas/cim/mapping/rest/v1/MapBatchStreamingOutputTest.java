@@ -0,0 +1,75 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.cim.mapping.rest.v1.model.MapBatchResponse;
+import org.lfenergy.compas.cim.mapping.service.CimMappingBatchGroup;
+import org.lfenergy.compas.cim.mapping.service.CimMappingBatchResult;
+import org.lfenergy.compas.cim.mapping.service.CompasCimMappingBatchService;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.READ_DATA_ERROR_CODE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MapBatchStreamingOutputTest {
+    @Test
+    void write_WhenGroupsMapped_ThenSameResponseAsMarshalledMapBatchResponse() throws IOException, JAXBException {
+        var scl = new SCL();
+        scl.setVersion("2007");
+        var tSubstation = new TSubstation();
+        tSubstation.setName("S1");
+        scl.getSubstation().add(tSubstation);
+        var groups = List.of(new CimMappingBatchGroup("first", List.of()),
+                new CimMappingBatchGroup("second", List.of()));
+
+        var batchService = mock(CompasCimMappingBatchService.class);
+        doAnswer(invocation -> {
+            Consumer<CimMappingBatchResult> consumer = invocation.getArgument(2);
+            consumer.accept(new CimMappingBatchResult("first", scl, null, null));
+            consumer.accept(new CimMappingBatchResult("second", null, READ_DATA_ERROR_CODE, "Invalid RDF"));
+            return null;
+        }).when(batchService).mapBatch(eq(groups), eq("username"), any());
+
+        var output = new ByteArrayOutputStream();
+        new MapBatchStreamingOutput(batchService, groups, "username").write(output);
+
+        var response = (MapBatchResponse) JAXBContext.newInstance(MapBatchResponse.class)
+                .createUnmarshaller()
+                .unmarshal(new ByteArrayInputStream(output.toByteArray()));
+        assertEquals(2, response.getResults().size());
+        var first = response.getResults().get(0);
+        assertEquals("first", first.getId());
+        assertEquals("2007", first.getScl().getVersion());
+        assertEquals("S1", first.getScl().getSubstation().get(0).getName());
+        assertNull(first.getErrorCode());
+        var second = response.getResults().get(1);
+        assertEquals("second", second.getId());
+        assertNull(second.getScl());
+        assertEquals(READ_DATA_ERROR_CODE, second.getErrorCode());
+        assertEquals("Invalid RDF", second.getErrorMessage());
+    }
+
+    @Test
+    void write_WhenBatchFails_ThenExceptionPassed() {
+        var batchService = mock(CompasCimMappingBatchService.class);
+        doThrow(new IllegalStateException("Batch failed")).when(batchService).mapBatch(any(), any(), any());
+
+        var streamingOutput = new MapBatchStreamingOutput(batchService, List.of(), "username");
+        var output = new ByteArrayOutputStream();
+        assertThrows(IllegalStateException.class, () -> streamingOutput.write(output));
+    }
+}
@@ -0,0 +1,92 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.cim.mapping.rest.v1.model.MapResponse;
+import org.lfenergy.compas.cim.mapping.service.CimMemoryBudget;
+import org.lfenergy.compas.cim.mapping.service.CimToSclStream;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.THeader;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MapResponseStreamingOutputTest {
+    @Test
+    void write_WhenSubstationsMapped_ThenSameResponseAsMarshalledMapResponse() throws IOException, JAXBException {
+        var scl = new SCL();
+        scl.setVersion("2007");
+        scl.setRevision("B");
+        scl.setRelease((short) 4);
+        var header = new THeader();
+        header.setId("HeaderId");
+        scl.setHeader(header);
+
+        var cimToSclStream = mock(CimToSclStream.class);
+        when(cimToSclStream.getScl()).thenReturn(scl);
+        doAnswer(invocation -> {
+            Consumer<TSubstation> consumer = invocation.getArgument(0);
+            consumer.accept(createSubstation("S1"));
+            consumer.accept(createSubstation("S2"));
+            return null;
+        }).when(cimToSclStream).mapSubstations(any());
+
+        var output = new ByteArrayOutputStream();
+        new MapResponseStreamingOutput(cimToSclStream).write(output);
+
+        var response = (MapResponse) JAXBContext.newInstance(MapResponse.class)
+                .createUnmarshaller()
+                .unmarshal(new ByteArrayInputStream(output.toByteArray()));
+        assertEquals("2007", response.getScl().getVersion());
+        assertEquals("B", response.getScl().getRevision());
+        assertEquals(4, response.getScl().getRelease());
+        assertEquals("HeaderId", response.getScl().getHeader().getId());
+        assertEquals(2, response.getScl().getSubstation().size());
+        assertEquals("S1", response.getScl().getSubstation().get(0).getName());
+        assertEquals("S2", response.getScl().getSubstation().get(1).getName());
+    }
+
+    @Test
+    void write_WhenMappingFails_ThenExceptionPassed() {
+        var cimToSclStream = mock(CimToSclStream.class);
+        when(cimToSclStream.getScl()).thenReturn(new SCL());
+        doThrow(new IllegalStateException("Mapping failed")).when(cimToSclStream).mapSubstations(any());
+
+        var streamingOutput = new MapResponseStreamingOutput(cimToSclStream);
+        var output = new ByteArrayOutputStream();
+        assertThrows(IllegalStateException.class, () -> streamingOutput.write(output));
+    }
+
+    @Test
+    void write_WhenMappingFails_ThenReservedMemoryReleased() {
+        var cimToSclStream = mock(CimToSclStream.class);
+        when(cimToSclStream.getScl()).thenReturn(new SCL());
+        doThrow(new IllegalStateException("Mapping failed")).when(cimToSclStream).mapSubstations(any());
+        var budget = new CimMemoryBudget(1000, 1, Duration.ZERO);
+
+        var streamingOutput = new MapResponseStreamingOutput(cimToSclStream, budget.reserve(500));
+        assertEquals(500, budget.getReservedBytes());
+        var output = new ByteArrayOutputStream();
+        assertThrows(IllegalStateException.class, () -> streamingOutput.write(output));
+
+        assertEquals(0, budget.getReservedBytes());
+    }
+
+    private TSubstation createSubstation(String name) {
+        var tSubstation = new TSubstation();
+        tSubstation.setName(name);
+        return tSubstation;
+    }
+}
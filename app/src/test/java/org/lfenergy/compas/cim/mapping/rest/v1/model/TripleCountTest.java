@@ -0,0 +1,13 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.rest.v1.model;
+
+import org.lfenergy.compas.cim.mapping.model.AbstractPojoTester;
+
+class TripleCountTest extends AbstractPojoTester {
+    @Override
+    protected Class<?> getClassToBeTested() {
+        return TripleCount.class;
+    }
+}
@@ -0,0 +1,39 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.benchmark;
+
+import com.powsybl.cgmes.model.CgmesModel;
+import org.lfenergy.compas.cim.mapping.cgmes.CgmesCimReader;
+import org.lfenergy.compas.cim.mapping.cgmes.CimBoundaryCache;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.cgmes.CimTripleStore;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
+import org.lfenergy.compas.cim.mapping.model.CimModelIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of reading the CIM Model, both into a Triple Store and into the index created by the StAX Reader.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class CgmesCimReaderBenchmark {
+    private final CgmesCimReader cgmesCimReader = new CgmesCimReader(CimTripleStore.defaultTripleStore(),
+            CimReaderMode.TRIPLE_STORE, CimBoundaryCache.disabled(), CimMappingMetrics.NONE, CimMappingTracing.NONE);
+
+    @Benchmark
+    public CgmesModel readModel(SyntheticGridState grid) {
+        return cgmesCimReader.readModel(grid.dataSource);
+    }
+
+    @Benchmark
+    public CimModelIndex readModelIndex(SyntheticGridState grid) {
+        return cgmesCimReader.readModelIndex(grid.dataSource);
+    }
+}
@@ -0,0 +1,81 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.benchmark;
+
+import org.lfenergy.compas.cim.mapping.cgmes.CgmesCimReader;
+import org.lfenergy.compas.cim.mapping.cgmes.CimBoundaryCache;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.cgmes.CimTripleStore;
+import org.lfenergy.compas.cim.mapping.mapper.CimMappingParallelism;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryMode;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryRegistry;
+import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapper;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
+import org.lfenergy.compas.cim.mapping.service.CimMappingResultCache;
+import org.lfenergy.compas.cim.mapping.service.CimMappingThreadMode;
+import org.lfenergy.compas.cim.mapping.service.CimMappingWorkerPool;
+import org.lfenergy.compas.cim.mapping.service.CompasCimMappingService;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the worker pool used by the asynchronous endpoints, comparing platform with virtual threads.
+ * Every benchmark thread acts as a client handing a complete conversion to the pool and waiting for the result.
+ * There are more clients than the smallest pool has threads, so the clients queue up for a thread there, while the
+ * largest pool runs a conversion for every client at the same time. Comparing the modes at both sizes shows what
+ * a platform thread per waiting or blocked conversion costs compared to a parked virtual thread. The sample time
+ * mode reports the percentiles (p99) of the latency next to the throughput.
+ * <p>
+ * Virtual threads are only used when running on Java 21 or newer, on older versions both modes are the same.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Threads(CimMappingWorkerPoolBenchmark.CLIENTS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class CimMappingWorkerPoolBenchmark {
+    static final int CLIENTS = 64;
+
+    @State(Scope.Benchmark)
+    public static class PoolState {
+        @Param({"PLATFORM", "VIRTUAL"})
+        public CimMappingThreadMode threadMode;
+
+        @Param({"4", "64"})
+        public int poolThreads;
+
+        @Param({"TRIPLE_STORE", "STAX"})
+        public CimReaderMode readerMode;
+
+        CompasCimMappingService compasCimMappingService;
+        CimMappingWorkerPool workerPool;
+
+        @Setup(Level.Trial)
+        public void createPool() {
+            var cgmesCimReader = new CgmesCimReader(CimTripleStore.defaultTripleStore(), readerMode,
+                    CimBoundaryCache.disabled(), CimMappingMetrics.NONE, CimMappingTracing.NONE);
+            compasCimMappingService = new CompasCimMappingService(cgmesCimReader, CimToSclMapper.INSTANCE,
+                    new CimQueryRegistry(), CimMappingParallelism.sequential(), CimMappingResultCache.disabled(),
+                    CimMappingMetrics.NONE, CimMappingTracing.NONE, CimQueryMode.INDEXED);
+            // Every client can wait, so no conversion is rejected.
+            workerPool = new CimMappingWorkerPool("benchmark-worker", poolThreads, CLIENTS, threadMode);
+        }
+
+        @TearDown(Level.Trial)
+        public void closePool() {
+            workerPool.close();
+        }
+    }
+
+    @Benchmark
+    public SCL mapOnWorkerPool(PoolState pool, SyntheticGridState grid) {
+        return pool.workerPool
+                .supply(() -> pool.compasCimMappingService.mapFiles(grid.dataSource, "benchmark"))
+                .join();
+    }
+}
@@ -0,0 +1,82 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.benchmark;
+
+import com.powsybl.cgmes.model.CgmesModel;
+import org.lfenergy.compas.cim.mapping.cgmes.CgmesCimReader;
+import org.lfenergy.compas.cim.mapping.cgmes.CimBoundaryCache;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.cgmes.CimTripleStore;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryMode;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryRegistry;
+import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapper;
+import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapperContext;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
+import org.lfenergy.compas.cim.mapping.model.CimModelIndex;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of mapping an already read CIM Model to IEC SCL. The context is created for every invocation,
+ * so the time includes querying the Triple Store (or using the index of the StAX Reader).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class CimToSclMapperBenchmark {
+    @State(Scope.Benchmark)
+    public static class ModelState {
+        @Param({"INDEXED", "PER_PARENT"})
+        public CimQueryMode queryMode;
+
+        CgmesModel cgmesModel;
+        CimModelIndex modelIndex;
+        final CimQueryRegistry cimQueryRegistry = new CimQueryRegistry();
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        @Setup(Level.Trial)
+        public void readModel(SyntheticGridState grid) {
+            var cgmesCimReader = new CgmesCimReader(CimTripleStore.defaultTripleStore(), CimReaderMode.TRIPLE_STORE,
+                    CimBoundaryCache.disabled(), CimMappingMetrics.NONE, CimMappingTracing.NONE);
+            cgmesModel = cgmesCimReader.readModel(grid.dataSource);
+            modelIndex = cgmesCimReader.readModelIndex(grid.dataSource);
+        }
+    }
+
+    @Benchmark
+    public SCL mapToScl(ModelState model) {
+        var scl = new SCL();
+        CimToSclMapper.INSTANCE.mapToScl(scl,
+                new CimToSclMapperContext(model.cgmesModel, model.queryMode, model.cimQueryRegistry));
+        return scl;
+    }
+
+    @Benchmark
+    public SCL mapToSclFromIndex(ModelState model) {
+        var scl = new SCL();
+        CimToSclMapper.INSTANCE.mapToScl(scl, new CimToSclMapperContext(model.modelIndex));
+        return scl;
+    }
+
+    @Benchmark
+    public SCL mapToSclInParallel(ModelState model) {
+        var scl = new SCL();
+        CimToSclMapper.INSTANCE.mapToScl(scl,
+                new CimToSclMapperContext(model.cgmesModel, model.queryMode, model.cimQueryRegistry), model.pool);
+        return scl;
+    }
+
+    @Benchmark
+    public SCL mapToSclFromIndexInParallel(ModelState model) {
+        var scl = new SCL();
+        CimToSclMapper.INSTANCE.mapToScl(scl, new CimToSclMapperContext(model.modelIndex), model.pool);
+        return scl;
+    }
+}
@@ -0,0 +1,54 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.benchmark;
+
+import org.lfenergy.compas.cim.mapping.cgmes.CgmesCimReader;
+import org.lfenergy.compas.cim.mapping.cgmes.CimBoundaryCache;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.cgmes.CimTripleStore;
+import org.lfenergy.compas.cim.mapping.mapper.CimMappingParallelism;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryMode;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryRegistry;
+import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapper;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
+import org.lfenergy.compas.cim.mapping.service.CimMappingResultCache;
+import org.lfenergy.compas.cim.mapping.service.CompasCimMappingService;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the complete conversion done by the service, from the CIM XML Files to the IEC SCL Model.
+ * The CIM XML Files are passed as data source, because the larger grids don't fit in memory as String.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class CompasCimMappingServiceBenchmark {
+    @State(Scope.Benchmark)
+    public static class ServiceState {
+        @Param({"TRIPLE_STORE", "STAX"})
+        public CimReaderMode readerMode;
+
+        CompasCimMappingService compasCimMappingService;
+
+        @Setup(Level.Trial)
+        public void createService() {
+            var cgmesCimReader = new CgmesCimReader(CimTripleStore.defaultTripleStore(), readerMode,
+                    CimBoundaryCache.disabled(), CimMappingMetrics.NONE, CimMappingTracing.NONE);
+            compasCimMappingService = new CompasCimMappingService(cgmesCimReader, CimToSclMapper.INSTANCE,
+                    new CimQueryRegistry(), CimMappingParallelism.sequential(), CimMappingResultCache.disabled(),
+                    CimMappingMetrics.NONE, CimMappingTracing.NONE, CimQueryMode.INDEXED);
+        }
+    }
+
+    @Benchmark
+    public SCL map(ServiceState service, SyntheticGridState grid) {
+        return service.compasCimMappingService.mapFiles(grid.dataSource, "benchmark");
+    }
+}
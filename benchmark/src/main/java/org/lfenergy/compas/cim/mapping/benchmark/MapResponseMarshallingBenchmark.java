@@ -0,0 +1,60 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.benchmark;
+
+import org.lfenergy.compas.cim.mapping.cgmes.CgmesCimReader;
+import org.lfenergy.compas.cim.mapping.cgmes.CimBoundaryCache;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.cgmes.CimTripleStore;
+import org.lfenergy.compas.cim.mapping.mapper.CimMappingParallelism;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryMode;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryRegistry;
+import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapper;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
+import org.lfenergy.compas.cim.mapping.rest.v1.model.MapResponse;
+import org.lfenergy.compas.cim.mapping.service.CimMappingResultCache;
+import org.lfenergy.compas.cim.mapping.service.CompasCimMappingService;
+import org.openjdk.jmh.annotations.*;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of marshalling the response of the REST Endpoint, containing the SCL created from the synthetic grid.
+ * The XML is written to a stream that discards all bytes, so only the time of JAXB is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class MapResponseMarshallingBenchmark {
+    @State(Scope.Benchmark)
+    public static class ResponseState {
+        MapResponse response;
+        Marshaller marshaller;
+
+        @Setup(Level.Trial)
+        public void createResponse(SyntheticGridState grid) throws JAXBException {
+            // The StAX Reader is used, because only the created SCL matters for this benchmark.
+            var cgmesCimReader = new CgmesCimReader(CimTripleStore.defaultTripleStore(), CimReaderMode.STAX,
+                    CimBoundaryCache.disabled(), CimMappingMetrics.NONE, CimMappingTracing.NONE);
+            var compasCimMappingService = new CompasCimMappingService(cgmesCimReader, CimToSclMapper.INSTANCE,
+                    new CimQueryRegistry(), CimMappingParallelism.sequential(), CimMappingResultCache.disabled(),
+                    CimMappingMetrics.NONE, CimMappingTracing.NONE, CimQueryMode.INDEXED);
+            response = new MapResponse();
+            response.setScl(compasCimMappingService.mapFiles(grid.dataSource, "benchmark"));
+            marshaller = JAXBContext.newInstance(MapResponse.class).createMarshaller();
+        }
+    }
+
+    @Benchmark
+    public void marshal(ResponseState state) throws JAXBException {
+        state.marshaller.marshal(state.response, OutputStream.nullOutputStream());
+    }
+}
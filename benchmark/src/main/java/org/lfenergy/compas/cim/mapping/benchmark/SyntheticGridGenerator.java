@@ -0,0 +1,523 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.benchmark;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Generator for a synthetic CGMES grid of any size (EQ, TP and SSH Files), following the structure of the MiniGrid
+ * test configuration. Every Substation gets the same number of Voltage Levels, Bays, Switches and Power Transformers,
+ * so the size of the generated grid scales linear with the number of Substations.
+ * <p>
+ * Per Voltage Level one BusbarSection is created, every Bay is a chain of Switches starting at the Connectivity
+ * Node of the BusbarSection. The Power Transformers connect the last Connectivity Node of the first Bay of
+ * their Voltage Levels and the first Transformer End gets a RatioTapChanger.
+ * All Switches are closed, so the TP File contains one Topological Node per Voltage Level.
+ * <p>
+ * The generator can also be started from the command line to write the files to a directory, for instance:
+ * {@code java -cp benchmarks.jar org.lfenergy.compas.cim.mapping.benchmark.SyntheticGridGenerator
+ * --substations 1000 --bays 4 target/grid}
+ */
+public class SyntheticGridGenerator {
+    static final String RDF_NS_URI = "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+    static final String CIM_NS_URI = "http://iec.ch/TC57/2013/CIM-schema-cim16#";
+    static final String MD_NS_URI = "http://iec.ch/TC57/61970-552/ModelDescription/1#";
+
+    static final String EQ_FILE_NAME = "SyntheticGrid_EQ.xml";
+    static final String TP_FILE_NAME = "SyntheticGrid_TP.xml";
+    static final String SSH_FILE_NAME = "SyntheticGrid_SSH.xml";
+
+    private static final String EQ_MODEL_ID = "urn:uuid:synthetic-grid-eq";
+    private static final String TP_MODEL_ID = "urn:uuid:synthetic-grid-tp";
+    private static final String SSH_MODEL_ID = "urn:uuid:synthetic-grid-ssh";
+
+    private static final double[] NOMINAL_VOLTAGES = {380.0, 110.0, 20.0};
+
+    private final int substations;
+    private final int voltageLevelsPerSubstation;
+    private final int baysPerVoltageLevel;
+    private final int switchesPerBay;
+    private final int transformersPerSubstation;
+
+    public SyntheticGridGenerator(int substations,
+                                  int voltageLevelsPerSubstation,
+                                  int baysPerVoltageLevel,
+                                  int switchesPerBay,
+                                  int transformersPerSubstation) {
+        this.substations = substations;
+        this.voltageLevelsPerSubstation = voltageLevelsPerSubstation;
+        this.baysPerVoltageLevel = baysPerVoltageLevel;
+        this.switchesPerBay = switchesPerBay;
+        this.transformersPerSubstation = transformersPerSubstation;
+    }
+
+    /**
+     * Create a generator with the default layout of a Substation (2 Voltage Levels, 2 Bays per Voltage Level,
+     * 2 Switches per Bay and 1 Power Transformer).
+     *
+     * @param substations The number of Substations to generate.
+     * @return The generator.
+     */
+    public static SyntheticGridGenerator withSubstations(int substations) {
+        return new SyntheticGridGenerator(substations, 2, 2, 2, 1);
+    }
+
+    /**
+     * Write the EQ, TP and SSH Files of the grid to the passed directory.
+     *
+     * @param directory The directory to write the files to, created if it doesn't exist.
+     * @return The files written.
+     * @throws IOException When the files can't be written.
+     */
+    public List<Path> writeGrid(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        var eqFile = directory.resolve(EQ_FILE_NAME);
+        writeEquipment(eqFile);
+        var tpFile = directory.resolve(TP_FILE_NAME);
+        try (var outputStream = Files.newOutputStream(tpFile)) {
+            writeTopology(outputStream);
+        }
+        var sshFile = directory.resolve(SSH_FILE_NAME);
+        try (var outputStream = Files.newOutputStream(sshFile)) {
+            writeSteadyStateHypothesis(outputStream);
+        }
+        return List.of(eqFile, tpFile, sshFile);
+    }
+
+    /**
+     * Write the EQ File to the passed file.
+     *
+     * @param file The file to write to.
+     * @throws IOException When the file can't be written.
+     */
+    public void writeEquipment(Path file) throws IOException {
+        try (var outputStream = Files.newOutputStream(file)) {
+            writeEquipment(outputStream);
+        }
+    }
+
+    /**
+     * Write the EQ File to the passed OutputStream. The XML is written while it's generated,
+     * so also very large grids can be generated without keeping them in memory.
+     *
+     * @param outputStream The stream to write to, this stream isn't closed.
+     * @throws IOException When the XML can't be written.
+     */
+    public void writeEquipment(OutputStream outputStream) throws IOException {
+        writeDocument(outputStream, "EQ", writer -> {
+            writeFullModel(writer, EQ_MODEL_ID, null,
+                    "http://entsoe.eu/CIM/EquipmentCore/3/1", "http://entsoe.eu/CIM/EquipmentOperation/3/1");
+            writeRegions(writer);
+            for (var index = 0; index < NOMINAL_VOLTAGES.length; index++) {
+                writeBaseVoltage(writer, index);
+            }
+            for (var substation = 1; substation <= substations; substation++) {
+                writeSubstation(writer, substationId(substation));
+            }
+        });
+    }
+
+    /**
+     * Write the TP File to the passed OutputStream, containing a Topological Node per Voltage Level with all
+     * Connectivity Nodes and Terminals of the Voltage Level coupled to it.
+     *
+     * @param outputStream The stream to write to, this stream isn't closed.
+     * @throws IOException When the XML can't be written.
+     */
+    public void writeTopology(OutputStream outputStream) throws IOException {
+        writeDocument(outputStream, "TP", writer -> {
+            writeFullModel(writer, TP_MODEL_ID, EQ_MODEL_ID, "http://entsoe.eu/CIM/Topology/4/1");
+            for (var substation = 1; substation <= substations; substation++) {
+                var substationId = substationId(substation);
+                for (var voltageLevel = 1; voltageLevel <= voltageLevelsPerSubstation; voltageLevel++) {
+                    writeTopologicalNode(writer, substationId, voltageLevel);
+                }
+                forEachTransformerEnd(substationId, (transformerId, end) -> {
+                    var topologicalNodeId = topologicalNodeId(voltageLevelId(substationId, end));
+                    startAbout(writer, "Terminal", transformerEndId(transformerId, end) + "-T");
+                    writeResource(writer, "Terminal.TopologicalNode", topologicalNodeId);
+                    writer.writeEndElement();
+                });
+            }
+        });
+    }
+
+    /**
+     * Write the SSH File to the passed OutputStream, with all Terminals connected, all Switches closed and
+     * all RatioTapChangers on their neutral step.
+     *
+     * @param outputStream The stream to write to, this stream isn't closed.
+     * @throws IOException When the XML can't be written.
+     */
+    public void writeSteadyStateHypothesis(OutputStream outputStream) throws IOException {
+        writeDocument(outputStream, "SSH", writer -> {
+            writeFullModel(writer, SSH_MODEL_ID, EQ_MODEL_ID, "http://entsoe.eu/CIM/SteadyStateHypothesis/1/1");
+            for (var substation = 1; substation <= substations; substation++) {
+                var substationId = substationId(substation);
+                for (var voltageLevel = 1; voltageLevel <= voltageLevelsPerSubstation; voltageLevel++) {
+                    var voltageLevelId = voltageLevelId(substationId, voltageLevel);
+                    writeConnected(writer, voltageLevelId + "-BB-T1");
+                    for (var bay = 1; bay <= baysPerVoltageLevel; bay++) {
+                        var bayId = bayId(voltageLevelId, bay);
+                        for (var switchIndex = 1; switchIndex <= switchesPerBay; switchIndex++) {
+                            var switchId = switchId(bayId, switchIndex);
+                            startAbout(writer, switchType(switchIndex), switchId);
+                            writeLiteral(writer, "Switch.open", "false");
+                            writer.writeEndElement();
+                            writeConnected(writer, switchId + "-T1");
+                            writeConnected(writer, switchId + "-T2");
+                        }
+                    }
+                }
+                forEachTransformerEnd(substationId, (transformerId, end) -> {
+                    var endId = transformerEndId(transformerId, end);
+                    writeConnected(writer, endId + "-T");
+                    if (end == 1) {
+                        startAbout(writer, "RatioTapChanger", endId + "-RTC");
+                        writeLiteral(writer, "TapChanger.controlEnabled", "false");
+                        writeLiteral(writer, "TapChanger.step", "13");
+                        writer.writeEndElement();
+                    }
+                });
+            }
+        });
+    }
+
+    private void writeDocument(OutputStream outputStream, String profile, XmlContent content) throws IOException {
+        try {
+            var writer = XMLOutputFactory.newFactory().createXMLStreamWriter(outputStream, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeStartElement("rdf", "RDF", RDF_NS_URI);
+            writer.writeNamespace("cim", CIM_NS_URI);
+            writer.writeNamespace("md", MD_NS_URI);
+            writer.writeNamespace("rdf", RDF_NS_URI);
+
+            content.write(writer);
+
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException exp) {
+            throw new IOException("Unable to write the synthetic " + profile + " File", exp);
+        }
+    }
+
+    private void writeFullModel(XMLStreamWriter writer, String modelId, String dependentOn, String... profiles)
+            throws XMLStreamException {
+        writer.writeStartElement("md", "FullModel", MD_NS_URI);
+        writer.writeAttribute("rdf", RDF_NS_URI, "about", modelId);
+        writeLiteral(writer, "md", MD_NS_URI, "Model.scenarioTime", "2030-01-02T09:00:00");
+        writeLiteral(writer, "md", MD_NS_URI, "Model.created", "2026-01-01T00:00:00");
+        writeLiteral(writer, "md", MD_NS_URI, "Model.description", "Synthetic grid with " + substations + " substations");
+        writeLiteral(writer, "md", MD_NS_URI, "Model.version", "1");
+        if (dependentOn != null) {
+            writer.writeEmptyElement("md", "Model.DependentOn", MD_NS_URI);
+            writer.writeAttribute("rdf", RDF_NS_URI, "resource", dependentOn);
+        }
+        for (var profile : profiles) {
+            writeLiteral(writer, "md", MD_NS_URI, "Model.profile", profile);
+        }
+        writeLiteral(writer, "md", MD_NS_URI, "Model.modelingAuthoritySet", "http://compas.lfenergy.org/Synthetic");
+        writer.writeEndElement();
+    }
+
+    private void writeRegions(XMLStreamWriter writer) throws XMLStreamException {
+        startObject(writer, "GeographicalRegion", "REGION", "Region");
+        writer.writeEndElement();
+        startObject(writer, "SubGeographicalRegion", "SUBREGION", "SubRegion");
+        writeResource(writer, "SubGeographicalRegion.Region", "REGION");
+        writer.writeEndElement();
+    }
+
+    private void writeBaseVoltage(XMLStreamWriter writer, int index) throws XMLStreamException {
+        startObject(writer, "BaseVoltage", baseVoltageId(index), NOMINAL_VOLTAGES[index] + " kV");
+        writeLiteral(writer, "BaseVoltage.nominalVoltage", String.valueOf(NOMINAL_VOLTAGES[index]));
+        writer.writeEndElement();
+    }
+
+    private void writeSubstation(XMLStreamWriter writer, String substationId) throws XMLStreamException {
+        startObject(writer, "Substation", substationId, substationId);
+        writeResource(writer, "Substation.Region", "SUBREGION");
+        writer.writeEndElement();
+
+        for (var voltageLevel = 1; voltageLevel <= voltageLevelsPerSubstation; voltageLevel++) {
+            writeVoltageLevel(writer, substationId, voltageLevel);
+        }
+        for (var transformer = 1; transformer <= transformersPerSubstation; transformer++) {
+            writeTransformer(writer, substationId, transformer);
+        }
+    }
+
+    private void writeVoltageLevel(XMLStreamWriter writer, String substationId, int voltageLevel)
+            throws XMLStreamException {
+        var voltageLevelId = voltageLevelId(substationId, voltageLevel);
+        var baseVoltage = (voltageLevel - 1) % NOMINAL_VOLTAGES.length;
+        startObject(writer, "VoltageLevel", voltageLevelId, "VL" + voltageLevel);
+        writeResource(writer, "VoltageLevel.Substation", substationId);
+        writeResource(writer, "VoltageLevel.BaseVoltage", baseVoltageId(baseVoltage));
+        writer.writeEndElement();
+
+        // The BusbarSection of the Voltage Level, with its own Connectivity Node.
+        var busbarSectionId = voltageLevelId + "-BB";
+        var busbarNodeId = busbarSectionId + "-CN";
+        startObject(writer, "BusbarSection", busbarSectionId, "BUSBAR" + voltageLevel);
+        writeResource(writer, "Equipment.EquipmentContainer", voltageLevelId);
+        writer.writeEndElement();
+        writeConnectivityNode(writer, busbarNodeId, "CN_BB" + voltageLevel, voltageLevelId);
+        writeTerminal(writer, busbarSectionId + "-T1", busbarSectionId, busbarNodeId, 1);
+
+        for (var bay = 1; bay <= baysPerVoltageLevel; bay++) {
+            writeBay(writer, voltageLevelId, bay, busbarNodeId);
+        }
+    }
+
+    private void writeBay(XMLStreamWriter writer, String voltageLevelId, int bay, String busbarNodeId)
+            throws XMLStreamException {
+        var bayId = bayId(voltageLevelId, bay);
+        startObject(writer, "Bay", bayId, "BAY" + bay);
+        writeResource(writer, "Bay.VoltageLevel", voltageLevelId);
+        writer.writeEndElement();
+
+        // Chain the Switches, starting at the Connectivity Node of the BusbarSection.
+        var previousNodeId = busbarNodeId;
+        for (var switchIndex = 1; switchIndex <= switchesPerBay; switchIndex++) {
+            var switchId = switchId(bayId, switchIndex);
+            var nodeId = bayNodeId(bayId, switchIndex);
+            writeConnectivityNode(writer, nodeId, "CN" + switchIndex, bayId);
+
+            startObject(writer, switchType(switchIndex), switchId, "SW" + switchIndex);
+            writeResource(writer, "Equipment.EquipmentContainer", bayId);
+            writeLiteral(writer, "Switch.normalOpen", "false");
+            writer.writeEndElement();
+            writeTerminal(writer, switchId + "-T1", switchId, previousNodeId, 1);
+            writeTerminal(writer, switchId + "-T2", switchId, nodeId, 2);
+
+            previousNodeId = nodeId;
+        }
+    }
+
+    private void writeTransformer(XMLStreamWriter writer, String substationId, int transformer)
+            throws XMLStreamException {
+        var transformerId = transformerId(substationId, transformer);
+        startObject(writer, "PowerTransformer", transformerId, "T" + transformer);
+        writeLiteral(writer, "IdentifiedObject.description", "Transformer " + transformer + " of " + substationId);
+        writeResource(writer, "Equipment.EquipmentContainer", substationId);
+        writer.writeEndElement();
+
+        for (var end = 1; end <= transformerEnds(); end++) {
+            var endId = transformerEndId(transformerId, end);
+            var terminalId = endId + "-T";
+            var voltageLevelId = voltageLevelId(substationId, end);
+            var nodeId = baysPerVoltageLevel > 0 && switchesPerBay > 0
+                    ? bayNodeId(bayId(voltageLevelId, 1), switchesPerBay)
+                    : voltageLevelId + "-BB-CN";
+            writeTerminal(writer, terminalId, transformerId, nodeId, end);
+
+            startObject(writer, "PowerTransformerEnd", endId, "T" + transformer + "_" + end);
+            writeResource(writer, "PowerTransformerEnd.PowerTransformer", transformerId);
+            writeLiteral(writer, "TransformerEnd.endNumber", String.valueOf(end));
+            writeResource(writer, "TransformerEnd.Terminal", terminalId);
+            writeResource(writer, "TransformerEnd.BaseVoltage", baseVoltageId((end - 1) % NOMINAL_VOLTAGES.length));
+            writer.writeEndElement();
+
+            if (end == 1) {
+                startObject(writer, "RatioTapChanger", endId + "-RTC", "RTC_T" + transformer);
+                writeResource(writer, "RatioTapChanger.TransformerEnd", endId);
+                writeLiteral(writer, "TapChanger.lowStep", "1");
+                writeLiteral(writer, "TapChanger.highStep", "25");
+                writeLiteral(writer, "TapChanger.neutralStep", "13");
+                writeLiteral(writer, "TapChanger.normalStep", "13");
+                writer.writeEndElement();
+            }
+        }
+    }
+
+    private void writeConnectivityNode(XMLStreamWriter writer, String nodeId, String name, String containerId)
+            throws XMLStreamException {
+        startObject(writer, "ConnectivityNode", nodeId, name);
+        writeResource(writer, "ConnectivityNode.ConnectivityNodeContainer", containerId);
+        writer.writeEndElement();
+    }
+
+    private void writeTerminal(XMLStreamWriter writer, String terminalId, String equipmentId, String nodeId,
+                               int sequenceNumber) throws XMLStreamException {
+        startObject(writer, "Terminal", terminalId, "T" + sequenceNumber);
+        writeLiteral(writer, "ACDCTerminal.sequenceNumber", String.valueOf(sequenceNumber));
+        writeResource(writer, "Terminal.ConductingEquipment", equipmentId);
+        writeResource(writer, "Terminal.ConnectivityNode", nodeId);
+        writer.writeEndElement();
+    }
+
+    private void writeTopologicalNode(XMLStreamWriter writer, String substationId, int voltageLevel)
+            throws XMLStreamException {
+        var voltageLevelId = voltageLevelId(substationId, voltageLevel);
+        var topologicalNodeId = topologicalNodeId(voltageLevelId);
+        startObject(writer, "TopologicalNode", topologicalNodeId, "TN" + voltageLevel);
+        writeResource(writer, "TopologicalNode.BaseVoltage", baseVoltageId((voltageLevel - 1) % NOMINAL_VOLTAGES.length));
+        writeResource(writer, "TopologicalNode.ConnectivityNodeContainer", voltageLevelId);
+        writer.writeEndElement();
+
+        var busbarSectionId = voltageLevelId + "-BB";
+        writeTopologicalNodeOf(writer, "ConnectivityNode", busbarSectionId + "-CN", topologicalNodeId);
+        writeTopologicalNodeOf(writer, "Terminal", busbarSectionId + "-T1", topologicalNodeId);
+        for (var bay = 1; bay <= baysPerVoltageLevel; bay++) {
+            var bayId = bayId(voltageLevelId, bay);
+            for (var switchIndex = 1; switchIndex <= switchesPerBay; switchIndex++) {
+                var switchId = switchId(bayId, switchIndex);
+                writeTopologicalNodeOf(writer, "ConnectivityNode", bayNodeId(bayId, switchIndex), topologicalNodeId);
+                writeTopologicalNodeOf(writer, "Terminal", switchId + "-T1", topologicalNodeId);
+                writeTopologicalNodeOf(writer, "Terminal", switchId + "-T2", topologicalNodeId);
+            }
+        }
+    }
+
+    private static void writeTopologicalNodeOf(XMLStreamWriter writer, String cimClass, String id,
+                                               String topologicalNodeId) throws XMLStreamException {
+        startAbout(writer, cimClass, id);
+        writeResource(writer, cimClass + ".TopologicalNode", topologicalNodeId);
+        writer.writeEndElement();
+    }
+
+    private static void writeConnected(XMLStreamWriter writer, String terminalId) throws XMLStreamException {
+        startAbout(writer, "Terminal", terminalId);
+        writeLiteral(writer, "ACDCTerminal.connected", "true");
+        writer.writeEndElement();
+    }
+
+    /**
+     * Every Transformer has an End in the first two Voltage Levels (or only one if there is just one).
+     */
+    private int transformerEnds() {
+        return Math.min(2, voltageLevelsPerSubstation);
+    }
+
+    private void forEachTransformerEnd(String substationId, TransformerEndConsumer consumer)
+            throws XMLStreamException {
+        for (var transformer = 1; transformer <= transformersPerSubstation; transformer++) {
+            for (var end = 1; end <= transformerEnds(); end++) {
+                consumer.accept(transformerId(substationId, transformer), end);
+            }
+        }
+    }
+
+    private static String substationId(int substation) {
+        return "S" + substation;
+    }
+
+    private static String voltageLevelId(String substationId, int voltageLevel) {
+        return substationId + "-VL" + voltageLevel;
+    }
+
+    private static String bayId(String voltageLevelId, int bay) {
+        return voltageLevelId + "-BAY" + bay;
+    }
+
+    private static String bayNodeId(String bayId, int switchIndex) {
+        return bayId + "-CN" + switchIndex;
+    }
+
+    private static String switchId(String bayId, int switchIndex) {
+        return bayId + "-SW" + switchIndex;
+    }
+
+    private static String switchType(int switchIndex) {
+        return switchIndex % 2 == 0 ? "Breaker" : "Disconnector";
+    }
+
+    private static String transformerId(String substationId, int transformer) {
+        return substationId + "-PT" + transformer;
+    }
+
+    private static String transformerEndId(String transformerId, int end) {
+        return transformerId + "-E" + end;
+    }
+
+    private static String topologicalNodeId(String voltageLevelId) {
+        return voltageLevelId + "-TN";
+    }
+
+    private static String baseVoltageId(int index) {
+        return "BV" + (index + 1);
+    }
+
+    static void startObject(XMLStreamWriter writer, String cimClass, String id, String name)
+            throws XMLStreamException {
+        writer.writeStartElement("cim", cimClass, CIM_NS_URI);
+        writer.writeAttribute("rdf", RDF_NS_URI, "ID", "_" + id);
+        if (name != null) {
+            writeLiteral(writer, "IdentifiedObject.name", name);
+        }
+    }
+
+    static void startAbout(XMLStreamWriter writer, String cimClass, String id) throws XMLStreamException {
+        writer.writeStartElement("cim", cimClass, CIM_NS_URI);
+        writer.writeAttribute("rdf", RDF_NS_URI, "about", "#_" + id);
+    }
+
+    static void writeLiteral(XMLStreamWriter writer, String property, String value) throws XMLStreamException {
+        writeLiteral(writer, "cim", CIM_NS_URI, property, value);
+    }
+
+    static void writeLiteral(XMLStreamWriter writer, String prefix, String namespaceUri, String property,
+                             String value) throws XMLStreamException {
+        writer.writeStartElement(prefix, property, namespaceUri);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+
+    static void writeResource(XMLStreamWriter writer, String property, String id) throws XMLStreamException {
+        writer.writeEmptyElement("cim", property, CIM_NS_URI);
+        writer.writeAttribute("rdf", RDF_NS_URI, "resource", "#_" + id);
+    }
+
+    @FunctionalInterface
+    private interface XmlContent {
+        void write(XMLStreamWriter writer) throws XMLStreamException;
+    }
+
+    @FunctionalInterface
+    private interface TransformerEndConsumer {
+        void accept(String transformerId, int end) throws XMLStreamException;
+    }
+
+    /**
+     * Write a synthetic grid to a directory. The sizes of the grid can be passed as options, for instance
+     * {@code --substations 1000 --voltage-levels 3 --bays 4 --switches 3 --transformers 2 target/grid}.
+     *
+     * @param args The options and the directory to write to.
+     * @throws IOException When the files can't be written.
+     */
+    public static void main(String[] args) throws IOException {
+        var options = new HashMap<String, Integer>();
+        Path directory = null;
+        for (var index = 0; index < args.length; index++) {
+            if (args[index].startsWith("--") && index + 1 < args.length) {
+                options.put(args[index].substring(2), Integer.parseInt(args[++index]));
+            } else {
+                directory = Path.of(args[index]);
+            }
+        }
+        if (directory == null) {
+            System.err.println("Usage: SyntheticGridGenerator [--substations n] [--voltage-levels n] [--bays n] "
+                    + "[--switches n] [--transformers n] <directory>");
+            System.exit(1);
+        }
+
+        var generator = new SyntheticGridGenerator(
+                options.getOrDefault("substations", 10),
+                options.getOrDefault("voltage-levels", 2),
+                options.getOrDefault("bays", 2),
+                options.getOrDefault("switches", 2),
+                options.getOrDefault("transformers", 1));
+        generator.writeGrid(directory).forEach(file -> System.out.println("Written " + file));
+    }
+}
@@ -0,0 +1,46 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.benchmark;
+
+import org.lfenergy.compas.cim.mapping.cgmes.CimFileDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Shared state of the benchmarks, containing the synthetic grid with the number of Substations as parameter.
+ * The grid (EQ, TP and SSH Files) is generated once per trial and kept on disk in a {@link CimFileDataSource}.
+ */
+@State(Scope.Benchmark)
+public class SyntheticGridState {
+    @Param({"10", "100", "1000", "10000"})
+    public int substations;
+
+    CimFileDataSource dataSource;
+
+    @Setup(Level.Trial)
+    public void generateGrid() throws IOException {
+        var directory = Files.createTempDirectory("synthetic-grid-");
+        var files = SyntheticGridGenerator.withSubstations(substations).writeGrid(directory);
+        try {
+            dataSource = new CimFileDataSource();
+            for (var file : files) {
+                try (var inputStream = Files.newInputStream(file)) {
+                    dataSource.addFile(file.getFileName().toString(), inputStream);
+                }
+            }
+        } finally {
+            for (var file : files) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void removeGrid() throws IOException {
+        dataSource.close();
+    }
+}
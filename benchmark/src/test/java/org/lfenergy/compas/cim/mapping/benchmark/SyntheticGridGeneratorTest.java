@@ -0,0 +1,79 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.lfenergy.compas.cim.mapping.cgmes.CgmesCimReader;
+import org.lfenergy.compas.cim.mapping.cgmes.CimBoundaryCache;
+import org.lfenergy.compas.cim.mapping.cgmes.CimFileDataSource;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.cgmes.CimTripleStore;
+import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapper;
+import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapperContext;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SyntheticGridGeneratorTest {
+    @Test
+    void writeEquipment_WhenMapped_ThenAllElementsConverted() throws IOException {
+        var output = new ByteArrayOutputStream();
+        new SyntheticGridGenerator(3, 2, 2, 3, 1).writeEquipment(output);
+
+        try (var dataSource = new CimFileDataSource()) {
+            dataSource.addFile(SyntheticGridGenerator.EQ_FILE_NAME, new ByteArrayInputStream(output.toByteArray()));
+            var cgmesModel = createCgmesCimReader().readModel(dataSource);
+
+            var scl = new SCL();
+            CimToSclMapper.INSTANCE.mapToScl(scl, new CimToSclMapperContext(cgmesModel));
+
+            assertEquals(3, scl.getSubstation().size());
+            var substation = scl.getSubstation().get(0);
+            assertEquals(2, substation.getVoltageLevel().size());
+            assertEquals(1, substation.getPowerTransformer().size());
+            assertEquals(2, substation.getPowerTransformer().get(0).getTransformerWinding().size());
+            // The BusbarSection is converted to a Bay, next to the 2 Bays of the Voltage Level.
+            var voltageLevel = substation.getVoltageLevel().get(0);
+            assertEquals(3, voltageLevel.getBay().size());
+        }
+    }
+
+    @Test
+    void writeGrid_WhenRead_ThenTopologyAndSteadyStateHypothesisLoaded(@TempDir Path directory) throws IOException {
+        var files = new SyntheticGridGenerator(3, 3, 2, 2, 2).writeGrid(directory);
+
+        assertEquals(3, files.size());
+        try (var dataSource = new CimFileDataSource()) {
+            for (var file : files) {
+                try (var inputStream = Files.newInputStream(file)) {
+                    dataSource.addFile(file.getFileName().toString(), inputStream);
+                }
+            }
+            var cgmesModel = createCgmesCimReader().readModel(dataSource);
+
+            // All Switches are closed, so there is one Topological Node per Voltage Level.
+            assertEquals(9, cgmesModel.topologicalNodes().size());
+
+            var scl = new SCL();
+            CimToSclMapper.INSTANCE.mapToScl(scl, new CimToSclMapperContext(cgmesModel));
+            assertEquals(3, scl.getSubstation().size());
+            assertEquals(3, scl.getSubstation().get(0).getVoltageLevel().size());
+            assertEquals(2, scl.getSubstation().get(0).getPowerTransformer().size());
+        }
+    }
+
+    private static CgmesCimReader createCgmesCimReader() {
+        return new CgmesCimReader(CimTripleStore.defaultTripleStore(), CimReaderMode.TRIPLE_STORE,
+                CimBoundaryCache.disabled(), CimMappingMetrics.NONE, CimMappingTracing.NONE);
+    }
+}
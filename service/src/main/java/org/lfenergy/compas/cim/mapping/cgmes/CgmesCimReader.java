@@ -5,23 +5,34 @@ package org.lfenergy.compas.cim.mapping.cgmes;
 
 import com.powsybl.cgmes.model.CgmesModel;
 import com.powsybl.cgmes.model.CgmesModelFactory;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.commons.datasource.ReadOnlyMemDataSource;
-import com.powsybl.triplestore.api.TripleStoreFactory;
+import com.powsybl.triplestore.api.TripleStore;
 import org.apache.commons.io.input.ReaderInputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingStage;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
 import org.lfenergy.compas.cim.mapping.model.CimData;
+import org.lfenergy.compas.cim.mapping.model.CimModelIndex;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.NO_DATA_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.READ_DATA_ERROR_CODE;
 
 /**
  * Class to read the CIM Model into a Java Object Model to be used further for converting it to IEC 61850.
@@ -30,6 +41,43 @@ import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCod
 public class CgmesCimReader {
     private static final Logger LOGGER = LogManager.getLogger(CgmesCimReader.class);
 
+    /**
+     * Names of the boundary files, for instance 'MiniGridTestConfiguration_EQ_BD_v3.0.0.xml'.
+     */
+    static final String BOUNDARY_FILE_REGEX = "(?i).*_(EQ|TP)_BD([_.].*)?\\.xml";
+
+    private static final String COUNT_TRIPLES_QUERY = "SELECT (COUNT(*) AS ?count) WHERE { GRAPH ?graph { ?s ?p ?o } }";
+    private static final String COUNT_TRIPLES_BY_CLASS_QUERY = """
+            SELECT ?type (COUNT(*) AS ?count)
+            WHERE { GRAPH ?graph { ?s a ?type ; ?p ?o } }
+            GROUP BY ?type
+            ORDER BY DESC(?count)
+            """;
+
+    private final CimTripleStore cimTripleStore;
+    private final CimReaderMode cimReaderMode;
+    private final CimBoundaryCache cimBoundaryCache;
+    private final CimMappingMetrics cimMappingMetrics;
+    private final CimMappingTracing cimMappingTracing;
+
+    @Inject
+    public CgmesCimReader(CimTripleStore cimTripleStore, CimReaderMode cimReaderMode,
+                          CimBoundaryCache cimBoundaryCache, CimMappingMetrics cimMappingMetrics,
+                          CimMappingTracing cimMappingTracing) {
+        this.cimTripleStore = cimTripleStore;
+        this.cimReaderMode = cimReaderMode;
+        this.cimBoundaryCache = cimBoundaryCache;
+        this.cimMappingMetrics = cimMappingMetrics;
+        this.cimMappingTracing = cimMappingTracing;
+    }
+
+    /**
+     * @return The way the CIM Model should be read, using {@link #readModel} or {@link #readModelIndex}.
+     */
+    public CimReaderMode getCimReaderMode() {
+        return cimReaderMode;
+    }
+
     /**
      * Use PowSyBl to convert a CIM XML InputStream to the PowSyBl Cgmes Model.
      * Multiple InputStream Objects can be passed if needed.
@@ -45,10 +93,175 @@ public class CgmesCimReader {
         var cimContents = convertCimDataToMap(cimData);
         var source = new ReadOnlyMemDataSource();
         cimContents.forEach(source::putData);
+        return readModel(source);
+    }
 
+    /**
+     * Stream the CIM XML Files using StAX and create the index of the part of the CIM Model needed to create
+     * the IEC SCL. No Triple Store is used, so this is faster and uses less memory than {@link #readModel}.
+     *
+     * @param cimData The different CIM XML Files that combined define the CIM Model.
+     * @return The index of the CIM Model that can be used to convert further to IEC 61850.
+     */
+    public CimModelIndex readModelIndex(List<CimData> cimData) {
+        if (cimData == null || cimData.isEmpty()) {
+            throw new CompasCimMappingException(NO_DATA_ERROR_CODE, "No CIM Data passed!");
+        }
+        var source = new ReadOnlyMemDataSource();
+        convertCimDataToMap(cimData).forEach(source::putData);
+        return readModelIndex(source);
+    }
+
+    /**
+     * Stream the CIM XML Files found in the data source using StAX and create the index of the part of the
+     * CIM Model needed to create the IEC SCL.
+     *
+     * @param source The data source containing the CIM XML Files that combined define the CIM Model.
+     * @return The index of the CIM Model that can be used to convert further to IEC 61850.
+     */
+    public CimModelIndex readModelIndex(ReadOnlyDataSource source) {
+        LOGGER.debug("Create the index of the CIM Model by streaming the CIM Files.");
+        var start = System.nanoTime();
+        try (var span = cimMappingTracing.startStage(CimMappingStage.READ_MODEL)) {
+            return new CimStaxReader().read(source);
+        } catch (IOException | XMLStreamException exp) {
+            throw new CompasCimMappingException(READ_DATA_ERROR_CODE, "Unable to read the CIM Files: " + exp.getMessage());
+        } finally {
+            cimMappingMetrics.recordStage(CimMappingStage.READ_MODEL, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Use PowSyBl to convert the CIM XML Files found in the data source to the PowSyBl Cgmes Model.
+     * The files are streamed from the data source into the triple store, so no copy of the content is kept.
+     *
+     * @param source The data source containing the CIM XML Files that combined define the CIM Model.
+     * @return The Cgmes Model that can be used to convert further to IEC 61850.
+     */
+    public CgmesModel readModel(ReadOnlyDataSource source) {
         LOGGER.debug("First create a CgmesModel from the InputStream (RDF File).");
-        var tripStoreImpl = TripleStoreFactory.defaultImplementation();
-        return CgmesModelFactory.create(source, tripStoreImpl);
+        var start = System.nanoTime();
+        try (var span = cimMappingTracing.startStage(CimMappingStage.READ_MODEL)) {
+            var cgmesModel = createModel(source);
+            if (cimMappingMetrics.isCountingInputTriples()) {
+                cimMappingMetrics.countInputTriples(countTriples(cgmesModel));
+            }
+            return cgmesModel;
+        } finally {
+            cimMappingMetrics.recordStage(CimMappingStage.READ_MODEL, System.nanoTime() - start);
+        }
+    }
+
+    private CgmesModel createModel(ReadOnlyDataSource source) {
+        var boundaryFiles = listBoundaryFiles(source);
+        if (boundaryFiles.isEmpty() || boundaryFiles.size() == listFiles(source).size()) {
+            return CgmesModelFactory.create(source, cimTripleStore.getImplementation());
+        }
+
+        // Read the other files first, the cached boundary files are added to the Triple Store of that model.
+        var cgmesModel = CgmesModelFactory.create(
+                new CimSubsetDataSource(source, fileName -> !boundaryFiles.contains(fileName)),
+                cimTripleStore.getImplementation());
+        for (var boundaryFile : boundaryFiles) {
+            cgmesModel.tripleStore().add(readBoundary(source, boundaryFile));
+        }
+        return cgmesModel;
+    }
+
+    /**
+     * Count the triples in the Triple Store of the model, only done when the metrics ask for it because the
+     * Triple Store needs to be scanned completely.
+     *
+     * @param cgmesModel The model read from the CIM Files.
+     * @return The number of triples, or zero if the Triple Store didn't return a number.
+     */
+    long countTriples(CgmesModel cgmesModel) {
+        return countTriples(cgmesModel.tripleStore());
+    }
+
+    private long countTriples(TripleStore tripleStore) {
+        var bags = tripleStore.query(COUNT_TRIPLES_QUERY);
+        if (bags.isEmpty() || !bags.get(0).containsKey("count")) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(bags.get(0).get("count"));
+        } catch (NumberFormatException exp) {
+            LOGGER.debug("Triple Store returned an invalid count '{}'", bags.get(0).get("count"));
+            return 0;
+        }
+    }
+
+    /**
+     * Count the triples of the subjects per CIM Class in the Triple Store of the model, used to profile a single
+     * conversion.
+     *
+     * @param cgmesModel The model read from the CIM Files.
+     * @return The number of triples with the CIM Class as key, the CIM Class with the most triples first.
+     */
+    public Map<String, Long> countTriplesByClass(CgmesModel cgmesModel) {
+        var triplesByClass = new LinkedHashMap<String, Long>();
+        cgmesModel.tripleStore().query(COUNT_TRIPLES_BY_CLASS_QUERY)
+                .forEach(bag -> triplesByClass.merge(bag.getLocal("type"), Long.parseLong(bag.get("count")),
+                        Long::sum));
+        return triplesByClass;
+    }
+
+    /**
+     * @param source The data source containing the CIM XML Files.
+     * @return The names of the boundary files, or empty if the boundary files aren't cached.
+     */
+    private Set<String> listBoundaryFiles(ReadOnlyDataSource source) {
+        if (!cimBoundaryCache.isEnabled()) {
+            return Set.of();
+        }
+        try {
+            return source.listNames(BOUNDARY_FILE_REGEX);
+        } catch (IOException exp) {
+            throw new CompasCimMappingException(READ_DATA_ERROR_CODE, "Unable to list the CIM Files: " + exp.getMessage());
+        }
+    }
+
+    private Set<String> listFiles(ReadOnlyDataSource source) {
+        try {
+            return source.listNames(".*");
+        } catch (IOException exp) {
+            throw new CompasCimMappingException(READ_DATA_ERROR_CODE, "Unable to list the CIM Files: " + exp.getMessage());
+        }
+    }
+
+    /**
+     * Search the boundary file in the cache, if not found it's parsed into its own Triple Store and added to the
+     * cache. The boundary file is parsed using the same base name as the other files, so references between the
+     * files are resolved to the same IRIs. The file is read from the source only once, the hash and the parsing
+     * both use that content.
+     *
+     * @param source       The data source containing the CIM XML Files.
+     * @param boundaryFile The name of the boundary file.
+     * @return The Triple Store containing the boundary file.
+     */
+    private TripleStore readBoundary(ReadOnlyDataSource source, String boundaryFile) {
+        byte[] content;
+        try (var input = source.newInputStream(boundaryFile)) {
+            content = input.readAllBytes();
+        } catch (IOException exp) {
+            throw new CompasCimMappingException(READ_DATA_ERROR_CODE,
+                    "Unable to read the boundary file '" + boundaryFile + "': " + exp.getMessage());
+        }
+
+        var key = CimContentHash.of(boundaryFile, content);
+        var cachedTripleStore = cimBoundaryCache.get(key);
+        if (cachedTripleStore.isPresent()) {
+            LOGGER.debug("Using cached boundary file '{}'", boundaryFile);
+            return cachedTripleStore.get();
+        }
+
+        LOGGER.debug("Parsing boundary file '{}' to add it to the cache", boundaryFile);
+        var boundarySource = new ReadOnlyMemDataSource(source.getBaseName());
+        boundarySource.putData(boundaryFile, content);
+        var tripleStore = CgmesModelFactory.create(boundarySource, cimTripleStore.getImplementation()).tripleStore();
+        cimBoundaryCache.put(key, tripleStore, countTriples(tripleStore));
+        return tripleStore;
     }
 
     Map<String, InputStream> convertCimDataToMap(List<CimData> cimData) {
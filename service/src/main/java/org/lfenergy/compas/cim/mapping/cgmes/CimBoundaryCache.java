@@ -0,0 +1,87 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.cgmes;
+
+import com.powsybl.triplestore.api.TripleStore;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cache of parsed boundary files (EQ_BD, TP_BD), which are the same for most requests. Every boundary file is
+ * parsed into its own Triple Store, with the {@link CimContentHash} of the file as key. The statements of a cached
+ * Triple Store are copied into every new model, so the file doesn't need to be parsed again.
+ * <p>
+ * The cache is bounded by the estimated memory the cached Triple Stores retain, calculated from the number of
+ * triples they contain. When the limit is reached the least recently used boundary files are removed first.
+ */
+public class CimBoundaryCache {
+    private static final Logger LOGGER = LogManager.getLogger(CimBoundaryCache.class);
+
+    // Estimate of the memory an in-memory Triple Store retains per triple, including the values and the indexes.
+    static final long ESTIMATED_BYTES_PER_TRIPLE = 512;
+
+    private final long maxSize;
+    private final Map<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    private record CacheEntry(TripleStore tripleStore, long size) {
+    }
+
+    /**
+     * @param maxSize The maximum estimated memory in bytes of the cached boundary files, 0 disables the cache.
+     */
+    public CimBoundaryCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return A cache that doesn't keep anything, so boundary files are parsed like any other CIM File.
+     */
+    public static CimBoundaryCache disabled() {
+        return new CimBoundaryCache(0);
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * @param key The hash of the boundary file.
+     * @return The Triple Store containing the parsed boundary file, or empty if not cached.
+     */
+    public synchronized Optional<TripleStore> get(String key) {
+        return Optional.ofNullable(entries.get(key)).map(CacheEntry::tripleStore);
+    }
+
+    /**
+     * @param key         The hash of the boundary file.
+     * @param tripleStore The Triple Store containing the parsed boundary file, which isn't changed anymore.
+     * @param triples     The number of triples in the Triple Store.
+     */
+    public synchronized void put(String key, TripleStore tripleStore, long triples) {
+        var entrySize = triples * ESTIMATED_BYTES_PER_TRIPLE;
+        if (entrySize > maxSize) {
+            LOGGER.debug("Boundary file with hash {} is larger than the cache, not cached", key);
+            return;
+        }
+        var previous = entries.put(key, new CacheEntry(tripleStore, entrySize));
+        size += entrySize - (previous == null ? 0 : previous.size());
+        var iterator = entries.values().iterator();
+        while (size > maxSize) {
+            size -= iterator.next().size();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * @return The total estimated memory in bytes of the cached boundary files.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+}
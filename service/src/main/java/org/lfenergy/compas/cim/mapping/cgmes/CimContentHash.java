@@ -0,0 +1,134 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.cgmes;
+
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import org.lfenergy.compas.cim.mapping.model.CimData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Creates a SHA-256 hash of the names and content of CIM Files, used as key to cache what's created from them.
+ */
+public final class CimContentHash {
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    CimContentHash() {
+        throw new UnsupportedOperationException("CimContentHash class");
+    }
+
+    /**
+     * Create the hash from the names and content of the CIM Data, the content is encoded in chunks instead of
+     * copying it completely.
+     *
+     * @param cimData The CIM XML Data.
+     * @return The SHA-256 hash of the CIM Data, hex encoded.
+     */
+    public static String of(List<CimData> cimData) {
+        var digest = createDigest();
+        var encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        // Sorted, so the same CIM Data passed in another order creates the same hash.
+        var sortedCimData = cimData.stream()
+                .sorted(Comparator.comparing(CimData::getName, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+        for (var data : sortedCimData) {
+            update(digest, encoder, buffer, data.getName());
+            update(digest, encoder, buffer, data.getRdfData());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Create the hash from the names and content of the CIM Files, the content is read from the data source.
+     *
+     * @param dataSource The data source containing the CIM Files.
+     * @param fileNames  The names of the CIM Files in the data source.
+     * @return The SHA-256 hash of the CIM Files, hex encoded.
+     * @throws IOException When a CIM File can't be read.
+     */
+    public static String of(ReadOnlyDataSource dataSource, Collection<String> fileNames) throws IOException {
+        var digest = createDigest();
+        // Sorted, because the data source doesn't define the order of the names.
+        for (var fileName : new TreeSet<>(fileNames)) {
+            update(digest, fileName);
+            try (InputStream content = dataSource.newInputStream(fileName);
+                 OutputStream digestStream = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                content.transferTo(digestStream);
+            }
+            // Separate the content from the next name.
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Create the hash from the name and content of a single CIM File, the same hash as
+     * {@link #of(ReadOnlyDataSource, Collection)} creates for that file.
+     *
+     * @param fileName The name of the CIM File.
+     * @param content  The content of the CIM File.
+     * @return The SHA-256 hash of the CIM File, hex encoded.
+     */
+    public static String of(String fileName, byte[] content) {
+        var digest = createDigest();
+        update(digest, fileName);
+        digest.update(content);
+        digest.update((byte) 0);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        var bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        // Prefix the length, so the boundary between the name and the content is part of the hash.
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static void update(MessageDigest digest, CharsetEncoder encoder, ByteBuffer buffer, String value) {
+        var chars = CharBuffer.wrap(value == null ? "" : value);
+        // Prefix the number of characters, so the boundary between the name and the content is part of the hash.
+        buffer.clear();
+        buffer.putInt(chars.length());
+        encoder.reset();
+        while (encoder.encode(chars, buffer, true).isOverflow()) {
+            drain(digest, buffer);
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            drain(digest, buffer);
+        }
+        drain(digest, buffer);
+    }
+
+    private static void drain(MessageDigest digest, ByteBuffer buffer) {
+        buffer.flip();
+        digest.update(buffer);
+        buffer.clear();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exp) {
+            throw new IllegalStateException("SHA-256 not supported", exp);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.cgmes;
+
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.lfenergy.compas.cim.mapping.constraint.impl.CimDataNamePatternValidator.REGEX_VALID_NAME;
+
+/**
+ * ReadOnlyDataSource that spools the CIM Files to a temporary directory, so the content never needs to be
+ * held in memory. PowSyBl opens every file more than once while reading the model, which is why the content
+ * can't be passed as a single InputStream.
+ * The temporary files are removed when the data source is closed.
+ */
+public class CimFileDataSource implements ReadOnlyDataSource, Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(CimFileDataSource.class);
+    private static final String ZIP_EXTENSION = ".zip";
+    private static final String GZIP_EXTENSION = ".gz";
+    private static final Pattern VALID_NAME_PATTERN = Pattern.compile(REGEX_VALID_NAME);
+
+    // Limits on what an archive may inflate to, so a small Zip or GZip bomb can't fill the disk.
+    public static final long DEFAULT_MAX_INFLATED_SIZE = 1024L * 1024 * 1024;
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private final Path directory;
+    private final long maxInflatedSize;
+    private final int maxEntries;
+    private final Map<String, Path> files = new LinkedHashMap<>();
+    private long size;
+    // Only ever increases, so a file added after a replaced one never gets the name of a file still in use.
+    private int fileCounter;
+
+    public CimFileDataSource() throws IOException {
+        this(DEFAULT_MAX_INFLATED_SIZE, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxInflatedSize The maximum number of bytes all CIM Files together may have after the archives
+     *                        are decompressed.
+     * @param maxEntries      The maximum number of entries in a Zip archive, also counting the skipped ones.
+     * @throws IOException When the temporary directory can't be created.
+     */
+    public CimFileDataSource(long maxInflatedSize, int maxEntries) throws IOException {
+        this.maxInflatedSize = maxInflatedSize;
+        this.maxEntries = maxEntries;
+        this.directory = Files.createTempDirectory("compas-cim-mapping-");
+    }
+
+    /**
+     * Copy the content of a CIM File to the temporary directory. The name is only used to find the file again,
+     * the file on disk gets a generated name, so the name passed by a client never ends up in a path.
+     *
+     * @param fileName The name of the CIM File, used by PowSyBl to determine the profile.
+     * @param content  The content of the CIM File, read until the end.
+     * @throws IOException When the content can't be read or written.
+     */
+    public void addFile(String fileName, InputStream content) throws IOException {
+        var file = directory.resolve("cim-" + fileCounter++ + ".xml");
+        try {
+            size += Files.copy(content, file);
+        } catch (IOException exp) {
+            Files.deleteIfExists(file);
+            throw exp;
+        }
+        var previous = files.put(fileName, file);
+        if (previous != null) {
+            size -= Files.size(previous);
+            Files.deleteIfExists(previous);
+        }
+    }
+
+    /**
+     * @return The total number of bytes of the CIM Files added, archives are counted decompressed.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Decompress a Zip or GZip archive while reading it and add the CIM Files it contains. The archive is never
+     * inflated in memory, every entry is streamed directly to its own file in the temporary directory.
+     * Entries in a Zip archive that aren't CIM Files (directories, documentation, ...) are skipped, a GZip archive
+     * contains a single CIM File named after the archive without the '.gz' extension.
+     * The decompression stops as soon as the CIM Files get larger than the maximum inflated size or the Zip archive
+     * contains more than the maximum number of entries.
+     *
+     * @param archiveName The name of the archive, the extension determines how it's decompressed.
+     * @param content     The content of the archive.
+     * @throws IOException When the archive can't be read, is too large or the files can't be written.
+     */
+    public void addArchive(String archiveName, InputStream content) throws IOException {
+        var lowerCaseName = archiveName.toLowerCase(Locale.ROOT);
+        if (lowerCaseName.endsWith(ZIP_EXTENSION)) {
+            var zipStream = new ZipInputStream(content);
+            var entries = 0;
+            ZipEntry entry;
+            while ((entry = zipStream.getNextEntry()) != null) {
+                if (++entries > maxEntries) {
+                    throw new IOException("Archive '" + archiveName + "' contains more than " + maxEntries
+                            + " entries");
+                }
+                var entryName = getEntryName(entry);
+                if (!entry.isDirectory() && VALID_NAME_PATTERN.matcher(entryName).matches()) {
+                    LOGGER.debug("Adding CIM File '{}' from archive '{}'", entryName, archiveName);
+                    addFile(entryName, new InflatedInputStream(archiveName, zipStream));
+                } else {
+                    LOGGER.debug("Skipping entry '{}' from archive '{}'", entry.getName(), archiveName);
+                }
+            }
+        } else if (lowerCaseName.endsWith(GZIP_EXTENSION)) {
+            addFile(archiveName.substring(0, archiveName.length() - GZIP_EXTENSION.length()),
+                    new InflatedInputStream(archiveName, new GZIPInputStream(content)));
+        } else {
+            throw new IOException("Unsupported archive '" + archiveName + "'");
+        }
+    }
+
+    /**
+     * The name of the entry without the directories, both Unix and Windows separators are removed.
+     */
+    private static String getEntryName(ZipEntry entry) {
+        var name = entry.getName();
+        return name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+    }
+
+    /**
+     * Check if the name of a file indicates it's an archive supported by {@link #addArchive(String, InputStream)}.
+     *
+     * @param fileName The name of the file.
+     * @return True if the file is a Zip or GZip archive.
+     */
+    public static boolean isArchive(String fileName) {
+        var lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+        return lowerCaseName.endsWith(ZIP_EXTENSION) || lowerCaseName.endsWith(GZIP_EXTENSION);
+    }
+
+    @Override
+    public String getBaseName() {
+        return "";
+    }
+
+    @Override
+    public boolean exists(String suffix, String ext) {
+        return exists(getFileName(suffix, ext));
+    }
+
+    @Override
+    public boolean exists(String fileName) {
+        return files.containsKey(fileName);
+    }
+
+    @Override
+    public InputStream newInputStream(String suffix, String ext) throws IOException {
+        return newInputStream(getFileName(suffix, ext));
+    }
+
+    @Override
+    public InputStream newInputStream(String fileName) throws IOException {
+        var file = files.get(fileName);
+        if (file == null) {
+            throw new NoSuchFileException(fileName);
+        }
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+
+    @Override
+    public Set<String> listNames(String regex) {
+        var pattern = Pattern.compile(regex);
+        return files.keySet().stream()
+                .filter(fileName -> pattern.matcher(fileName).matches())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (var file : files.values()) {
+            Files.deleteIfExists(file);
+        }
+        files.clear();
+        size = 0;
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Stream of an inflated entry that fails as soon as the CIM Files would get larger than the maximum inflated
+     * size, so the entry is never completely written to disk.
+     */
+    private class InflatedInputStream extends FilterInputStream {
+        private final String archiveName;
+        private final long maxBytes;
+        private long bytesRead;
+
+        InflatedInputStream(String archiveName, InputStream inflated) {
+            super(inflated);
+            this.archiveName = archiveName;
+            this.maxBytes = maxInflatedSize - size;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var result = super.read();
+            if (result >= 0) {
+                count(1);
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            var result = super.read(buffer, offset, length);
+            if (result > 0) {
+                count(result);
+            }
+            return result;
+        }
+
+        private void count(int bytes) throws IOException {
+            bytesRead += bytes;
+            if (bytesRead > maxBytes) {
+                throw new IOException("Archive '" + archiveName + "' inflates to more than "
+                        + maxInflatedSize + " bytes");
+            }
+        }
+    }
+
+    private String getFileName(String suffix, String ext) {
+        return getBaseName()
+                + (suffix != null ? suffix : "")
+                + (ext != null && !ext.isEmpty() ? "." + ext : "");
+    }
+}
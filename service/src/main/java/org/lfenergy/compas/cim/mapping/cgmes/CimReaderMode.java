@@ -0,0 +1,19 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.cgmes;
+
+/**
+ * The way the {@link CgmesCimReader} reads the CIM Model from the CIM XML Files.
+ */
+public enum CimReaderMode {
+    /**
+     * The CIM XML Files are loaded in a PowSyBl Triple Store, which is searched using SPARQL Queries.
+     */
+    TRIPLE_STORE,
+    /**
+     * The CIM XML Files are streamed using StAX and only the CIM Classes needed for the IEC SCL are kept,
+     * directly indexed by the ID of their parent. No Triple Store is created.
+     */
+    STAX
+}
@@ -0,0 +1,333 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.cgmes;
+
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lfenergy.compas.cim.mapping.model.*;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * Reader that streams the CIM XML Files (RDF/XML) using StAX and creates the {@link CimModelIndex} directly,
+ * without loading the files in a Triple Store first. Only the properties needed to create the IEC SCL are kept.
+ * <p>
+ * The properties of an element are collected from all files, so elements described in one profile (for instance
+ * the Terminal in EQ) can be completed by another profile (the ConnectivityNode of the Terminal in TP).
+ * The indexes are created after all files are read and follow the same rules as the SPARQL Queries
+ * in {@link org.lfenergy.compas.cim.mapping.mapper.CimQuery}.
+ */
+class CimStaxReader {
+    private static final Logger LOGGER = LogManager.getLogger(CimStaxReader.class);
+
+    private static final String RDF_NS_URI = "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+    private static final String CIM_NS_URI_PREFIX = "http://iec.ch/TC57/";
+
+    private static final String NAME = "IdentifiedObject.name";
+    private static final String DESCRIPTION = "IdentifiedObject.description";
+    private static final String VOLTAGE_LEVEL_SUBSTATION = "VoltageLevel.Substation";
+    private static final String VOLTAGE_LEVEL_BASE_VOLTAGE = "VoltageLevel.BaseVoltage";
+    private static final String BASE_VOLTAGE_NOMINAL_VOLTAGE = "BaseVoltage.nominalVoltage";
+    private static final String EQUIPMENT_CONTAINER = "Equipment.EquipmentContainer";
+    private static final String BAY_VOLTAGE_LEVEL = "Bay.VoltageLevel";
+    private static final String TRANSFORMER_END_TRANSFORMER = "PowerTransformerEnd.PowerTransformer";
+    private static final String TRANSFORMER_END_END_NUMBER = "TransformerEnd.endNumber";
+    private static final String TRANSFORMER_END_TERMINAL = "TransformerEnd.Terminal";
+    private static final String RATIO_TAP_CHANGER_TRANSFORMER_END = "RatioTapChanger.TransformerEnd";
+    private static final String PHASE_TAP_CHANGER_TRANSFORMER_END = "PhaseTapChanger.TransformerEnd";
+    private static final String CONNECTIVITY_NODE_CONTAINER = "ConnectivityNode.ConnectivityNodeContainer";
+    private static final String TERMINAL_CONNECTIVITY_NODE = "Terminal.ConnectivityNode";
+    private static final String TERMINAL_CONDUCTING_EQUIPMENT = "Terminal.ConductingEquipment";
+
+    // Only these properties are kept from the CIM XML Files, all others are skipped.
+    private static final Set<String> PROPERTIES = Set.of(NAME, DESCRIPTION, VOLTAGE_LEVEL_SUBSTATION,
+            VOLTAGE_LEVEL_BASE_VOLTAGE, BASE_VOLTAGE_NOMINAL_VOLTAGE, EQUIPMENT_CONTAINER, BAY_VOLTAGE_LEVEL,
+            TRANSFORMER_END_TRANSFORMER, TRANSFORMER_END_END_NUMBER, TRANSFORMER_END_TERMINAL,
+            RATIO_TAP_CHANGER_TRANSFORMER_END, PHASE_TAP_CHANGER_TRANSFORMER_END, CONNECTIVITY_NODE_CONTAINER,
+            TERMINAL_CONNECTIVITY_NODE, TERMINAL_CONDUCTING_EQUIPMENT);
+
+    private static final Set<String> SWITCH_TYPES = Set.of("Switch", "Breaker", "Disconnector",
+            "LoadBreakSwitch", "ProtectedSwitch", "GroundDisconnector");
+    // The Connectivity Nodes of a Bay are only searched through these Switches, so without the GroundDisconnector.
+    private static final Set<String> BAY_SWITCH_TYPES = Set.of("Switch", "Breaker", "Disconnector",
+            "LoadBreakSwitch", "ProtectedSwitch");
+
+    private final XMLInputFactory xmlInputFactory;
+
+    // All elements found in the CIM XML Files with their ID as key, in the order they were found.
+    private final Map<String, CimElement> elements = new LinkedHashMap<>();
+
+    CimStaxReader() {
+        xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * Read all CIM XML Files from the data source and create the index of the CIM Model.
+     *
+     * @param source The data source containing the CIM XML Files.
+     * @return The index of the CIM Model.
+     * @throws IOException        When one of the files can't be read.
+     * @throws XMLStreamException When one of the files isn't valid XML.
+     */
+    CimModelIndex read(ReadOnlyDataSource source) throws IOException, XMLStreamException {
+        for (var fileName : source.listNames("(?i)^.*\\.xml$")) {
+            LOGGER.debug("Streaming CIM File '{}'", fileName);
+            try (var inputStream = source.newInputStream(fileName)) {
+                read(inputStream);
+            }
+        }
+        LOGGER.debug("Found {} elements in the CIM Files, creating the index.", elements.size());
+        return createIndex();
+    }
+
+    private void read(InputStream inputStream) throws XMLStreamException {
+        var reader = xmlInputFactory.createXMLStreamReader(inputStream);
+        try {
+            // Depth 1 is the rdf:RDF element, depth 2 the CIM elements and depth 3 the properties of these elements.
+            var depth = 0;
+            CimElement element = null;
+            while (reader.hasNext()) {
+                var event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    if (depth == 2) {
+                        element = startElement(reader);
+                    } else if (depth == 3 && element != null && PROPERTIES.contains(reader.getLocalName())) {
+                        readProperty(reader, element);
+                        // Reading the property also consumed the end of the property element.
+                        depth--;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == 2) {
+                        element = null;
+                    }
+                    depth--;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private CimElement startElement(XMLStreamReader reader) {
+        if (!isCimNamespace(reader.getNamespaceURI())) {
+            return null;
+        }
+        var about = reader.getAttributeValue(RDF_NS_URI, "ID");
+        if (about == null) {
+            about = reader.getAttributeValue(RDF_NS_URI, "about");
+        }
+        if (about == null) {
+            return null;
+        }
+        var element = elements.computeIfAbsent(toId(about), CimElement::new);
+        if (element.type == null) {
+            element.type = reader.getLocalName();
+        }
+        return element;
+    }
+
+    private void readProperty(XMLStreamReader reader, CimElement element) throws XMLStreamException {
+        var property = reader.getLocalName();
+        var resource = reader.getAttributeValue(RDF_NS_URI, "resource");
+        if (resource != null) {
+            element.properties.put(property, toId(resource));
+            reader.nextTag();
+        } else {
+            element.properties.put(property, reader.getElementText());
+        }
+    }
+
+    private static boolean isCimNamespace(String namespaceUri) {
+        return namespaceUri != null
+                && namespaceUri.startsWith(CIM_NS_URI_PREFIX)
+                && namespaceUri.toUpperCase(Locale.ROOT).contains("CIM");
+    }
+
+    /**
+     * Convert the value of a rdf:ID, rdf:about or rdf:resource attribute to the ID of the element,
+     * the same way PowSyBl does for the IRIs returned by the Triple Store.
+     */
+    static String toId(String value) {
+        var id = value.substring(value.lastIndexOf('#') + 1);
+        if (id.startsWith("urn:uuid:")) {
+            id = id.substring("urn:uuid:".length());
+        }
+        return id.startsWith("_") ? id.substring(1) : id;
+    }
+
+    private CimModelIndex createIndex() {
+        var substations = new ArrayList<CgmesSubstation>();
+        var voltageLevels = new HashMap<String, List<CgmesVoltageLevel>>();
+        var busbarSections = new HashMap<String, List<CgmesBusbarSection>>();
+        var bays = new HashMap<String, List<CgmesBay>>();
+        var transformers = new HashMap<String, List<CgmesTransformer>>();
+        var transformerEnds = new HashMap<String, List<CgmesTransformerEnd>>();
+        var ratioTapChangers = new LinkedHashMap<String, CgmesTapChanger>();
+        var phaseTapChangers = new LinkedHashMap<String, CgmesTapChanger>();
+        var connectivityNodesByBusbarSection = new HashMap<String, List<CgmesConnectivityNode>>();
+        var connectivityNodesByBay = new HashMap<String, Set<CgmesConnectivityNode>>();
+        var switches = new HashMap<String, List<CgmesSwitch>>();
+        var terminalsByConductingEquipment = new HashMap<String, List<CgmesTerminal>>();
+        var terminalsById = new HashMap<String, CgmesTerminal>();
+
+        for (var element : elements.values()) {
+            var type = element.type;
+            if ("Substation".equals(type)) {
+                substations.add(new CgmesSubstation(element.id, element.get(NAME)));
+            } else if ("VoltageLevel".equals(type) && element.has(VOLTAGE_LEVEL_SUBSTATION, VOLTAGE_LEVEL_BASE_VOLTAGE)) {
+                add(voltageLevels, element.get(VOLTAGE_LEVEL_SUBSTATION), new CgmesVoltageLevel(element.id,
+                        element.get(NAME), getNominalVoltage(element.get(VOLTAGE_LEVEL_BASE_VOLTAGE))));
+            } else if ("BusbarSection".equals(type) && element.has(EQUIPMENT_CONTAINER)) {
+                add(busbarSections, element.get(EQUIPMENT_CONTAINER),
+                        new CgmesBusbarSection(element.id, element.get(NAME)));
+            } else if ("Bay".equals(type) && element.has(BAY_VOLTAGE_LEVEL)) {
+                add(bays, element.get(BAY_VOLTAGE_LEVEL), new CgmesBay(element.id, element.get(NAME)));
+            } else if ("PowerTransformer".equals(type) && element.has(EQUIPMENT_CONTAINER)) {
+                add(transformers, element.get(EQUIPMENT_CONTAINER),
+                        new CgmesTransformer(element.id, element.get(NAME), element.get(DESCRIPTION)));
+            } else if ("PowerTransformerEnd".equals(type)) {
+                addTransformerEnd(transformerEnds, element);
+            } else if ("RatioTapChanger".equals(type) && element.has(RATIO_TAP_CHANGER_TRANSFORMER_END)) {
+                ratioTapChangers.putIfAbsent(element.get(RATIO_TAP_CHANGER_TRANSFORMER_END),
+                        new CgmesTapChanger(element.id, element.get(NAME)));
+            } else if (SWITCH_TYPES.contains(type) && element.has(EQUIPMENT_CONTAINER)) {
+                add(switches, element.get(EQUIPMENT_CONTAINER),
+                        new CgmesSwitch(element.id, element.get(NAME), type));
+            } else if ("Terminal".equals(type)) {
+                addTerminal(terminalsByConductingEquipment, terminalsById, element);
+                addConnectivityNodeByBay(connectivityNodesByBay, element);
+            }
+            // The type of the PhaseTapChanger is one of the subclasses, so only check for the property.
+            if (element.has(PHASE_TAP_CHANGER_TRANSFORMER_END)) {
+                phaseTapChangers.putIfAbsent(element.get(PHASE_TAP_CHANGER_TRANSFORMER_END),
+                        new CgmesTapChanger(element.id, element.get(NAME)));
+            }
+            // The type of the Terminal isn't checked for the Connectivity Nodes of a BusbarSection.
+            addConnectivityNodeByBusbarSection(connectivityNodesByBusbarSection, element);
+        }
+
+        // The RatioTapChangers take priority over the PhaseTapChangers.
+        var tapChangers = new HashMap<String, CgmesTapChanger>(ratioTapChangers);
+        phaseTapChangers.forEach(tapChangers::putIfAbsent);
+
+        return new CimModelIndex(substations, voltageLevels, busbarSections, bays, transformers, transformerEnds,
+                tapChangers, connectivityNodesByBusbarSection, sortByName(connectivityNodesByBay), switches,
+                terminalsByConductingEquipment, terminalsById);
+    }
+
+    private double getNominalVoltage(String baseVoltageId) {
+        var baseVoltage = elements.get(baseVoltageId);
+        if (baseVoltage != null && baseVoltage.has(BASE_VOLTAGE_NOMINAL_VOLTAGE)) {
+            return Double.parseDouble(baseVoltage.get(BASE_VOLTAGE_NOMINAL_VOLTAGE));
+        }
+        return Double.NaN;
+    }
+
+    private void addTransformerEnd(Map<String, List<CgmesTransformerEnd>> transformerEnds, CimElement element) {
+        if (!element.has(TRANSFORMER_END_TRANSFORMER, TRANSFORMER_END_END_NUMBER, TRANSFORMER_END_TERMINAL)) {
+            return;
+        }
+        var transformer = elements.get(element.get(TRANSFORMER_END_TRANSFORMER));
+        if (transformer != null && "PowerTransformer".equals(transformer.type)) {
+            // Same as the SPARQL Query, the name of the Transformer is used for the Transformer End.
+            add(transformerEnds, transformer.id, new CgmesTransformerEnd(element.id, transformer.get(NAME),
+                    element.get(TRANSFORMER_END_TERMINAL), element.get(TRANSFORMER_END_END_NUMBER)));
+        }
+    }
+
+    private void addTerminal(Map<String, List<CgmesTerminal>> terminalsByConductingEquipment,
+                             Map<String, CgmesTerminal> terminalsById,
+                             CimElement element) {
+        if (!element.has(TERMINAL_CONDUCTING_EQUIPMENT)) {
+            return;
+        }
+        var conductingEquipment = elements.get(element.get(TERMINAL_CONDUCTING_EQUIPMENT));
+        if (conductingEquipment != null && conductingEquipment.type != null) {
+            var terminal = new CgmesTerminal(element.id, element.get(NAME), element.get(TERMINAL_CONNECTIVITY_NODE));
+            add(terminalsByConductingEquipment, conductingEquipment.id, terminal);
+            terminalsById.putIfAbsent(terminal.id(), terminal);
+        }
+    }
+
+    private void addConnectivityNodeByBusbarSection(Map<String, List<CgmesConnectivityNode>> connectivityNodes,
+                                                    CimElement element) {
+        if (!element.has(TERMINAL_CONNECTIVITY_NODE, TERMINAL_CONDUCTING_EQUIPMENT)) {
+            return;
+        }
+        var connectivityNode = elements.get(element.get(TERMINAL_CONNECTIVITY_NODE));
+        if (connectivityNode != null && connectivityNode.has(CONNECTIVITY_NODE_CONTAINER)) {
+            add(connectivityNodes, element.get(TERMINAL_CONDUCTING_EQUIPMENT),
+                    new CgmesConnectivityNode(connectivityNode.id, connectivityNode.get(NAME)));
+        }
+    }
+
+    private void addConnectivityNodeByBay(Map<String, Set<CgmesConnectivityNode>> connectivityNodes,
+                                          CimElement element) {
+        if (!element.has(TERMINAL_CONNECTIVITY_NODE, TERMINAL_CONDUCTING_EQUIPMENT)) {
+            return;
+        }
+        var connectivityNode = elements.get(element.get(TERMINAL_CONNECTIVITY_NODE));
+        var conductingEquipment = elements.get(element.get(TERMINAL_CONDUCTING_EQUIPMENT));
+        if (connectivityNode != null && "ConnectivityNode".equals(connectivityNode.type)
+                && conductingEquipment != null && BAY_SWITCH_TYPES.contains(conductingEquipment.type)
+                && conductingEquipment.has(EQUIPMENT_CONTAINER)) {
+            connectivityNodes.computeIfAbsent(conductingEquipment.get(EQUIPMENT_CONTAINER), key -> new LinkedHashSet<>())
+                    .add(new CgmesConnectivityNode(connectivityNode.id, connectivityNode.get(NAME)));
+        }
+    }
+
+    /*
+     * The SPARQL Query returns the Connectivity Nodes of a Bay ordered by name, elements without a name first.
+     */
+    private static Map<String, List<CgmesConnectivityNode>> sortByName(
+            Map<String, Set<CgmesConnectivityNode>> connectivityNodes) {
+        var comparator = Comparator.comparing(CgmesConnectivityNode::name,
+                Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+        var sorted = new HashMap<String, List<CgmesConnectivityNode>>();
+        connectivityNodes.forEach((containerId, nodes) ->
+                sorted.put(containerId, nodes.stream().sorted(comparator).toList()));
+        return sorted;
+    }
+
+    private static <T> void add(Map<String, List<T>> index, String parentId, T value) {
+        index.computeIfAbsent(parentId, key -> new ArrayList<>()).add(value);
+    }
+
+    /**
+     * An element from the CIM XML Files with the properties that are kept.
+     */
+    private static final class CimElement {
+        private final String id;
+        private final Map<String, String> properties = new HashMap<>();
+        private String type;
+
+        private CimElement(String id) {
+            this.id = id;
+        }
+
+        private String get(String property) {
+            return properties.get(property);
+        }
+
+        private boolean has(String... propertiesNeeded) {
+            for (var property : propertiesNeeded) {
+                if (!properties.containsKey(property)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.cgmes;
+
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * ReadOnlyDataSource that only shows part of the CIM Files of another data source, used to read the boundary
+ * files separately from the other CIM Files. The content is read from the other data source.
+ */
+class CimSubsetDataSource implements ReadOnlyDataSource {
+    private final ReadOnlyDataSource source;
+    private final Predicate<String> includeFile;
+
+    /**
+     * @param source      The data source containing all CIM Files.
+     * @param includeFile Decides, using the name of the file, if the file is part of this data source.
+     */
+    CimSubsetDataSource(ReadOnlyDataSource source, Predicate<String> includeFile) {
+        this.source = source;
+        this.includeFile = includeFile;
+    }
+
+    @Override
+    public String getBaseName() {
+        // Same base name as the source, so relative IRIs are resolved the same way.
+        return source.getBaseName();
+    }
+
+    @Override
+    public boolean exists(String suffix, String ext) throws IOException {
+        return exists(getFileName(suffix, ext));
+    }
+
+    @Override
+    public boolean exists(String fileName) throws IOException {
+        return includeFile.test(fileName) && source.exists(fileName);
+    }
+
+    @Override
+    public InputStream newInputStream(String suffix, String ext) throws IOException {
+        return newInputStream(getFileName(suffix, ext));
+    }
+
+    @Override
+    public InputStream newInputStream(String fileName) throws IOException {
+        if (!includeFile.test(fileName)) {
+            throw new NoSuchFileException(fileName);
+        }
+        return source.newInputStream(fileName);
+    }
+
+    @Override
+    public Set<String> listNames(String regex) throws IOException {
+        return source.listNames(regex).stream()
+                .filter(includeFile)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private String getFileName(String suffix, String ext) {
+        return getBaseName()
+                + (suffix != null ? suffix : "")
+                + (ext != null && !ext.isEmpty() ? "." + ext : "");
+    }
+}
@@ -0,0 +1,37 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.cgmes;
+
+import com.powsybl.triplestore.api.TripleStoreFactory;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.UNKNOWN_TRIPLE_STORE_ERROR_CODE;
+
+/**
+ * The Triple Store implementation used by PowSyBl to load the CIM Model. The available implementations are
+ * discovered by PowSyBl from the classpath, the name is checked against these when the selection is created.
+ */
+public class CimTripleStore {
+    private final String implementation;
+
+    public CimTripleStore(String implementation) {
+        if (!TripleStoreFactory.allImplementations().contains(implementation)) {
+            throw new CompasCimMappingException(UNKNOWN_TRIPLE_STORE_ERROR_CODE,
+                    "Unknown Triple Store implementation '" + implementation + "', available are "
+                            + TripleStoreFactory.allImplementations());
+        }
+        this.implementation = implementation;
+    }
+
+    /**
+     * @return The Triple Store selection using the default implementation of PowSyBl.
+     */
+    public static CimTripleStore defaultTripleStore() {
+        return new CimTripleStore(TripleStoreFactory.defaultImplementation());
+    }
+
+    public String getImplementation() {
+        return implementation;
+    }
+}
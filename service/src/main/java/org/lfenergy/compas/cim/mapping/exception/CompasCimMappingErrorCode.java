@@ -13,4 +13,11 @@ public class CompasCimMappingErrorCode {
 
     public static final String UNKNOWN_TYPE_ERROR_CODE = "CIM-0001";
     public static final String NO_DATA_ERROR_CODE = "CIM-0002";
+    public static final String READ_DATA_ERROR_CODE = "CIM-0003";
+    public static final String UNKNOWN_TRIPLE_STORE_ERROR_CODE = "CIM-0004";
+    public static final String JOB_QUEUE_FULL_ERROR_CODE = "CIM-0005";
+    public static final String MAPPING_ERROR_CODE = "CIM-0006";
+    public static final String MEMORY_BUDGET_FULL_ERROR_CODE = "CIM-0007";
+    public static final String BATCH_QUEUE_FULL_ERROR_CODE = "CIM-0008";
+    public static final String UNSUPPORTED_THREAD_MODE_ERROR_CODE = "CIM-0009";
 }
@@ -0,0 +1,47 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configures if the Substations of a CGMES Model are mapped one after another or in parallel. When mapping in
+ * parallel a dedicated pool is used, so the mapping doesn't compete with other users of the common pool.
+ */
+public class CimMappingParallelism implements AutoCloseable {
+    private final ForkJoinPool pool;
+
+    /**
+     * @param parallelism The number of threads used to map the Substations. A value of 1 or less maps the
+     *                    Substations one after another.
+     */
+    public CimMappingParallelism(int parallelism) {
+        this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+
+    /**
+     * @return A configuration that maps the Substations one after another.
+     */
+    public static CimMappingParallelism sequential() {
+        return new CimMappingParallelism(1);
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * @return The pool to map the Substations on, or null if the Substations are mapped one after another.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+}
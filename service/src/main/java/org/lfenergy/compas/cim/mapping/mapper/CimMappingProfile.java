@@ -0,0 +1,108 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Profile of a single conversion, used to find out why a specific CIM Model is slow to convert. It holds the time
+ * and the allocated memory per method of the {@link CimToSclMapperContext} and per SCL Element type, filled by the
+ * {@link CimProfilingContext}, and the number of triples per CIM Class read from the CIM Files.
+ * <p>
+ * The profile is filled by a single thread, the memory allocated is measured for that thread. When the JVM
+ * doesn't support measuring the allocated memory per thread, the allocated bytes are always zero.
+ */
+public class CimMappingProfile {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final Map<String, Entry> methods = new LinkedHashMap<>();
+    private final Map<String, Entry> elements = new LinkedHashMap<>();
+    private Map<String, Long> triplesByClass = Map.of();
+    private Duration readTime = Duration.ZERO;
+    private Duration mapTime = Duration.ZERO;
+
+    /**
+     * Time and memory of one or more calls of a method, or one or more mapped SCL Elements of the same type.
+     *
+     * @param count          The number of calls or mapped SCL Elements.
+     * @param nanos          The total time in nanoseconds.
+     * @param allocatedBytes The total memory allocated in bytes.
+     */
+    public record Entry(long count, long nanos, long allocatedBytes) {
+        Entry add(Entry other) {
+            return new Entry(count + other.count, nanos + other.nanos, allocatedBytes + other.allocatedBytes);
+        }
+
+        public Duration getTime() {
+            return Duration.ofNanos(nanos);
+        }
+    }
+
+    void addMethod(String method, long nanos, long allocatedBytes) {
+        methods.merge(method, new Entry(1, nanos, allocatedBytes), Entry::add);
+    }
+
+    void addElement(String elementType, long nanos, long allocatedBytes) {
+        elements.merge(elementType, new Entry(1, nanos, allocatedBytes), Entry::add);
+    }
+
+    /**
+     * @return The time and memory per method of the context, in the order the methods were first called.
+     */
+    public Map<String, Entry> getMethods() {
+        return Collections.unmodifiableMap(methods);
+    }
+
+    /**
+     * @return The time and memory per SCL Element type, excluding the nested SCL Elements, in the order the types
+     * were first mapped.
+     */
+    public Map<String, Entry> getElements() {
+        return Collections.unmodifiableMap(elements);
+    }
+
+    /**
+     * @return The number of triples per CIM Class, empty when the CIM Model isn't read into a Triple Store.
+     */
+    public Map<String, Long> getTriplesByClass() {
+        return triplesByClass;
+    }
+
+    public void setTriplesByClass(Map<String, Long> triplesByClass) {
+        this.triplesByClass = Collections.unmodifiableMap(new LinkedHashMap<>(triplesByClass));
+    }
+
+    public Duration getReadTime() {
+        return readTime;
+    }
+
+    public void setReadTime(Duration readTime) {
+        this.readTime = readTime;
+    }
+
+    public Duration getMapTime() {
+        return mapTime;
+    }
+
+    public void setMapTime(Duration mapTime) {
+        this.mapTime = mapTime;
+    }
+
+    /**
+     * @return The number of bytes allocated by the current thread until now, or zero if not supported.
+     */
+    static long allocatedBytes() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean sunThreadMXBean
+                && sunThreadMXBean.isThreadAllocatedMemorySupported()
+                && sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return sunThreadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+}
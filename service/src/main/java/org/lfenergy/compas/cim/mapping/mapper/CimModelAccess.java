@@ -0,0 +1,531 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.triplestore.api.PropertyBag;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.cim.mapping.model.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.MAPPING_ERROR_CODE;
+
+/**
+ * Read-only access to the CGMES Model used by the mapper, either by querying the Triple Store or from an index
+ * created by the StAX Reader. The access can be shared by multiple threads mapping the Substations of the
+ * same Model, the state needed to walk through a single Substation is kept in the {@link CimToSclMapperContext}.
+ * <p>
+ * The indexes are filled the first time they're needed. They are only published when completely filled, so
+ * threads using the same access at most fill an index more than once, which can be prevented by calling
+ * {@link #prepareIndexes()} before the access is shared.
+ */
+public class CimModelAccess {
+    public static final String SUBSTATION_PROP = "Substation";
+    public static final String VOLTAGE_LEVEL_PROP = "VoltageLevel";
+    public static final String BUSBARSECTION_PROP = "BusbarSection";
+    public static final String BAY_PROP = "Bay";
+    public static final String POWER_TRANSFORMER_PROP = "PowerTransformer";
+    public static final String TRANSFORMER_END_PROP = "TransformerEnd";
+    public static final String RATIO_TAP_CHANGER_PROP = "RatioTapChanger";
+    public static final String PHASE_TAP_CHANGER_PROP = "PhaseTapChanger";
+    public static final String SWITCH_PROP = "Switch";
+    public static final String TERMINAL_PROP = "Terminal";
+    public static final String CONNECTIVITY_NODE_PROP = "ConnectivityNode";
+    public static final String EQUIPMENT_CONTAINER_PROP = "EquipmentContainer";
+    public static final String CONDUCTING_EQUIPMENT_PROP = "ConductingEquipment";
+
+    public static final String NAME_PROP = "name";
+    public static final String DESCRIPTION_PROP = "description";
+    public static final String NOMINAL_VOLTAGE_PROP = "nominalVoltage";
+    public static final String TYPE_PROP = "type";
+    public static final String END_NUMBER_PROP = "endNumber";
+
+    // Properties holding the IRI of an element that can later be used as parent in one of the queries.
+    private static final List<String> PARENT_PROPS = List.of(SUBSTATION_PROP, VOLTAGE_LEVEL_PROP, BUSBARSECTION_PROP,
+            BAY_PROP, POWER_TRANSFORMER_PROP, TRANSFORMER_END_PROP, SWITCH_PROP, TERMINAL_PROP);
+
+    private final CgmesModel cgmesModel;
+    private final CimQueryMode queryMode;
+    private final CimQueryRegistry queryRegistry;
+
+    /*
+     * Indexes on the CGMES Model, with the ID of the parent as key. Every index is filled once, using a single
+     * query, the first time it's needed. This way the Triple Store isn't queried again for every parent.
+     * Only used when the query mode is INDEXED. When the access is created from a CimModelIndex all indexes
+     * are filled from the start and the Triple Store isn't used at all.
+     */
+    private volatile List<CgmesSubstation> substations;
+    private volatile Map<String, List<CgmesVoltageLevel>> voltageLevelsBySubstation;
+    private volatile Map<String, List<CgmesBusbarSection>> busbarSectionsByContainer;
+    private volatile Map<String, List<CgmesBay>> baysByVoltageLevel;
+    private volatile Map<String, List<CgmesTransformer>> transformersByContainer;
+    private volatile Map<String, List<CgmesTransformerEnd>> transformerEndsByTransformer;
+    private volatile Map<String, List<CgmesConnectivityNode>> connectivityNodesByBusbarSection;
+    private volatile Map<String, List<CgmesConnectivityNode>> connectivityNodesByBay;
+    private volatile Map<String, List<CgmesSwitch>> switchesByContainer;
+    private volatile Map<String, List<CgmesTerminal>> terminalsByConductingEquipment;
+    private volatile Map<String, CgmesTerminal> terminalsById;
+    private volatile Map<String, CgmesTapChanger> tapChangersByTransformerEnd;
+
+    /*
+     * The namespaces of the IRIs found, being the IRI without the ID at the end. Only used when the query mode
+     * is PER_PARENT, so the IRI of the parent can be rebuilt from its ID and bound in the query. A model only
+     * uses a few namespaces, so this stays small. Filled from multiple threads when the access is shared.
+     */
+    private final Set<String> namespaces = ConcurrentHashMap.newKeySet();
+
+    public CimModelAccess(CgmesModel cgmesModel) {
+        this(cgmesModel, CimQueryMode.INDEXED);
+    }
+
+    public CimModelAccess(CgmesModel cgmesModel, CimQueryMode queryMode) {
+        this(cgmesModel, queryMode, new CimQueryRegistry());
+    }
+
+    public CimModelAccess(CgmesModel cgmesModel, CimQueryMode queryMode, CimQueryRegistry queryRegistry) {
+        this.cgmesModel = cgmesModel;
+        this.queryMode = queryMode;
+        this.queryRegistry = queryRegistry;
+    }
+
+    public CimModelAccess(CimModelIndex modelIndex) {
+        this(null, CimQueryMode.INDEXED, null);
+        this.substations = modelIndex.substations();
+        this.voltageLevelsBySubstation = modelIndex.voltageLevelsBySubstation();
+        this.busbarSectionsByContainer = modelIndex.busbarSectionsByContainer();
+        this.baysByVoltageLevel = modelIndex.baysByVoltageLevel();
+        this.transformersByContainer = modelIndex.transformersByContainer();
+        this.transformerEndsByTransformer = modelIndex.transformerEndsByTransformer();
+        this.tapChangersByTransformerEnd = modelIndex.tapChangersByTransformerEnd();
+        this.connectivityNodesByBusbarSection = modelIndex.connectivityNodesByBusbarSection();
+        this.connectivityNodesByBay = modelIndex.connectivityNodesByBay();
+        this.switchesByContainer = modelIndex.switchesByContainer();
+        this.terminalsByConductingEquipment = modelIndex.terminalsByConductingEquipment();
+        this.terminalsById = modelIndex.terminalsById();
+    }
+
+    /**
+     * Fill all indexes at once, so they are only read when the access is shared by multiple threads.
+     * When the query mode is PER_PARENT nothing is indexed, so nothing needs to be done.
+     */
+    public void prepareIndexes() {
+        if (queryMode == CimQueryMode.INDEXED) {
+            // Every search fills its index the first time it's called, the result for the empty ID isn't used.
+            getVoltageLevelsBySubstation("");
+            getBusbarSectionsByEquipmentContainer("");
+            getBaysByVoltageLevel("");
+            getTransformers("");
+            getTransformerEnds("");
+            getTapChanger("");
+            getConnectivityNodeByBusbarSection("");
+            getConnectivityNodeByBay("");
+            getSwitches("");
+            getTerminalsByConductingEquipment("");
+        }
+    }
+
+    /**
+     * Search the CGMES Model for all Substations.
+     *
+     * @return The List of converted CGMES Substations that were found.
+     */
+    public List<CgmesSubstation> getSubstations() {
+        if (substations != null) {
+            return substations;
+        }
+        var result = query(CimQuery.SUBSTATION, null)
+                .stream()
+                .map(propertyBag -> new CgmesSubstation(
+                        propertyBag.getId(SUBSTATION_PROP),
+                        propertyBag.get(NAME_PROP)))
+                .toList();
+        if (queryMode == CimQueryMode.INDEXED) {
+            // Keep the Substations, so counting them before mapping doesn't query the Triple Store twice.
+            substations = result;
+        }
+        return result;
+    }
+
+    /**
+     * Search the CGMES Model for VoltageLevels that are coupled to a specific substation.
+     *
+     * @param substationId The ID of the Substation.
+     * @return The List of converted CGMES VoltageLevels that were found.
+     */
+    public List<CgmesVoltageLevel> getVoltageLevelsBySubstation(String substationId) {
+        Function<PropertyBag, CgmesVoltageLevel> converter = bag -> new CgmesVoltageLevel(
+                bag.getId(VOLTAGE_LEVEL_PROP),
+                bag.get(NAME_PROP),
+                bag.asDouble(NOMINAL_VOLTAGE_PROP));
+        if (queryMode == CimQueryMode.PER_PARENT) {
+            return queryByParent(CimQuery.VOLTAGE_LEVEL, SUBSTATION_PROP, substationId, converter);
+        }
+        if (voltageLevelsBySubstation == null) {
+            voltageLevelsBySubstation = createIndex(CimQuery.VOLTAGE_LEVEL, SUBSTATION_PROP, converter);
+        }
+        return voltageLevelsBySubstation.getOrDefault(substationId, List.of());
+    }
+
+    /**
+     * Search for busbarsections that are coupled to a specific Equipment Container.
+     *
+     * @param containerId The ID of the Equipment Container to filter on.
+     * @return The list of converted CGMES BusbarSections that were found.
+     */
+    public List<CgmesBusbarSection> getBusbarSectionsByEquipmentContainer(String containerId) {
+        Function<PropertyBag, CgmesBusbarSection> converter = bag -> new CgmesBusbarSection(
+                bag.getId(BUSBARSECTION_PROP),
+                bag.get(NAME_PROP));
+        if (queryMode == CimQueryMode.PER_PARENT) {
+            return queryByParent(CimQuery.BUSBARSECTION, EQUIPMENT_CONTAINER_PROP, containerId, converter);
+        }
+        if (busbarSectionsByContainer == null) {
+            busbarSectionsByContainer = createIndex(CimQuery.BUSBARSECTION, EQUIPMENT_CONTAINER_PROP, converter);
+        }
+        return busbarSectionsByContainer.getOrDefault(containerId, List.of());
+    }
+
+    /**
+     * Search for bays that are coupled to a specific Voltage Level.
+     *
+     * @param voltageLevelId The ID of the Voltage Level to filter on.
+     * @return The list of converted CGMES Bays that were found.
+     */
+    public List<CgmesBay> getBaysByVoltageLevel(String voltageLevelId) {
+        Function<PropertyBag, CgmesBay> converter = bag -> new CgmesBay(
+                bag.getId(BAY_PROP),
+                bag.get(NAME_PROP));
+        if (queryMode == CimQueryMode.PER_PARENT) {
+            return queryByParent(CimQuery.BAY, VOLTAGE_LEVEL_PROP, voltageLevelId, converter);
+        }
+        if (baysByVoltageLevel == null) {
+            baysByVoltageLevel = createIndex(CimQuery.BAY, VOLTAGE_LEVEL_PROP, converter);
+        }
+        return baysByVoltageLevel.getOrDefault(voltageLevelId, List.of());
+    }
+
+    /**
+     * Search the CGMES Model for Power-Transformers that are coupled to a specific container.
+     *
+     * @param containerId The ID of the Container.
+     * @return The List of converted CGMES Power-Transformers that were found.
+     */
+    public List<CgmesTransformer> getTransformers(String containerId) {
+        Function<PropertyBag, CgmesTransformer> converter = bag -> new CgmesTransformer(
+                bag.getId(POWER_TRANSFORMER_PROP),
+                bag.get(NAME_PROP),
+                bag.get(DESCRIPTION_PROP));
+        if (queryMode == CimQueryMode.PER_PARENT) {
+            return queryByParent(CimQuery.POWER_TRANSFORMER, EQUIPMENT_CONTAINER_PROP, containerId, converter);
+        }
+        if (transformersByContainer == null) {
+            transformersByContainer = createIndex(CimQuery.POWER_TRANSFORMER, EQUIPMENT_CONTAINER_PROP, converter);
+        }
+        return transformersByContainer.getOrDefault(containerId, List.of());
+    }
+
+    /**
+     * Search the CGMES Model for Power-Transformer Ends that are coupled to a specific Power-Transformer.
+     *
+     * @param powerTransformerId The ID of the Power-Transformer.
+     * @return The List of converted CGMES Power-Transformer Ends that were found.
+     */
+    public List<CgmesTransformerEnd> getTransformerEnds(String powerTransformerId) {
+        Function<PropertyBag, CgmesTransformerEnd> converter = propertyBag -> new CgmesTransformerEnd(
+                propertyBag.getId(TRANSFORMER_END_PROP),
+                propertyBag.get(NAME_PROP),
+                propertyBag.getId(TERMINAL_PROP),
+                propertyBag.get(END_NUMBER_PROP));
+        if (queryMode == CimQueryMode.PER_PARENT) {
+            return queryByParent(CimQuery.TRANSFORMER_END, POWER_TRANSFORMER_PROP, powerTransformerId, converter);
+        }
+        if (transformerEndsByTransformer == null) {
+            transformerEndsByTransformer = createIndex(CimQuery.TRANSFORMER_END, POWER_TRANSFORMER_PROP, converter);
+        }
+        return transformerEndsByTransformer.getOrDefault(powerTransformerId, List.of());
+    }
+
+    /**
+     * Search the CGMES Model for a RatioTapChanger or PhaseTapChanger that are coupled to a Power-Transformer End.
+     *
+     * @param powerTransformerEndId The ID of the Power-Transformer End.
+     * @return The converted CGMEs TapChanger found, or Empty Optional if non.
+     */
+    public Optional<CgmesTapChanger> getTapChanger(String powerTransformerEndId) {
+        if (queryMode == CimQueryMode.PER_PARENT) {
+            // Search the RatioTapChangers first and only search the PhaseTapChangers if none was found.
+            return queryFirstByParent(CimQuery.RATIO_TAP_CHANGER, TRANSFORMER_END_PROP, powerTransformerEndId,
+                    propertyBag -> toTapChanger(propertyBag, RATIO_TAP_CHANGER_PROP))
+                    .or(() -> queryFirstByParent(CimQuery.PHASE_TAP_CHANGER, TRANSFORMER_END_PROP,
+                            powerTransformerEndId, propertyBag -> toTapChanger(propertyBag, PHASE_TAP_CHANGER_PROP)));
+        }
+        if (tapChangersByTransformerEnd == null) {
+            var index = new HashMap<String, CgmesTapChanger>();
+            // Convert all the RatioTapChangers from CIM first, so these take priority over the PhaseTapChangers.
+            addTapChangers(index, CimQuery.RATIO_TAP_CHANGER, RATIO_TAP_CHANGER_PROP);
+            // Convert all the PhaseTapChangers from CIM for the Power-Transformer Ends that have none yet.
+            addTapChangers(index, CimQuery.PHASE_TAP_CHANGER, PHASE_TAP_CHANGER_PROP);
+            tapChangersByTransformerEnd = index;
+        }
+        return Optional.ofNullable(tapChangersByTransformerEnd.get(powerTransformerEndId));
+    }
+
+    private void addTapChangers(Map<String, CgmesTapChanger> index, CimQuery query, String idName) {
+        try (var execution = queryRegistry.start(query)) {
+            var filteredRows = 0;
+            for (var propertyBag : query(execution, null)) {
+                if (index.putIfAbsent(propertyBag.getId(TRANSFORMER_END_PROP),
+                        toTapChanger(propertyBag, idName)) != null) {
+                    filteredRows++;
+                }
+            }
+            execution.setFilteredRows(filteredRows);
+        }
+    }
+
+    private CgmesTapChanger toTapChanger(PropertyBag propertyBag, String idName) {
+        return new CgmesTapChanger(
+                propertyBag.getId(idName),
+                propertyBag.get(NAME_PROP));
+    }
+
+    /**
+     * Search the CGMES Model for Connectivity Nodes that are coupled to a BusbarSection.
+     *
+     * @param busbarSectionId The ID of the BusbarSection.
+     * @return The List of converted CGMES Connectivity Nodes that were found.
+     */
+    public List<CgmesConnectivityNode> getConnectivityNodeByBusbarSection(String busbarSectionId) {
+        Function<PropertyBag, CgmesConnectivityNode> converter = propertyBag -> new CgmesConnectivityNode(
+                propertyBag.getId(CONNECTIVITY_NODE_PROP),
+                propertyBag.get(NAME_PROP));
+        if (queryMode == CimQueryMode.PER_PARENT) {
+            return queryByParent(CimQuery.CONNECTIVITY_NODE_BY_BUSBARSECTION, CONDUCTING_EQUIPMENT_PROP,
+                    busbarSectionId, converter);
+        }
+        if (connectivityNodesByBusbarSection == null) {
+            connectivityNodesByBusbarSection = createIndex(CimQuery.CONNECTIVITY_NODE_BY_BUSBARSECTION,
+                    CONDUCTING_EQUIPMENT_PROP, converter);
+        }
+        return connectivityNodesByBusbarSection.getOrDefault(busbarSectionId, List.of());
+    }
+
+    /**
+     * Search the CGMES Model for Connectivity Nodes that are coupled to a specific container.
+     *
+     * @param containerId The ID of the Container.
+     * @return The List of converted CGMES Connectivity Nodes that were found.
+     */
+    public List<CgmesConnectivityNode> getConnectivityNodeByBay(String containerId) {
+        Function<PropertyBag, CgmesConnectivityNode> converter = propertyBag -> new CgmesConnectivityNode(
+                propertyBag.getId(CONNECTIVITY_NODE_PROP),
+                propertyBag.get(NAME_PROP));
+        if (queryMode == CimQueryMode.PER_PARENT) {
+            return queryByParent(CimQuery.CONNECTIVITY_NODE_BY_BAY, EQUIPMENT_CONTAINER_PROP, containerId, converter);
+        }
+        if (connectivityNodesByBay == null) {
+            connectivityNodesByBay = createIndex(CimQuery.CONNECTIVITY_NODE_BY_BAY, EQUIPMENT_CONTAINER_PROP, converter);
+        }
+        return connectivityNodesByBay.getOrDefault(containerId, List.of());
+    }
+
+    /**
+     * Search the CGMES Model for Switches (Breakers, Disconnector and more) that are coupled to a specific container.
+     *
+     * @param containerId The ID of the Container.
+     * @return The List of converted CGMES Switches that were found.
+     */
+    public List<CgmesSwitch> getSwitches(String containerId) {
+        Function<PropertyBag, CgmesSwitch> converter = propertyBag -> new CgmesSwitch(
+                propertyBag.getId(SWITCH_PROP),
+                propertyBag.get(NAME_PROP),
+                propertyBag.getLocal(TYPE_PROP));
+        if (queryMode == CimQueryMode.PER_PARENT) {
+            return queryByParent(CimQuery.SWITCH, EQUIPMENT_CONTAINER_PROP, containerId, converter);
+        }
+        if (switchesByContainer == null) {
+            switchesByContainer = createIndex(CimQuery.SWITCH, EQUIPMENT_CONTAINER_PROP, converter);
+        }
+        return switchesByContainer.getOrDefault(containerId, List.of());
+    }
+
+    /**
+     * Search the CGMES Model for Terminals that are coupled to a specific Conducting Equipment.
+     *
+     * @param conductingEquipmentId The ID of the Conducting Equipment.
+     * @return The List of converted CGMES Terminals that were found.
+     */
+    public List<CgmesTerminal> getTerminalsByConductingEquipment(String conductingEquipmentId) {
+        if (queryMode == CimQueryMode.PER_PARENT) {
+            return queryByParent(CimQuery.TERMINAL, CONDUCTING_EQUIPMENT_PROP, conductingEquipmentId,
+                    this::toTerminal);
+        }
+        if (terminalsByConductingEquipment == null) {
+            indexTerminals();
+        }
+        return terminalsByConductingEquipment.getOrDefault(conductingEquipmentId, List.of());
+    }
+
+    /**
+     * Search the CGMES Model for a Terminal with a specific ID.
+     *
+     * @param terminalId The ID of the Terminal.
+     * @return The converted CGMES Terminal that is found.
+     */
+    public Optional<CgmesTerminal> getTerminalById(String terminalId) {
+        if (queryMode == CimQueryMode.PER_PARENT) {
+            return queryFirstByParent(CimQuery.TERMINAL, TERMINAL_PROP, terminalId, this::toTerminal);
+        }
+        if (terminalsById == null) {
+            indexTerminals();
+        }
+        return Optional.ofNullable(terminalsById.get(terminalId));
+    }
+
+    /**
+     * Both the Terminals by Conducting Equipment and the Terminals by ID are filled from the same query,
+     * so the Terminals only need to be retrieved once from the Triple Store.
+     */
+    private void indexTerminals() {
+        var bags = query(CimQuery.TERMINAL, null);
+
+        var byConductingEquipment = new HashMap<String, List<CgmesTerminal>>();
+        var byId = new HashMap<String, CgmesTerminal>();
+        bags.forEach(bag -> {
+            var terminal = toTerminal(bag);
+            byConductingEquipment.computeIfAbsent(bag.getId(CONDUCTING_EQUIPMENT_PROP), key -> new ArrayList<>())
+                    .add(terminal);
+            // Keep the first one found, same as searching through the list would do.
+            byId.putIfAbsent(terminal.id(), terminal);
+        });
+        terminalsByConductingEquipment = byConductingEquipment;
+        terminalsById = byId;
+    }
+
+    private CgmesTerminal toTerminal(PropertyBag propertyBag) {
+        return new CgmesTerminal(
+                propertyBag.getId(TERMINAL_PROP),
+                propertyBag.get(NAME_PROP),
+                propertyBag.getId(CONNECTIVITY_NODE_PROP));
+    }
+
+    /**
+     * Execute the query without a binding of the parent, convert all the PropertyBags returned and group them by
+     * the ID of their parent. The order in which the query returned the PropertyBags is kept per parent.
+     *
+     * @param query      The query to execute.
+     * @param parentProp The name of the property holding the ID of the parent.
+     * @param converter  The function to convert a PropertyBag to a CGMES Record.
+     * @param <T>        The type of CGMES Record created.
+     * @return The Map with the ID of the parent as key and the list of converted CGMES Records as value.
+     */
+    private <T> Map<String, List<T>> createIndex(CimQuery query,
+                                                 String parentProp,
+                                                 Function<PropertyBag, T> converter) {
+        var index = new HashMap<String, List<T>>();
+        query(query, null)
+                .forEach(bag -> index.computeIfAbsent(bag.getId(parentProp), key -> new ArrayList<>())
+                        .add(converter.apply(bag)));
+        return index;
+    }
+
+    /**
+     * Execute the query with the parent bound in the query, so the Triple Store only returns the PropertyBags
+     * of that parent.
+     *
+     * @param query      The query to execute.
+     * @param parentProp The name of the property (and variable in the query) holding the ID of the parent.
+     * @param parentId   The ID of the parent.
+     * @param converter  The function to convert a PropertyBag to a CGMES Record.
+     * @param <T>        The type of CGMES Record created.
+     * @return The list of converted CGMES Records found for the parent.
+     */
+    private <T> List<T> queryByParent(CimQuery query,
+                                      String parentProp,
+                                      String parentId,
+                                      Function<PropertyBag, T> converter) {
+        return query(query, bindParent(parentProp, parentId))
+                .stream()
+                .map(converter)
+                .toList();
+    }
+
+    /**
+     * Same as {@link #queryByParent}, but only the first PropertyBag found is converted. The others are recorded
+     * as filtered rows in the span of the query.
+     *
+     * @param query      The query to execute.
+     * @param parentProp The name of the property (and variable in the query) holding the ID of the parent.
+     * @param parentId   The ID of the parent.
+     * @param converter  The function to convert a PropertyBag to a CGMES Record.
+     * @param <T>        The type of CGMES Record created.
+     * @return The converted CGMES Record found first for the parent, or empty if none found.
+     */
+    private <T> Optional<T> queryFirstByParent(CimQuery query,
+                                               String parentProp,
+                                               String parentId,
+                                               Function<PropertyBag, T> converter) {
+        try (var execution = queryRegistry.start(query)) {
+            var bags = query(execution, bindParent(parentProp, parentId));
+            execution.setFilteredRows(Math.max(0, bags.size() - 1));
+            return bags.stream()
+                    .findFirst()
+                    .map(converter);
+        }
+    }
+
+    /**
+     * Create the binding of the parent in the query. The IRI of the parent is rebuilt from its ID using the
+     * namespaces of the elements found by the previous queries and bound directly to the variable, so the
+     * Triple Store only needs an exact match.
+     *
+     * @param parentProp The name of the variable in the query holding the parent.
+     * @param parentId   The ID of the parent.
+     * @return The binding to add to the query.
+     * @throws CompasCimMappingException When no namespace is known yet or the ID can't be part of an IRI.
+     */
+    String bindParent(String parentProp, String parentId) {
+        if (namespaces.isEmpty()) {
+            throw new CompasCimMappingException(MAPPING_ERROR_CODE,
+                    "No IRI known to bind parent '" + parentId + "' of " + parentProp);
+        }
+        if (parentId.isEmpty() || parentId.chars().anyMatch(CimModelAccess::isInvalidIriChar)) {
+            throw new CompasCimMappingException(MAPPING_ERROR_CODE,
+                    "Invalid ID '" + parentId + "' to bind parent of " + parentProp);
+        }
+        var values = new StringJoiner(" ", "VALUES ?" + parentProp + " { ", " }");
+        namespaces.forEach(namespace -> values.add("<" + namespace + parentId + ">"));
+        return values.toString();
+    }
+
+    private static boolean isInvalidIriChar(int character) {
+        return character <= ' ' || "<>\"{}|^`\\".indexOf(character) >= 0;
+    }
+
+    private Collection<PropertyBag> query(CimQuery query, String binding) {
+        try (var execution = queryRegistry.start(query)) {
+            return query(execution, binding);
+        }
+    }
+
+    private Collection<PropertyBag> query(CimQueryExecution execution, String binding) {
+        var bags = execution.execute(cgmesModel, binding);
+        if (queryMode == CimQueryMode.PER_PARENT) {
+            // Remember the namespaces found, so the IRI can be bound when an element is used as parent in a next query.
+            bags.forEach(bag -> PARENT_PROPS.stream()
+                    .filter(bag::containsKey)
+                    .forEach(prop -> addNamespace(bag.get(prop), bag.getId(prop))));
+        }
+        return bags;
+    }
+
+    private void addNamespace(String iri, String id) {
+        if (iri != null && id != null && !id.isEmpty() && iri.length() > id.length() && iri.endsWith(id)) {
+            namespaces.add(iri.substring(0, iri.length() - id.length()));
+        }
+    }
+}
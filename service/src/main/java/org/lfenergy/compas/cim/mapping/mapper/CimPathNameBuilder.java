@@ -0,0 +1,66 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+import org.lfenergy.compas.scl2007b4.model.TNaming;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stack of the naming elements passed while mapping, used to create the PathName of a ConnectivityNode.
+ * The path of every depth is kept once it's created, so the PathName of a ConnectivityNode only needs to add
+ * its own name to the path of its parent, instead of joining all names again.
+ * <p>
+ * Remark: the path of a depth is only created when it's needed, because the names of the elements aren't
+ * filled yet when they're added to the stack (BeforeMapping).
+ */
+class CimPathNameBuilder {
+    private static final String SEPARATOR = "/";
+
+    private final List<TNaming> namingLevels = new ArrayList<>();
+    // The path up to and including the element at the same depth, or null if not created yet.
+    private final List<String> paths = new ArrayList<>();
+
+    /**
+     * Adds the naming element to the stack.
+     *
+     * @param tNaming The naming element to add.
+     */
+    void addLast(TNaming tNaming) {
+        namingLevels.add(tNaming);
+        paths.add(null);
+    }
+
+    /**
+     * Remove the last added element from the stack, together with its path.
+     *
+     * @return The removed naming element.
+     */
+    TNaming removeLast() {
+        var lastIndex = namingLevels.size() - 1;
+        paths.remove(lastIndex);
+        return namingLevels.remove(lastIndex);
+    }
+
+    /**
+     * @return The names of all elements on the stack, separated by a slash.
+     */
+    String createPathName() {
+        if (namingLevels.isEmpty()) {
+            return "";
+        }
+        return getPath(namingLevels.size() - 1);
+    }
+
+    private String getPath(int depth) {
+        var path = paths.get(depth);
+        if (path == null) {
+            var name = String.valueOf(namingLevels.get(depth).getName());
+            path = depth == 0 ? name : getPath(depth - 1) + SEPARATOR + name;
+            paths.set(depth, path);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,144 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+import org.lfenergy.compas.cim.mapping.model.*;
+import org.lfenergy.compas.scl2007b4.model.TNaming;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Context that records the time and memory of every search in the CGMES Model and of every SCL Element mapped
+ * in the {@link CimMappingProfile}. The SCL Elements are measured from the moment they're added to the naming
+ * stack until they're removed, minus the time and memory of the SCL Elements nested in them. This way the
+ * numbers of all SCL Element types add up to the total of the mapping.
+ * <p>
+ * The profile is only valid when the Substations are mapped one after another on the same thread.
+ */
+public class CimProfilingContext extends CimToSclMapperContext {
+    private final CimMappingProfile profile;
+    private final Deque<ElementFrame> elementFrames = new ArrayDeque<>();
+
+    public CimProfilingContext(CimModelAccess modelAccess, CimMappingProfile profile) {
+        super(modelAccess);
+        this.profile = profile;
+    }
+
+    @Override
+    public List<CgmesSubstation> getSubstations() {
+        return measure("getSubstations", super::getSubstations);
+    }
+
+    @Override
+    public List<CgmesVoltageLevel> getVoltageLevelsBySubstation(String substationId) {
+        return measure("getVoltageLevelsBySubstation", () -> super.getVoltageLevelsBySubstation(substationId));
+    }
+
+    @Override
+    public List<CgmesBusbarSection> getBusbarSectionsByEquipmentContainer(String containerId) {
+        return measure("getBusbarSectionsByEquipmentContainer",
+                () -> super.getBusbarSectionsByEquipmentContainer(containerId));
+    }
+
+    @Override
+    public List<CgmesBay> getBaysByVoltageLevel(String voltageLevelId) {
+        return measure("getBaysByVoltageLevel", () -> super.getBaysByVoltageLevel(voltageLevelId));
+    }
+
+    @Override
+    public List<CgmesTransformer> getTransformers(String containerId) {
+        return measure("getTransformers", () -> super.getTransformers(containerId));
+    }
+
+    @Override
+    public List<CgmesTransformerEnd> getTransformerEnds(String powerTransformerId) {
+        return measure("getTransformerEnds", () -> super.getTransformerEnds(powerTransformerId));
+    }
+
+    @Override
+    public Optional<CgmesTapChanger> getTapChanger(String powerTransformerEndId) {
+        return measure("getTapChanger", () -> super.getTapChanger(powerTransformerEndId));
+    }
+
+    @Override
+    public List<CgmesConnectivityNode> getConnectivityNodeByBusbarSection(String busbarSectionId) {
+        return measure("getConnectivityNodeByBusbarSection",
+                () -> super.getConnectivityNodeByBusbarSection(busbarSectionId));
+    }
+
+    @Override
+    public List<CgmesConnectivityNode> getConnectivityNodeByBay(String containerId) {
+        return measure("getConnectivityNodeByBay", () -> super.getConnectivityNodeByBay(containerId));
+    }
+
+    @Override
+    public List<CgmesSwitch> getSwitches(String containerId) {
+        return measure("getSwitches", () -> super.getSwitches(containerId));
+    }
+
+    @Override
+    public List<CgmesTerminal> getTerminalsByConductingEquipment(String conductingEquipmentId) {
+        return measure("getTerminalsByConductingEquipment",
+                () -> super.getTerminalsByConductingEquipment(conductingEquipmentId));
+    }
+
+    @Override
+    public Optional<CgmesTerminal> getTerminalById(String terminalId) {
+        return measure("getTerminalById", () -> super.getTerminalById(terminalId));
+    }
+
+    @Override
+    public void addLast(TNaming tNaming) {
+        super.addLast(tNaming);
+        // The JAXB classes of the SCL Elements are prefixed with a 'T', for instance 'TSubstation'.
+        var elementType = tNaming.getClass().getSimpleName().replaceFirst("^T", "");
+        elementFrames.push(new ElementFrame(elementType, System.nanoTime(), CimMappingProfile.allocatedBytes()));
+    }
+
+    @Override
+    public TNaming removeLast() {
+        var frame = elementFrames.pop();
+        var nanos = System.nanoTime() - frame.startNanos;
+        var allocatedBytes = CimMappingProfile.allocatedBytes() - frame.startBytes;
+        profile.addElement(frame.elementType, nanos - frame.nestedNanos, allocatedBytes - frame.nestedBytes);
+        var parent = elementFrames.peek();
+        if (parent != null) {
+            parent.nestedNanos += nanos;
+            parent.nestedBytes += allocatedBytes;
+        }
+        return super.removeLast();
+    }
+
+    private <T> T measure(String method, Supplier<T> search) {
+        var startBytes = CimMappingProfile.allocatedBytes();
+        var startNanos = System.nanoTime();
+        try {
+            return search.get();
+        } finally {
+            profile.addMethod(method, System.nanoTime() - startNanos,
+                    CimMappingProfile.allocatedBytes() - startBytes);
+        }
+    }
+
+    /*
+     * The SCL Element being mapped, with the time and memory of the SCL Elements nested in it.
+     */
+    private static class ElementFrame {
+        private final String elementType;
+        private final long startNanos;
+        private final long startBytes;
+        private long nestedNanos;
+        private long nestedBytes;
+
+        private ElementFrame(String elementType, long startNanos, long startBytes) {
+            this.elementType = elementType;
+            this.startNanos = startNanos;
+            this.startBytes = startBytes;
+        }
+    }
+}
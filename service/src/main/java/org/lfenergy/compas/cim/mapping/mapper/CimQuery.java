@@ -0,0 +1,199 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+/**
+ * All the SPARQL Queries used by the {@link CimToSclMapperContext} to search the CGMES Model.
+ * <p>
+ * The '%s' in the queries is replaced by a binding of the parent when the CGMES Model is queried per parent.
+ * The query without a binding is only created once, so it can be reused by every request.
+ */
+public enum CimQuery {
+    SUBSTATION("""
+            SELECT *
+            WHERE {{
+             GRAPH ?graph {
+              ?Substation
+                a cim:Substation .
+                OPTIONAL { ?Substation cim:IdentifiedObject.name ?name }
+            }}}
+            """),
+
+    VOLTAGE_LEVEL("""
+            SELECT *
+            WHERE {{
+             GRAPH ?graph {
+             %s
+             ?VoltageLevel
+                a cim:VoltageLevel ;
+                cim:VoltageLevel.Substation ?Substation ;
+                cim:VoltageLevel.BaseVoltage ?BaseVoltage .
+                OPTIONAL { ?VoltageLevel cim:IdentifiedObject.name ?name }
+            }}
+            OPTIONAL { GRAPH ?graphBaseVoltage {
+                ?BaseVoltage cim:BaseVoltage.nominalVoltage ?nominalVoltage .
+            }}}
+            """),
+
+    BUSBARSECTION("""
+            SELECT *
+            WHERE {{
+             GRAPH ?graph {
+             %s
+             ?BusbarSection
+                a cim:BusbarSection ;
+                cim:Equipment.EquipmentContainer ?EquipmentContainer .
+                OPTIONAL { ?BusbarSection cim:IdentifiedObject.name ?name }
+            }}}
+            """),
+
+    BAY("""
+            SELECT *
+            WHERE {{
+             GRAPH ?graph {
+             %s
+             ?Bay
+                a cim:Bay ;
+                cim:Bay.VoltageLevel ?VoltageLevel .
+                OPTIONAL { ?Bay cim:IdentifiedObject.name ?name }
+            }}}
+            """),
+
+    POWER_TRANSFORMER("""
+            SELECT *
+            WHERE {{
+             GRAPH ?graph {
+             %s
+             ?PowerTransformer
+                 a cim:PowerTransformer ;
+                 cim:Equipment.EquipmentContainer ?EquipmentContainer .
+                 OPTIONAL { ?PowerTransformer cim:IdentifiedObject.name ?name }
+                 OPTIONAL { ?PowerTransformer cim:IdentifiedObject.description ?description }
+            }}}
+            """),
+
+    TRANSFORMER_END("""
+            SELECT *
+            WHERE {{
+             GRAPH ?graph {
+             %s
+             ?PowerTransformer
+                 a cim:PowerTransformer
+                 OPTIONAL {?PowerTransformer cim:IdentifiedObject.name ?name }
+             ?TransformerEnd
+                 a cim:PowerTransformerEnd ;
+                 cim:PowerTransformerEnd.PowerTransformer ?PowerTransformer ;
+                 cim:TransformerEnd.endNumber ?endNumber ;
+                 cim:TransformerEnd.Terminal ?Terminal .
+            }}}
+            """),
+
+    RATIO_TAP_CHANGER("""
+            SELECT *
+            WHERE {{
+             GRAPH ?graph {
+             %s
+             ?RatioTapChanger
+                 a cim:RatioTapChanger ;
+                 cim:RatioTapChanger.TransformerEnd ?TransformerEnd .
+                 OPTIONAL { ?RatioTapChanger cim:IdentifiedObject.name ?name }
+            }}}
+            """),
+
+    PHASE_TAP_CHANGER("""
+            SELECT *
+            WHERE {{
+             GRAPH ?graph {
+             %s
+             ?PhaseTapChanger
+                 a ?phaseTapChangerType ;
+                 cim:PhaseTapChanger.TransformerEnd ?TransformerEnd .
+                 OPTIONAL { ?PhaseTapChanger cim:IdentifiedObject.name ?name }
+            }}}
+            """),
+
+    CONNECTIVITY_NODE_BY_BUSBARSECTION("""
+            SELECT *
+            WHERE {{
+             GRAPH ?graph {
+             %s
+             ?ConnectivityNode
+                 cim:ConnectivityNode.ConnectivityNodeContainer ?ConnectivityNodeContainer
+                 OPTIONAL { ?ConnectivityNode cim:IdentifiedObject.name ?name }
+             ?Terminal
+                 cim:Terminal.ConnectivityNode ?ConnectivityNode;
+                 cim:Terminal.ConductingEquipment ?ConductingEquipment;
+            }}}
+            """),
+
+    CONNECTIVITY_NODE_BY_BAY("""
+            SELECT DISTINCT ?ConnectivityNode ?name ?EquipmentContainer
+            WHERE {{
+             GRAPH ?graph {
+              %s
+              ?ConnectivityNode a cim:ConnectivityNode .
+                 OPTIONAL { ?ConnectivityNode cim:IdentifiedObject.name ?name }
+              ?Terminal a cim:Terminal ;
+                 cim:Terminal.ConnectivityNode ?ConnectivityNode ;
+                 cim:Terminal.ConductingEquipment ?Switch .
+              ?Switch a ?type ;
+                 cim:Equipment.EquipmentContainer ?EquipmentContainer .
+                 VALUES ?type { cim:Switch cim:Breaker cim:Disconnector cim:LoadBreakSwitch cim:ProtectedSwitch } .
+            }}}
+            ORDER BY ?name
+            """),
+
+    SWITCH("""
+            SELECT *
+            WHERE {{
+             GRAPH ?graph {
+             %s
+             ?Switch
+                a ?type ;
+                cim:Equipment.EquipmentContainer ?EquipmentContainer .
+                OPTIONAL { ?Switch cim:IdentifiedObject.name ?name }
+                VALUES ?type { cim:Switch cim:Breaker cim:Disconnector cim:LoadBreakSwitch cim:ProtectedSwitch cim:GroundDisconnector } .
+            }}}
+            """),
+
+    TERMINAL("""
+            SELECT *
+            WHERE {{
+             GRAPH ?graph {
+             %s
+             ?Terminal
+                a cim:Terminal ;
+                cim:Terminal.ConductingEquipment ?ConductingEquipment .
+                OPTIONAL { ?Terminal cim:IdentifiedObject.name ?name }
+             ?ConductingEquipment
+                a ?conductingEquipmentType .
+            }}
+            OPTIONAL { GRAPH ?graphCN {
+                    ?Terminal cim:Terminal.ConnectivityNode ?ConnectivityNode .
+            }}}
+            """);
+
+    private final String query;
+    private final String unboundQuery;
+
+    CimQuery(String query) {
+        this.query = query;
+        this.unboundQuery = query.formatted("");
+    }
+
+    /**
+     * @return The query without any binding of a parent, so all elements of the CIM Class are returned.
+     */
+    public String unbound() {
+        return unboundQuery;
+    }
+
+    /**
+     * @param binding The binding of the parent to add to the query.
+     * @return The query including the binding of the parent, so only the elements of that parent are returned.
+     */
+    public String bound(String binding) {
+        return query.formatted(binding);
+    }
+}
@@ -0,0 +1,71 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.triplestore.api.PropertyBags;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingSpan;
+
+/**
+ * A single execution of a {@link CimQuery}, started by the {@link CimQueryRegistry}. The span of the execution
+ * stays open until it's closed, so the rows that aren't used after converting them can still be added to it.
+ * When closed the execution is added to the statistics and the metrics.
+ */
+public class CimQueryExecution implements AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger(CimQueryExecution.class);
+
+    private final CimQuery query;
+    private final CimQueryStatistics statistics;
+    private final CimMappingMetrics cimMappingMetrics;
+    private final CimMappingSpan span;
+
+    private long duration = -1;
+    private int rows;
+
+    CimQueryExecution(CimQuery query, CimQueryStatistics statistics, CimMappingMetrics cimMappingMetrics,
+                      CimMappingSpan span) {
+        this.query = query;
+        this.statistics = statistics;
+        this.cimMappingMetrics = cimMappingMetrics;
+        this.span = span;
+    }
+
+    /**
+     * Execute the query on the Triple Store of the CGMES Model and record the time it took.
+     *
+     * @param cgmesModel The CGMES Model to search.
+     * @param binding    The binding of the parent to add to the query, or null to search for all elements.
+     * @return The PropertyBags returned by the Triple Store.
+     */
+    public PropertyBags execute(CgmesModel cgmesModel, String binding) {
+        var queryText = binding == null ? query.unbound() : query.bound(binding);
+        var start = System.nanoTime();
+        var bags = cgmesModel.tripleStore().query(queryText);
+        duration = System.nanoTime() - start;
+        rows = bags.size();
+        span.setRows(rows);
+        LOGGER.trace("Query {} returned {} rows in {} ns", query, rows, duration);
+        return bags;
+    }
+
+    /**
+     * @param filteredRows The number of rows returned by the query that weren't used, because they're ignored
+     *                     while converting them.
+     */
+    public void setFilteredRows(int filteredRows) {
+        span.setFilteredRows(filteredRows);
+    }
+
+    @Override
+    public void close() {
+        if (duration >= 0) {
+            statistics.addExecution(duration, rows);
+            cimMappingMetrics.recordQuery(query.name(), duration);
+        }
+        span.close();
+    }
+}
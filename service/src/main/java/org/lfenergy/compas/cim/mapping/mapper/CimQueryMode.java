@@ -0,0 +1,20 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+/**
+ * The way the {@link CimToSclMapperContext} searches the CGMES Model for the elements coupled to a parent.
+ */
+public enum CimQueryMode {
+    /**
+     * All elements of a CIM Class are retrieved once with a single query and kept in memory, indexed
+     * by the ID of their parent.
+     */
+    INDEXED,
+    /**
+     * The parent is bound in the query, so the Triple Store is queried for every parent, but only returns
+     * the elements of that parent. Nothing is kept in memory.
+     */
+    PER_PARENT
+}
@@ -0,0 +1,109 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Registry of all {@link CimQuery} used to search the CGMES Model. The Registry is shared by all requests,
+ * so the statistics of every query are collected over all requests.
+ * <p>
+ * Remark: PowSyBl only accepts the query as text, so the Triple Store parses and plans the query for every
+ * execution, a prepared query can't be reused. Warming up the queries on an empty Triple Store validates them
+ * and loads the classes of the query engine once, before the first request is processed.
+ */
+@ApplicationScoped
+public class CimQueryRegistry {
+    private static final Logger LOGGER = LogManager.getLogger(CimQueryRegistry.class);
+
+    private final Map<CimQuery, CimQueryStatistics> statistics = new EnumMap<>(CimQuery.class);
+    private final CimMappingMetrics cimMappingMetrics;
+    private final CimMappingTracing cimMappingTracing;
+
+    public CimQueryRegistry() {
+        this(CimMappingMetrics.NONE);
+    }
+
+    public CimQueryRegistry(CimMappingMetrics cimMappingMetrics) {
+        this(cimMappingMetrics, CimMappingTracing.NONE);
+    }
+
+    @Inject
+    public CimQueryRegistry(CimMappingMetrics cimMappingMetrics, CimMappingTracing cimMappingTracing) {
+        this.cimMappingMetrics = cimMappingMetrics;
+        this.cimMappingTracing = cimMappingTracing;
+        for (var query : CimQuery.values()) {
+            statistics.put(query, new CimQueryStatistics());
+        }
+    }
+
+    /**
+     * Execute all queries once on an empty Triple Store of the passed implementation, so the first request
+     * doesn't pay for loading the query engine.
+     *
+     * @param tripleStoreImplementation The name of the Triple Store implementation to warm up the queries for.
+     */
+    public void warmUp(String tripleStoreImplementation) {
+        LOGGER.debug("Warming up all CIM Queries on an empty Triple Store '{}'.", tripleStoreImplementation);
+        var tripleStore = TripleStoreFactory.create(tripleStoreImplementation);
+        for (var query : CimQuery.values()) {
+            var start = System.nanoTime();
+            tripleStore.query(query.unbound());
+            statistics.get(query).setWarmUpTime(System.nanoTime() - start);
+        }
+        LOGGER.info("Warmed up CIM Queries: {}", statistics);
+    }
+
+    /**
+     * Log the statistics of all queries, collected since the start of the application.
+     */
+    public void logStatistics() {
+        statistics.forEach((query, queryStatistics) -> LOGGER.info("CIM Query {}: {}", query, queryStatistics));
+    }
+
+    /**
+     * Execute the query on the Triple Store of the CGMES Model and record the time it took,
+     * also in the metrics and the span of the query.
+     *
+     * @param cgmesModel The CGMES Model to search.
+     * @param query      The query to execute.
+     * @param binding    The binding of the parent to add to the query, or null to search for all elements.
+     * @return The PropertyBags returned by the Triple Store.
+     */
+    public PropertyBags execute(CgmesModel cgmesModel, CimQuery query, String binding) {
+        try (var execution = start(query)) {
+            return execution.execute(cgmesModel, binding);
+        }
+    }
+
+    /**
+     * Start the span of an execution of the query, so the rows can be converted before the execution is closed.
+     *
+     * @param query The query to execute.
+     * @return The execution of the query, which needs to be closed after the rows are converted.
+     */
+    public CimQueryExecution start(CimQuery query) {
+        return new CimQueryExecution(query, statistics.get(query), cimMappingMetrics,
+                cimMappingTracing.startQuery(query.name()));
+    }
+
+    /**
+     * @return The statistics of all queries, collected since the start of the application.
+     */
+    public Map<CimQuery, CimQueryStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+}
@@ -0,0 +1,64 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a single {@link CimQuery}, collected over all requests by the {@link CimQueryRegistry}.
+ * Executions can be added from multiple requests at the same time.
+ */
+public class CimQueryStatistics {
+    private final AtomicLong warmUpNanos = new AtomicLong(-1);
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder executionNanos = new LongAdder();
+    private final AtomicLong maxExecutionNanos = new AtomicLong();
+    private final LongAdder rows = new LongAdder();
+
+    void setWarmUpTime(long nanos) {
+        warmUpNanos.set(nanos);
+    }
+
+    void addExecution(long nanos, int numberOfRows) {
+        executions.increment();
+        executionNanos.add(nanos);
+        maxExecutionNanos.accumulateAndGet(nanos, Math::max);
+        rows.add(numberOfRows);
+    }
+
+    /**
+     * @return The time it took to execute the query once on an empty Triple Store, or zero if the
+     * query wasn't warmed up.
+     */
+    public Duration getWarmUpTime() {
+        var nanos = warmUpNanos.get();
+        return nanos < 0 ? Duration.ZERO : Duration.ofNanos(nanos);
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public Duration getTotalExecutionTime() {
+        return Duration.ofNanos(executionNanos.sum());
+    }
+
+    public Duration getMaxExecutionTime() {
+        return Duration.ofNanos(maxExecutionNanos.get());
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "warm-up " + getWarmUpTime().toMillis() + " ms, "
+                + getExecutions() + " executions in " + getTotalExecutionTime().toMillis() + " ms "
+                + "(max " + getMaxExecutionTime().toMillis() + " ms), "
+                + getRows() + " rows";
+    }
+}
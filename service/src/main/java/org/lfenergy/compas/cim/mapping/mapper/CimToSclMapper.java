@@ -11,6 +11,8 @@ import org.mapstruct.*;
 import org.mapstruct.factory.Mappers;
 
 import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import static org.lfenergy.compas.cim.mapping.CimMappingConstants.DC_LINE_SEGMENT_TYPE;
 
@@ -34,11 +36,43 @@ public abstract class CimToSclMapper {
      * @param context Holding all data from which the SCL (also passed) needs to be filled.
      */
     public void mapToScl(SCL scl, CimToSclMapperContext context) {
+        mapSubstations(context, tSubstation -> scl.getSubstation().add(tSubstation));
+    }
+
+    /**
+     * Map the Substations one after another and pass every mapped Substation to the consumer. The mapped
+     * Substations aren't kept, so the consumer can for instance write them before the next one is mapped.
+     *
+     * @param context  Holding all data from which the Substations are mapped.
+     * @param consumer Receives the mapped Substations, in the order they are found in the CGMES Model.
+     */
+    public void mapSubstations(CimToSclMapperContext context, Consumer<TSubstation> consumer) {
         LOGGER.info("Mapping the CIM Content to SCL Content");
         context.getSubstations()
                 .stream()
                 .map(substation -> mapSubstationToTSubstation(substation, context))
-                .forEach(tSubstation -> scl.getSubstation().add(tSubstation));
+                .forEach(consumer);
+    }
+
+    /**
+     * Same as {@link #mapToScl(SCL, CimToSclMapperContext)}, but the Substations are mapped in parallel on the
+     * passed pool. Every Substation is mapped with its own context sharing the access to the CGMES Model, because
+     * the naming stack and the Connectivity Nodes are only valid within a single Substation. The mapped Substations
+     * are added to the SCL in the same order as the Substations are found in the CGMES Model.
+     *
+     * @param scl     The SCL to add the mapped Substations to.
+     * @param context Holding all data from which the SCL needs to be filled.
+     * @param pool    The pool on which the Substations are mapped.
+     */
+    public void mapToScl(SCL scl, CimToSclMapperContext context, ForkJoinPool pool) {
+        LOGGER.info("Mapping the CIM Content to SCL Content using {} threads", pool.getParallelism());
+        context.getModelAccess().prepareIndexes();
+        var substations = context.getSubstations();
+        var tSubstations = pool.submit(() -> substations.parallelStream()
+                        .map(substation -> mapSubstationToTSubstation(substation, context.forSubstation()))
+                        .toList())
+                .join();
+        scl.getSubstation().addAll(tSubstations);
     }
 
     @BeforeMapping
@@ -0,0 +1,58 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.metrics;
+
+/**
+ * Records the duration of every stage of the mapping and the size of the input and output, so it can be
+ * seen which stage is responsible for a slow request. The service doesn't depend on a metrics library, the
+ * application provides an implementation publishing the metrics. By default, nothing is recorded.
+ */
+public interface CimMappingMetrics {
+    /**
+     * Metrics that don't record anything, used when no implementation is passed.
+     */
+    CimMappingMetrics NONE = new CimMappingMetrics() {
+    };
+
+    /**
+     * @return True if the metrics are recorded, used to skip work only needed for the metrics, like counting.
+     */
+    default boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * @return True if the triples read are counted, which needs a scan of the complete Triple Store for every
+     * request, so it's only done when asked for.
+     */
+    default boolean isCountingInputTriples() {
+        return false;
+    }
+
+    /**
+     * @param stage The stage of the mapping.
+     * @param nanos The time the stage took in nanoseconds.
+     */
+    default void recordStage(CimMappingStage stage, long nanos) {
+    }
+
+    /**
+     * @param query The name of the query executed on the Triple Store.
+     * @param nanos The time the query took in nanoseconds.
+     */
+    default void recordQuery(String query, long nanos) {
+    }
+
+    /**
+     * @param triples The number of triples read from the CIM Files.
+     */
+    default void countInputTriples(long triples) {
+    }
+
+    /**
+     * @param elements The number of SCL Elements created by the mapping.
+     */
+    default void countOutputElements(long elements) {
+    }
+}
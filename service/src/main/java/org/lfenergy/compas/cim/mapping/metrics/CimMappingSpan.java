@@ -0,0 +1,32 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.metrics;
+
+/**
+ * A span started by the {@link CimMappingTracing}, which ends when it's closed. Spans started while this span is
+ * open on the same thread become its children.
+ */
+public interface CimMappingSpan extends AutoCloseable {
+    /**
+     * Span that doesn't record anything, used when no tracing is configured.
+     */
+    CimMappingSpan NONE = new CimMappingSpan() {
+    };
+
+    /**
+     * @param rows The number of rows returned by the query on the Triple Store.
+     */
+    default void setRows(int rows) {
+    }
+
+    /**
+     * @param rows The number of rows returned by the query, but not used by the mapping.
+     */
+    default void setFilteredRows(int rows) {
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,26 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.metrics;
+
+/**
+ * The stages of a single mapping request of which the duration is recorded by the {@link CimMappingMetrics}.
+ */
+public enum CimMappingStage {
+    /**
+     * Unmarshalling the XML or multipart body of the request.
+     */
+    UNMARSHAL_REQUEST,
+    /**
+     * Reading the CIM Files into a Triple Store or the index of the StAX Reader.
+     */
+    READ_MODEL,
+    /**
+     * Mapping the CIM Model to the Substations of the SCL.
+     */
+    MAP_TO_SCL,
+    /**
+     * Marshalling the response containing the SCL.
+     */
+    MARSHAL_RESPONSE
+}
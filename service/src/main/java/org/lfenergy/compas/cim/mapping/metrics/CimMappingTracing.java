@@ -0,0 +1,33 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.metrics;
+
+/**
+ * Starts the spans of the stages of the mapping and the queries on the Triple Store, so a trace shows which
+ * stage or query takes the most time. Like the {@link CimMappingMetrics} the application provides the
+ * implementation, by default no spans are created.
+ */
+public interface CimMappingTracing {
+    /**
+     * Tracing that doesn't create any spans, used when no implementation is passed.
+     */
+    CimMappingTracing NONE = new CimMappingTracing() {
+    };
+
+    /**
+     * @param stage The stage of the mapping.
+     * @return The started span, which needs to be closed when the stage is finished.
+     */
+    default CimMappingSpan startStage(CimMappingStage stage) {
+        return CimMappingSpan.NONE;
+    }
+
+    /**
+     * @param query The name of the query executed on the Triple Store.
+     * @return The started span, which needs to be closed when the query is executed and its rows are used.
+     */
+    default CimMappingSpan startQuery(String query) {
+        return CimMappingSpan.NONE;
+    }
+}
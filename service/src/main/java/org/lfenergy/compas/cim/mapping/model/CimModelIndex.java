@@ -0,0 +1,25 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The part of the CIM Model that is needed to create the IEC SCL, with all elements indexed by the ID of their
+ * parent (or by their own ID for the Terminals).
+ */
+public record CimModelIndex(List<CgmesSubstation> substations,
+                            Map<String, List<CgmesVoltageLevel>> voltageLevelsBySubstation,
+                            Map<String, List<CgmesBusbarSection>> busbarSectionsByContainer,
+                            Map<String, List<CgmesBay>> baysByVoltageLevel,
+                            Map<String, List<CgmesTransformer>> transformersByContainer,
+                            Map<String, List<CgmesTransformerEnd>> transformerEndsByTransformer,
+                            Map<String, CgmesTapChanger> tapChangersByTransformerEnd,
+                            Map<String, List<CgmesConnectivityNode>> connectivityNodesByBusbarSection,
+                            Map<String, List<CgmesConnectivityNode>> connectivityNodesByBay,
+                            Map<String, List<CgmesSwitch>> switchesByContainer,
+                            Map<String, List<CgmesTerminal>> terminalsByConductingEquipment,
+                            Map<String, CgmesTerminal> terminalsById) {
+}
@@ -0,0 +1,17 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.lfenergy.compas.cim.mapping.model.CimData;
+
+import java.util.List;
+
+/**
+ * A set of CIM Files in a batch that is mapped to its own SCL, independent of the other groups.
+ *
+ * @param id      The ID of the group, chosen by the client to match the result with the group.
+ * @param cimData The CIM XML Data of the group.
+ */
+public record CimMappingBatchGroup(String id, List<CimData> cimData) {
+}
@@ -0,0 +1,24 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+
+/**
+ * The result of mapping a single group of a batch, either the SCL or the reason why the group couldn't be mapped.
+ *
+ * @param id           The ID of the group.
+ * @param scl          The SCL mapped from the CIM Files of the group, null when the mapping failed.
+ * @param errorCode    The error code, when the mapping failed.
+ * @param errorMessage The error message, when the mapping failed.
+ */
+public record CimMappingBatchResult(String id, SCL scl, String errorCode, String errorMessage) {
+    static CimMappingBatchResult mapped(String id, SCL scl) {
+        return new CimMappingBatchResult(id, scl, null, null);
+    }
+
+    static CimMappingBatchResult failed(String id, String errorCode, String errorMessage) {
+        return new CimMappingBatchResult(id, null, errorCode, errorMessage);
+    }
+}
@@ -0,0 +1,15 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+/**
+ * Settings of the executor mapping the groups of a batch.
+ *
+ * @param threads    The number of groups mapped at the same time, also the number of groups of a single batch
+ *                   that are submitted ahead of the group being returned.
+ * @param queueDepth The number of groups that can wait for a thread, when the queue is full groups are rejected.
+ * @param threadMode The kind of threads the groups are mapped on.
+ */
+public record CimMappingBatchSettings(int threads, int queueDepth, CimMappingThreadMode threadMode) {
+}
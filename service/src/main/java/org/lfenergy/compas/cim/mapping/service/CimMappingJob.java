@@ -0,0 +1,128 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.lfenergy.compas.scl2007b4.model.SCL;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A mapping of CIM Files to SCL that runs in the background. The job is updated by the thread mapping it
+ * and read by the threads polling it, so all fields that change are safe to read from any thread.
+ */
+public class CimMappingJob {
+    private final String id = UUID.randomUUID().toString();
+    private final String who;
+    private final List<String> fileNames;
+    private final Instant submitted;
+
+    private volatile CimMappingJobStatus status = CimMappingJobStatus.QUEUED;
+    private volatile Instant started;
+    private volatile Instant finished;
+    private volatile int totalSubstations;
+    private final AtomicInteger mappedSubstations = new AtomicInteger();
+
+    private volatile SCL scl;
+    private volatile String errorCode;
+    private volatile String errorMessage;
+
+    CimMappingJob(String who, Collection<String> fileNames, Instant submitted) {
+        this.who = who;
+        this.fileNames = List.copyOf(fileNames);
+        this.submitted = submitted;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getWho() {
+        return who;
+    }
+
+    public List<String> getFileNames() {
+        return fileNames;
+    }
+
+    public CimMappingJobStatus getStatus() {
+        return status;
+    }
+
+    public Instant getSubmitted() {
+        return submitted;
+    }
+
+    public Instant getStarted() {
+        return started;
+    }
+
+    public Instant getFinished() {
+        return finished;
+    }
+
+    public int getTotalSubstations() {
+        return totalSubstations;
+    }
+
+    public int getMappedSubstations() {
+        return mappedSubstations.get();
+    }
+
+    /**
+     * @return The mapped SCL, only available when the job is completed.
+     */
+    public SCL getScl() {
+        return scl;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * @param now The current time.
+     * @param ttl How long a finished job is kept.
+     * @return True if the job is finished longer than the TTL ago, so it can be removed.
+     */
+    boolean isExpired(Instant now, Duration ttl) {
+        var finishedAt = finished;
+        return finishedAt != null && finishedAt.plus(ttl).isBefore(now);
+    }
+
+    void start(Instant now) {
+        started = now;
+        status = CimMappingJobStatus.RUNNING;
+    }
+
+    void setTotalSubstations(int totalSubstations) {
+        this.totalSubstations = totalSubstations;
+    }
+
+    void substationMapped() {
+        mappedSubstations.incrementAndGet();
+    }
+
+    void complete(SCL scl, Instant now) {
+        this.scl = scl;
+        finished = now;
+        // Status is set last, so a poller seeing COMPLETED also sees the SCL.
+        status = CimMappingJobStatus.COMPLETED;
+    }
+
+    void fail(String errorCode, String errorMessage, Instant now) {
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        finished = now;
+        status = CimMappingJobStatus.FAILED;
+    }
+}
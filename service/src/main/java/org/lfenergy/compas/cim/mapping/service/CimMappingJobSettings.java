@@ -0,0 +1,19 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import java.time.Duration;
+
+/**
+ * Settings of the executor running the mapping jobs.
+ *
+ * @param threads    The number of jobs mapped at the same time.
+ * @param queueDepth The number of jobs that can wait for a thread, when the queue is full new jobs are rejected.
+ * @param resultTtl  How long a finished job, including the mapped SCL, is kept before it's removed.
+ * @param maxResults The number of finished jobs kept, when more jobs finish the oldest ones are removed earlier.
+ * @param threadMode The kind of threads the jobs are running on.
+ */
+public record CimMappingJobSettings(int threads, int queueDepth, Duration resultTtl, int maxResults,
+                                    CimMappingThreadMode threadMode) {
+}
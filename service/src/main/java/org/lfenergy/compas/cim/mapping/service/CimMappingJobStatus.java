@@ -0,0 +1,21 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+/**
+ * The states a mapping job passes through, from submitted until the SCL is available or the mapping failed.
+ */
+public enum CimMappingJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    /**
+     * @return True if the job won't change anymore, so the result or error can be fetched.
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,164 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lfenergy.compas.cim.mapping.cgmes.CimContentHash;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.namespace.QName;
+import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.lfenergy.compas.cim.mapping.CimMappingConstants.SCL_NS_URI;
+
+/**
+ * Cache of the mapped Substations, with a {@link CimContentHash} of the names and content of the CIM Files as key. The Header of the
+ * SCL is different for every request (ID, who and when), so only the Substations are cached and the Header is
+ * created again when the cache is hit. The cache is bounded by the number of entries, the least recently used
+ * entry is removed first, and entries are removed when their TTL expired.
+ * <p>
+ * The Substations are kept marshalled as XML and unmarshalled on every hit, so every SCL gets its own instances and
+ * changes made to one response can't leak into the cache or into other responses.
+ */
+public class CimMappingResultCache {
+    private static final Logger LOGGER = LogManager.getLogger(CimMappingResultCache.class);
+
+    private static final QName SUBSTATION_QNAME = new QName(SCL_NS_URI, "Substation");
+
+    private static JAXBContext jaxbContext;
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private record CacheEntry(List<byte[]> substations, Instant expires) {
+    }
+
+    /**
+     * @param maxEntries The maximum number of results kept, 0 disables the cache.
+     * @param ttl        How long a result is kept after it's mapped.
+     */
+    public CimMappingResultCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    CimMappingResultCache(int maxEntries, Duration ttl, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * @return A cache that doesn't keep anything.
+     */
+    public static CimMappingResultCache disabled() {
+        return new CimMappingResultCache(0, Duration.ZERO);
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * @param key The hash of the CIM Files.
+     * @return A new copy of the Substations mapped from the CIM Files, or empty if not cached or expired.
+     */
+    public Optional<List<TSubstation>> get(String key) {
+        var entry = getEntry(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        try {
+            LOGGER.debug("Using cached Substations for CIM Files with hash {}", key);
+            return Optional.of(unmarshal(entry.substations()));
+        } catch (JAXBException exp) {
+            LOGGER.warn("Unable to read the cached Substations for CIM Files with hash {}", key, exp);
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param key         The hash of the CIM Files.
+     * @param substations The Substations mapped from the CIM Files.
+     */
+    public void put(String key, List<TSubstation> substations) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            putEntry(key, marshal(substations));
+        } catch (JAXBException exp) {
+            LOGGER.warn("Unable to cache the Substations for CIM Files with hash {}", key, exp);
+        }
+    }
+
+    private synchronized CacheEntry getEntry(String key) {
+        var entry = entries.get(key);
+        if (entry != null && entry.expires().isBefore(clock.instant())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    private synchronized void putEntry(String key, List<byte[]> substations) {
+        var now = clock.instant();
+        entries.values().removeIf(entry -> entry.expires().isBefore(now));
+        entries.put(key, new CacheEntry(substations, now.plus(ttl)));
+        var iterator = entries.keySet().iterator();
+        while (entries.size() > maxEntries) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static List<byte[]> marshal(List<TSubstation> substations) throws JAXBException {
+        var marshaller = getJaxbContext().createMarshaller();
+        var result = new ArrayList<byte[]>(substations.size());
+        for (var substation : substations) {
+            var output = new ByteArrayOutputStream();
+            marshaller.marshal(new JAXBElement<>(SUBSTATION_QNAME, TSubstation.class, substation), output);
+            result.add(output.toByteArray());
+        }
+        return List.copyOf(result);
+    }
+
+    private static List<TSubstation> unmarshal(List<byte[]> substations) throws JAXBException {
+        var unmarshaller = getJaxbContext().createUnmarshaller();
+        var result = new ArrayList<TSubstation>(substations.size());
+        for (var substation : substations) {
+            var source = new StreamSource(new ByteArrayInputStream(substation));
+            result.add(unmarshaller.unmarshal(source, TSubstation.class).getValue());
+        }
+        return result;
+    }
+
+    private static synchronized JAXBContext getJaxbContext() throws JAXBException {
+        if (jaxbContext == null) {
+            jaxbContext = JAXBContext.newInstance(SCL.class);
+        }
+        return jaxbContext;
+    }
+}
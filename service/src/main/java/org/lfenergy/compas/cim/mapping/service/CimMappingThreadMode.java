@@ -0,0 +1,28 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+/**
+ * The kind of threads a {@link CimMappingWorkerPool} runs its tasks on.
+ */
+public enum CimMappingThreadMode {
+    /**
+     * Normal (platform) threads.
+     */
+    PLATFORM,
+    /**
+     * Virtual threads, which release their carrier thread while blocked on I/O. Only available when running
+     * on Java 21 or newer.
+     */
+    VIRTUAL;
+
+    private static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+
+    /**
+     * @return If the JVM the application is running on supports this kind of threads.
+     */
+    public boolean isSupported() {
+        return this != VIRTUAL || Runtime.version().feature() >= VIRTUAL_THREADS_JAVA_VERSION;
+    }
+}
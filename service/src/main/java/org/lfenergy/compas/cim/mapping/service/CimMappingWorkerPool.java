@@ -0,0 +1,235 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.UNSUPPORTED_THREAD_MODE_ERROR_CODE;
+
+/**
+ * Threads to run mappings on, outside the threads handling the requests. The number of tasks running at the same time
+ * is limited, tasks waiting for a thread are limited as well and new tasks are rejected immediately when that limit
+ * is reached instead of piling up. This way a burst of requests can't exhaust the threads or the memory of the
+ * application. Callers that can wait, like a batch, can also wait until a task is accepted instead.
+ * <p>
+ * With platform threads the tasks run on a fixed number of threads. With virtual threads every task gets its own
+ * virtual thread, so a waiting task only costs a parked virtual thread instead of a platform thread. In both cases
+ * the limits are enforced with semaphores.
+ */
+public class CimMappingWorkerPool implements AutoCloseable {
+    private final CimMappingThreadMode threadMode;
+    private final ExecutorService executor;
+
+    /**
+     * @param threadName The prefix of the names of the threads.
+     * @param threads    The number of tasks running at the same time.
+     * @param queueDepth The number of tasks that can wait for a thread, 0 only accepts tasks when a thread is free.
+     */
+    public CimMappingWorkerPool(String threadName, int threads, int queueDepth) {
+        this(threadName, threads, queueDepth, CimMappingThreadMode.PLATFORM);
+    }
+
+    /**
+     * @param threadName The prefix of the names of the threads.
+     * @param threads    The number of tasks running at the same time.
+     * @param queueDepth The number of tasks that can wait for a thread, 0 only accepts tasks when a thread is free.
+     * @param threadMode The kind of threads to run the tasks on. With virtual threads the number of tasks running
+     *                   at the same time is still limited, but a task blocked on I/O doesn't occupy a platform
+     *                   thread.
+     * @throws CompasCimMappingException When virtual threads are requested, but aren't supported by the JVM.
+     */
+    public CimMappingWorkerPool(String threadName, int threads, int queueDepth, CimMappingThreadMode threadMode) {
+        this.threadMode = threadMode;
+        if (threadMode == CimMappingThreadMode.VIRTUAL) {
+            this.executor = new BoundedExecutor(createVirtualThreadPerTaskExecutor(threadName), threads, queueDepth);
+        } else {
+            // The queue itself isn't bounded, the bounded executor limits the tasks handed to the threads.
+            var threadPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), createPlatformThreadFactory(threadName));
+            this.executor = new BoundedExecutor(threadPool, threads, queueDepth);
+        }
+    }
+
+    private static ThreadFactory createPlatformThreadFactory(String threadName) {
+        var threadCount = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, threadName + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * The project is build for Java 17, so the API for virtual threads (Java 21) is called using reflection.
+     *
+     * @param threadName The prefix of the names of the threads.
+     * @return The executor starting a virtual thread for every task.
+     * @throws CompasCimMappingException When virtual threads aren't supported by the JVM.
+     */
+    private static ExecutorService createVirtualThreadPerTaskExecutor(String threadName) {
+        try {
+            var builderClass = Class.forName("java.lang.Thread$Builder");
+            var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadName + "-", 1L);
+            var threadFactory = builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException exp) {
+            throw new CompasCimMappingException(UNSUPPORTED_THREAD_MODE_ERROR_CODE,
+                    "Virtual threads aren't supported by Java " + Runtime.version().feature() + ": " + exp);
+        }
+    }
+
+    /**
+     * @return The kind of threads the tasks are running on.
+     */
+    public CimMappingThreadMode getThreadMode() {
+        return threadMode;
+    }
+
+    /**
+     * Run the task on one of the threads of the pool.
+     *
+     * @param task The task to run.
+     * @throws RejectedExecutionException When all threads are busy and the queue is full.
+     */
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Run the task on one of the threads of the pool and complete the returned future with its result.
+     *
+     * @param task The task creating the result.
+     * @param <T>  The type of the result.
+     * @return The future completed with the result or the exception thrown by the task.
+     * @throws RejectedExecutionException When all threads are busy and the queue is full.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * Run the task on one of the threads of the pool and complete the returned future with its result. When all
+     * threads are busy and the queue is full, the caller waits until another task is finished instead of the task
+     * being rejected, so the caller is throttled by the pool.
+     *
+     * @param task The task creating the result.
+     * @param <T>  The type of the result.
+     * @return The future completed with the result or the exception thrown by the task.
+     * @throws RejectedExecutionException When the pool is closed or the caller is interrupted while waiting.
+     */
+    public <T> CompletableFuture<T> supplyWhenAccepted(Supplier<T> task) {
+        if (executor instanceof BoundedExecutor boundedExecutor) {
+            return CompletableFuture.supplyAsync(task, boundedExecutor::executeWhenAccepted);
+        }
+        return supply(task);
+    }
+
+    /**
+     * Stop the threads, tasks that are still waiting or running are abandoned.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Limits the tasks handed to another executor. The first semaphore limits the tasks accepted (running and
+     * waiting), so new tasks are rejected without blocking the caller. The second one limits the tasks running at
+     * the same time, with a thread per task the threads of the waiting tasks are parked until a permit is released.
+     */
+    private static class BoundedExecutor extends AbstractExecutorService {
+        private static final long SHUTDOWN_CHECK_MILLIS = 100;
+
+        private final ExecutorService executor;
+        private final Semaphore accepted;
+        private final Semaphore running;
+
+        BoundedExecutor(ExecutorService executor, int threads, int queueDepth) {
+            this.executor = executor;
+            this.accepted = new Semaphore(threads + queueDepth);
+            this.running = new Semaphore(threads);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (!accepted.tryAcquire()) {
+                throw new RejectedExecutionException("All threads are busy and no more tasks can wait");
+            }
+            handOff(task);
+        }
+
+        /**
+         * Same as {@link #execute(Runnable)}, but waits until the task can be accepted.
+         */
+        void executeWhenAccepted(Runnable task) {
+            try {
+                while (!accepted.tryAcquire(SHUTDOWN_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (isShutdown()) {
+                        throw new RejectedExecutionException("Worker pool is closed");
+                    }
+                }
+            } catch (InterruptedException exp) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for a thread", exp);
+            }
+            handOff(task);
+        }
+
+        private void handOff(Runnable task) {
+            try {
+                executor.execute(() -> runWhenPermitted(task));
+            } catch (RejectedExecutionException exp) {
+                accepted.release();
+                throw exp;
+            }
+        }
+
+        private void runWhenPermitted(Runnable task) {
+            try {
+                running.acquire();
+                try {
+                    task.run();
+                } finally {
+                    running.release();
+                }
+            } catch (InterruptedException exp) {
+                Thread.currentThread().interrupt();
+            } finally {
+                accepted.release();
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            executor.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return executor.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return executor.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return executor.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return executor.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.cim.mapping.model.CimData;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.MEMORY_BUDGET_FULL_ERROR_CODE;
+
+/**
+ * Limits the memory used by the conversions running at the same time. Every conversion reserves the memory it's
+ * estimated to need before the CIM Model is read, the estimate is the size of the CIM Files multiplied by a factor
+ * for the Strings, the Triple Store and the SCL created from them. When the budget is used by other conversions,
+ * the conversion waits until enough memory is released or is rejected when that takes too long. This way a burst
+ * of large uploads results in back-pressure instead of an OutOfMemoryError.
+ * <p>
+ * A conversion estimated to need more than the complete budget reserves the complete budget, so it can still run
+ * when no other conversion is running.
+ * <p>
+ * Waiting is done with a lock instead of a monitor, so a virtual thread waiting for memory releases its carrier
+ * thread instead of pinning it.
+ */
+public class CimMemoryBudget {
+    private static final Logger LOGGER = LogManager.getLogger(CimMemoryBudget.class);
+
+    private final long maxBytes;
+    private final int footprintFactor;
+    private final Duration maxWait;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition memoryReleased = lock.newCondition();
+    private long reservedBytes;
+
+    /**
+     * @param maxBytes        The memory the conversions may reserve together, 0 disables the budget.
+     * @param footprintFactor The memory a conversion needs per byte of the CIM Files.
+     * @param maxWait         How long a conversion waits for memory before it's rejected.
+     */
+    public CimMemoryBudget(long maxBytes, int footprintFactor, Duration maxWait) {
+        this.maxBytes = maxBytes;
+        this.footprintFactor = footprintFactor;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * @return A budget that never limits the conversions.
+     */
+    public static CimMemoryBudget unlimited() {
+        return new CimMemoryBudget(0, 1, Duration.ZERO);
+    }
+
+    /**
+     * @return True if the conversions are limited by this budget.
+     */
+    public boolean isEnabled() {
+        return maxBytes > 0;
+    }
+
+    /**
+     * Reserve the memory estimated for converting the CIM Files, waiting for other conversions to release memory
+     * if needed. The reservation needs to be closed when the conversion is finished.
+     *
+     * @param payloadBytes The total size of the CIM Files in bytes.
+     * @return The reservation, releasing the memory when closed.
+     * @throws CompasCimMappingException When the memory isn't available within the maximum wait time.
+     */
+    public Reservation reserve(long payloadBytes) {
+        if (!isEnabled()) {
+            return new Reservation(0);
+        }
+
+        var bytes = Math.min(estimate(payloadBytes), maxBytes);
+        lock.lock();
+        try {
+            var remaining = maxWait.toNanos();
+            while (reservedBytes + bytes > maxBytes) {
+                if (remaining <= 0) {
+                    LOGGER.warn("Rejecting conversion needing {} bytes, {} of {} bytes reserved",
+                            bytes, reservedBytes, maxBytes);
+                    throw new CompasCimMappingException(MEMORY_BUDGET_FULL_ERROR_CODE,
+                            "Not enough memory available to convert the CIM Files, try again later.");
+                }
+                try {
+                    remaining = memoryReleased.awaitNanos(remaining);
+                } catch (InterruptedException exp) {
+                    Thread.currentThread().interrupt();
+                    throw new CompasCimMappingException(MEMORY_BUDGET_FULL_ERROR_CODE,
+                            "Interrupted while waiting for memory to convert the CIM Files.", exp);
+                }
+            }
+            reservedBytes += bytes;
+            LOGGER.debug("Reserved {} bytes, {} of {} bytes reserved", bytes, reservedBytes, maxBytes);
+        } finally {
+            lock.unlock();
+        }
+        return new Reservation(bytes);
+    }
+
+    /**
+     * Check, without reserving or waiting, if the memory estimated for converting the CIM Files is available now.
+     * Used to reject a request before its body is read, the conversion still needs to reserve the memory itself.
+     *
+     * @param payloadBytes The total size of the CIM Files in bytes.
+     * @return True if the memory is available or the budget is disabled.
+     */
+    public boolean isAvailable(long payloadBytes) {
+        if (!isEnabled()) {
+            return true;
+        }
+        lock.lock();
+        try {
+            return reservedBytes + Math.min(estimate(payloadBytes), maxBytes) <= maxBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param cimData The CIM XML Data, may be null.
+     * @return The total size of the CIM XML Data, the number of characters is used as the number of bytes.
+     */
+    public static long getSize(List<CimData> cimData) {
+        if (cimData == null) {
+            return 0;
+        }
+        return cimData.stream()
+                .map(CimData::getRdfData)
+                .filter(Objects::nonNull)
+                .mapToLong(String::length)
+                .sum();
+    }
+
+    /**
+     * @param payloadBytes The total size of the CIM Files in bytes.
+     * @return The memory estimated to convert the CIM Files in bytes.
+     */
+    long estimate(long payloadBytes) {
+        try {
+            return Math.multiplyExact(payloadBytes, footprintFactor);
+        } catch (ArithmeticException exp) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * @return The memory currently reserved by the running conversions in bytes.
+     */
+    public long getReservedBytes() {
+        lock.lock();
+        try {
+            return reservedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long bytes) {
+        lock.lock();
+        try {
+            reservedBytes -= bytes;
+            memoryReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Memory reserved for a single conversion, closing it more than once only releases the memory once.
+     */
+    public final class Reservation implements AutoCloseable {
+        private final long bytes;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Reservation(long bytes) {
+            this.bytes = bytes;
+        }
+
+        /**
+         * @return The memory reserved in bytes.
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        @Override
+        public void close() {
+            if (bytes > 0 && released.compareAndSet(false, true)) {
+                release(bytes);
+            }
+        }
+    }
+}
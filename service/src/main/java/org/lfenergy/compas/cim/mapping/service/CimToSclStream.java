@@ -0,0 +1,57 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapper;
+import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapperContext;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
+
+import java.util.function.Consumer;
+
+/**
+ * The SCL created from a CIM Model, of which the Substations are only mapped when they're consumed.
+ * The CIM Model is already read, so reading errors are known before anything is written.
+ */
+public class CimToSclStream {
+    private final SCL scl;
+    private final CimToSclMapper cimToSclMapper;
+    private final CimToSclMapperContext context;
+
+    /**
+     * @param scl            The SCL without Substations, containing the Header.
+     * @param cimToSclMapper The mapper used to map the Substations.
+     * @param context        The context holding the CIM Model, or null if there is no CIM Model to map.
+     */
+    public CimToSclStream(SCL scl, CimToSclMapper cimToSclMapper, CimToSclMapperContext context) {
+        this.scl = scl;
+        this.cimToSclMapper = cimToSclMapper;
+        this.context = context;
+    }
+
+    /**
+     * @return The SCL without Substations, containing the Header.
+     */
+    public SCL getScl() {
+        return scl;
+    }
+
+    /**
+     * @return The number of Substations that will be passed to the consumer of {@link #mapSubstations(Consumer)}.
+     */
+    public int countSubstations() {
+        return context == null ? 0 : context.getSubstations().size();
+    }
+
+    /**
+     * Map the Substations one after another and pass every mapped Substation to the consumer.
+     *
+     * @param consumer Receives the mapped Substations, in the order they are found in the CIM Model.
+     */
+    public void mapSubstations(Consumer<TSubstation> consumer) {
+        if (context != null) {
+            cimToSclMapper.mapSubstations(context, consumer);
+        }
+    }
+}
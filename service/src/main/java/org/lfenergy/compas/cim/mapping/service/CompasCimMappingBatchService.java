@@ -0,0 +1,111 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lfenergy.compas.core.commons.exception.CompasException;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.BATCH_QUEUE_FULL_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.MAPPING_ERROR_CODE;
+
+/**
+ * Maps a batch of independent groups of CIM Files, each group to its own SCL. The groups are mapped in parallel on
+ * a fixed number of threads shared by all batches, but only a limited number of groups of a batch are submitted
+ * ahead of the group being returned. This way the SCLs of a large batch don't pile up in memory when the client
+ * reads them slower than they're mapped. When the threads are busy with the groups of other batches, the batch
+ * waits until a group is accepted instead of failing it, so concurrent batches are throttled.
+ * <p>
+ * A group that fails doesn't stop the batch, its result contains the error instead of the SCL.
+ */
+@ApplicationScoped
+public class CompasCimMappingBatchService {
+    private static final Logger LOGGER = LogManager.getLogger(CompasCimMappingBatchService.class);
+
+    private final CompasCimMappingService compasCimMappingService;
+    private final CimMemoryBudget cimMemoryBudget;
+    private final int window;
+    private final CimMappingWorkerPool workerPool;
+
+    public CompasCimMappingBatchService(CompasCimMappingService compasCimMappingService,
+                                        CimMappingBatchSettings settings) {
+        this(compasCimMappingService, CimMemoryBudget.unlimited(), settings);
+    }
+
+    @Inject
+    public CompasCimMappingBatchService(CompasCimMappingService compasCimMappingService,
+                                        CimMemoryBudget cimMemoryBudget,
+                                        CimMappingBatchSettings settings) {
+        this.compasCimMappingService = compasCimMappingService;
+        this.cimMemoryBudget = cimMemoryBudget;
+        this.window = Math.max(1, settings.threads());
+        this.workerPool = new CimMappingWorkerPool("cim-mapping-batch", settings.threads(), settings.queueDepth(),
+                settings.threadMode());
+    }
+
+    /**
+     * Map all groups of the batch and pass the results to the consumer in the order of the groups. The consumer
+     * is called on the calling thread, while the next groups are mapped on the threads of the batch executor.
+     *
+     * @param groups   The groups of CIM Files to map.
+     * @param who      The name of the user who created the SCL from the CIM Data.
+     * @param consumer Receives the result of every group.
+     */
+    public void mapBatch(List<CimMappingBatchGroup> groups, String who, Consumer<CimMappingBatchResult> consumer) {
+        LOGGER.debug("Mapping batch of {} group(s)", groups.size());
+        var pending = new ArrayDeque<CompletableFuture<CimMappingBatchResult>>();
+        var nextGroups = groups.iterator();
+        try {
+            while (nextGroups.hasNext() || !pending.isEmpty()) {
+                while (pending.size() < window && nextGroups.hasNext()) {
+                    pending.add(submit(nextGroups.next(), who));
+                }
+                consumer.accept(pending.remove().join());
+            }
+        } finally {
+            // When the consumer failed, for instance because the client went away, skip the groups not started yet.
+            pending.forEach(result -> result.cancel(false));
+        }
+    }
+
+    private CompletableFuture<CimMappingBatchResult> submit(CimMappingBatchGroup group, String who) {
+        try {
+            return workerPool.supplyWhenAccepted(() -> map(group, who));
+        } catch (RejectedExecutionException exp) {
+            LOGGER.warn("Group {} of batch not started: {}", group.id(), exp.getMessage());
+            return CompletableFuture.completedFuture(CimMappingBatchResult.failed(group.id(),
+                    BATCH_QUEUE_FULL_ERROR_CODE, "Unable to start the mapping of the group: " + exp.getMessage()));
+        }
+    }
+
+    private CimMappingBatchResult map(CimMappingBatchGroup group, String who) {
+        try (var reservation = cimMemoryBudget.reserve(CimMemoryBudget.getSize(group.cimData()))) {
+            return CimMappingBatchResult.mapped(group.id(), compasCimMappingService.map(group.cimData(), who));
+        } catch (CompasException exp) {
+            LOGGER.warn("Group {} of batch failed: {}", group.id(), exp.getMessage());
+            return CimMappingBatchResult.failed(group.id(), exp.getErrorCode(), exp.getMessage());
+        } catch (RuntimeException exp) {
+            LOGGER.error("Group {} of batch failed", group.id(), exp);
+            return CimMappingBatchResult.failed(group.id(), MAPPING_ERROR_CODE,
+                    "Unable to map the CIM Files: " + exp.getMessage());
+        }
+    }
+
+    /**
+     * Stop the threads mapping the groups, groups that are still waiting or running are abandoned.
+     */
+    @PreDestroy
+    void shutdown() {
+        workerPool.close();
+    }
+}
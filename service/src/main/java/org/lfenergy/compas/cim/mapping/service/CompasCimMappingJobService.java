@@ -0,0 +1,207 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lfenergy.compas.cim.mapping.cgmes.CimFileDataSource;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.core.commons.exception.CompasException;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.JOB_QUEUE_FULL_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.MAPPING_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.READ_DATA_ERROR_CODE;
+
+/**
+ * Runs the mapping of CIM Files to SCL in the background. Jobs are executed on a fixed number of threads, jobs
+ * waiting for a thread are kept in a bounded queue and new jobs are rejected when that queue is full.
+ * Finished jobs, including the mapped SCL, are kept in memory until their TTL expired, but never more than the
+ * configured number of finished jobs. When more jobs finish the oldest finished jobs are removed first.
+ * Expired jobs are removed by a single background thread, so their SCL doesn't stay in memory when no new jobs
+ * are submitted or searched.
+ * <p>
+ * A job reserves the memory estimated for the mapping from the {@link CimMemoryBudget} when it starts on its
+ * thread, so jobs share the budget with the other conversions. A job that doesn't get the memory in time fails.
+ */
+@ApplicationScoped
+public class CompasCimMappingJobService {
+    private static final Logger LOGGER = LogManager.getLogger(CompasCimMappingJobService.class);
+    private static final Duration MAX_EVICTION_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration MIN_EVICTION_INTERVAL = Duration.ofSeconds(1);
+
+    private final CompasCimMappingService compasCimMappingService;
+    private final CimMemoryBudget cimMemoryBudget;
+    private final Duration resultTtl;
+    private final int maxResults;
+    private final Clock clock;
+    private final CimMappingWorkerPool workerPool;
+    private final ScheduledExecutorService evictionExecutor;
+    private final Map<String, CimMappingJob> jobs = new ConcurrentHashMap<>();
+
+    @Inject
+    public CompasCimMappingJobService(CompasCimMappingService compasCimMappingService,
+                                      CimMappingJobSettings settings,
+                                      CimMemoryBudget cimMemoryBudget) {
+        this(compasCimMappingService, settings, cimMemoryBudget, Clock.systemUTC(),
+                getEvictionInterval(settings.resultTtl()));
+    }
+
+    CompasCimMappingJobService(CompasCimMappingService compasCimMappingService,
+                               CimMappingJobSettings settings,
+                               CimMemoryBudget cimMemoryBudget,
+                               Clock clock,
+                               Duration evictionInterval) {
+        this.compasCimMappingService = compasCimMappingService;
+        this.cimMemoryBudget = cimMemoryBudget;
+        this.resultTtl = settings.resultTtl();
+        this.maxResults = settings.maxResults();
+        this.clock = clock;
+        this.workerPool = new CimMappingWorkerPool("cim-mapping-job", settings.threads(), settings.queueDepth(),
+                settings.threadMode());
+        this.evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "cim-mapping-job-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var interval = evictionInterval.toMillis();
+        evictionExecutor.scheduleWithFixedDelay(this::evictJobs, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Expired jobs are searched a few times during the TTL, but at least every minute and at most every second.
+     */
+    private static Duration getEvictionInterval(Duration resultTtl) {
+        var interval = resultTtl.dividedBy(4);
+        if (interval.compareTo(MAX_EVICTION_INTERVAL) > 0) {
+            return MAX_EVICTION_INTERVAL;
+        }
+        return interval.compareTo(MIN_EVICTION_INTERVAL) < 0 ? MIN_EVICTION_INTERVAL : interval;
+    }
+
+    /**
+     * Submit a job to map the CIM Files found in the data source. The job becomes the owner of the data source,
+     * which is closed when the job is finished or couldn't be submitted.
+     *
+     * @param dataSource The data source containing the CIM XML Files.
+     * @param who        The name of the user who created the SCL from the CIM Data.
+     * @return The submitted job, which can be used to follow the progress.
+     */
+    public CimMappingJob submit(CimFileDataSource dataSource, String who) {
+        evictJobs();
+
+        CimMappingJob job;
+        try {
+            job = new CimMappingJob(who, dataSource.listNames(".*"), clock.instant());
+        } catch (IOException exp) {
+            closeDataSource(dataSource);
+            throw new CompasCimMappingException(READ_DATA_ERROR_CODE, "Unable to list the CIM Files: " + exp.getMessage());
+        }
+
+        jobs.put(job.getId(), job);
+        try {
+            workerPool.execute(() -> run(job, dataSource));
+        } catch (RejectedExecutionException exp) {
+            jobs.remove(job.getId());
+            closeDataSource(dataSource);
+            throw new CompasCimMappingException(JOB_QUEUE_FULL_ERROR_CODE,
+                    "Too many mapping jobs waiting, try again later.");
+        }
+        LOGGER.debug("Mapping job {} submitted by {}", job.getId(), who);
+        return job;
+    }
+
+    /**
+     * Search a job that isn't expired yet.
+     *
+     * @param id The ID of the job.
+     * @return The job, or empty if the job is unknown or already removed.
+     */
+    public Optional<CimMappingJob> getJob(String id) {
+        evictJobs();
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * @return The number of jobs kept, waiting, running or finished.
+     */
+    int getNumberOfJobs() {
+        return jobs.size();
+    }
+
+    private void run(CimMappingJob job, CimFileDataSource dataSource) {
+        job.start(clock.instant());
+        LOGGER.debug("Mapping job {} started", job.getId());
+        try (var reservation = cimMemoryBudget.reserve(dataSource.getSize())) {
+            var stream = compasCimMappingService.streamFiles(dataSource, job.getWho());
+            job.setTotalSubstations(stream.countSubstations());
+
+            var scl = stream.getScl();
+            stream.mapSubstations(tSubstation -> {
+                scl.getSubstation().add(tSubstation);
+                job.substationMapped();
+            });
+            job.complete(scl, clock.instant());
+            LOGGER.debug("Mapping job {} completed", job.getId());
+        } catch (CompasException exp) {
+            LOGGER.warn("Mapping job {} failed: {}", job.getId(), exp.getMessage());
+            job.fail(exp.getErrorCode(), exp.getMessage(), clock.instant());
+        } catch (RuntimeException exp) {
+            LOGGER.error("Mapping job {} failed", job.getId(), exp);
+            job.fail(MAPPING_ERROR_CODE, "Unable to map the CIM Files: " + exp.getMessage(), clock.instant());
+        } finally {
+            closeDataSource(dataSource);
+            evictJobs();
+        }
+    }
+
+    /**
+     * Remove the jobs of which the TTL expired and the oldest finished jobs when more are kept than allowed.
+     */
+    void evictJobs() {
+        var now = clock.instant();
+        jobs.values().removeIf(job -> job.isExpired(now, resultTtl));
+
+        var finishedJobs = jobs.values().stream()
+                .filter(job -> job.getFinished() != null)
+                .sorted(Comparator.comparing(CimMappingJob::getFinished))
+                .toList();
+        for (var index = 0; index < finishedJobs.size() - maxResults; index++) {
+            LOGGER.debug("Mapping job {} removed, more than {} finished jobs kept", finishedJobs.get(index).getId(),
+                    maxResults);
+            jobs.remove(finishedJobs.get(index).getId());
+        }
+    }
+
+    private void closeDataSource(CimFileDataSource dataSource) {
+        try {
+            dataSource.close();
+        } catch (IOException exp) {
+            LOGGER.warn("Unable to remove the CIM Files: {}", exp.getMessage());
+        }
+    }
+
+    /**
+     * Stop the threads running the jobs, jobs that are still waiting or running are abandoned.
+     */
+    @PreDestroy
+    void shutdown() {
+        evictionExecutor.shutdownNow();
+        workerPool.close();
+    }
+}
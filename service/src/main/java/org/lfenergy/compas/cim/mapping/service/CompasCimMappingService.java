@@ -3,22 +3,47 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.lfenergy.compas.cim.mapping.service;
 
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import org.lfenergy.compas.cim.mapping.cgmes.CgmesCimReader;
+import org.lfenergy.compas.cim.mapping.cgmes.CimContentHash;
+import org.lfenergy.compas.cim.mapping.cgmes.CimFileDataSource;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.cim.mapping.mapper.CimMappingParallelism;
+import org.lfenergy.compas.cim.mapping.mapper.CimMappingProfile;
+import org.lfenergy.compas.cim.mapping.mapper.CimProfilingContext;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryMode;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryRegistry;
 import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapper;
 import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapperContext;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingStage;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
 import org.lfenergy.compas.cim.mapping.model.CimData;
+import org.lfenergy.compas.cim.mapping.model.CimModelIndex;
 import org.lfenergy.compas.scl2007b4.model.ObjectFactory;
 import org.lfenergy.compas.scl2007b4.model.SCL;
 import org.lfenergy.compas.scl2007b4.model.THeader;
 import org.lfenergy.compas.scl2007b4.model.THitem;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.NO_DATA_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.READ_DATA_ERROR_CODE;
 
 /**
  * Mapping Service to process the passed CIM XML(s) (RDF Format) and convert these to a Cgmes Model
@@ -31,12 +56,30 @@ public class CompasCimMappingService {
 
     private final CgmesCimReader cgmesCimReader;
     private final CimToSclMapper cimToSclMapper;
+    private final CimQueryRegistry cimQueryRegistry;
+    private final CimMappingParallelism cimMappingParallelism;
+    private final CimMappingResultCache cimMappingResultCache;
+    private final CimMappingMetrics cimMappingMetrics;
+    private final CimMappingTracing cimMappingTracing;
+    private final CimQueryMode cimQueryMode;
 
     @Inject
     public CompasCimMappingService(CgmesCimReader cgmesCimReader,
-                                   CimToSclMapper cimToSclMapper) {
+                                   CimToSclMapper cimToSclMapper,
+                                   CimQueryRegistry cimQueryRegistry,
+                                   CimMappingParallelism cimMappingParallelism,
+                                   CimMappingResultCache cimMappingResultCache,
+                                   CimMappingMetrics cimMappingMetrics,
+                                   CimMappingTracing cimMappingTracing,
+                                   CimQueryMode cimQueryMode) {
         this.cgmesCimReader = cgmesCimReader;
         this.cimToSclMapper = cimToSclMapper;
+        this.cimQueryRegistry = cimQueryRegistry;
+        this.cimMappingParallelism = cimMappingParallelism;
+        this.cimMappingResultCache = cimMappingResultCache;
+        this.cimMappingMetrics = cimMappingMetrics;
+        this.cimMappingTracing = cimMappingTracing;
+        this.cimQueryMode = cimQueryMode;
     }
 
     /**
@@ -50,14 +93,206 @@ public class CompasCimMappingService {
         var scl = createBasicSCL(cimData, who);
 
         if (cimData != null && !cimData.isEmpty()) {
-            // Convert the Data to the Network Model from PowSyBl
-            var cgmesModel = cgmesCimReader.readModel(cimData);
-            cimToSclMapper.mapToScl(scl, new CimToSclMapperContext(cgmesModel));
+            mapToScl(scl, () -> CimContentHash.of(cimData),
+                    () -> createContext(() -> cgmesCimReader.readModelIndex(cimData),
+                            () -> cgmesCimReader.readModel(cimData)));
         }
 
         return scl;
     }
 
+    /**
+     * Map the CIM XML Files found in the data source to IEC SCL Model. The files are read directly from the
+     * data source, so the content doesn't need to be loaded in memory first.
+     *
+     * @param dataSource The data source containing the CIM XML Files.
+     * @param who        The name of the user who created the SCL from the CIM Data.
+     * @return The created SCL Model.
+     */
+    public SCL mapFiles(ReadOnlyDataSource dataSource, String who) {
+        var fileNames = listFileNames(dataSource);
+        var scl = createBasicSCLForFileNames(fileNames, who);
+
+        if (!fileNames.isEmpty()) {
+            mapToScl(scl, () -> createKey(dataSource, fileNames),
+                    () -> createContext(() -> cgmesCimReader.readModelIndex(dataSource),
+                            () -> cgmesCimReader.readModel(dataSource)));
+        }
+
+        return scl;
+    }
+
+    /**
+     * Map the CIM XML Files in a Zip or GZip archive to IEC SCL Model. The archive is decompressed while it's read,
+     * so neither the archive nor the CIM XML Files are loaded in memory.
+     *
+     * @param archiveName The name of the archive, the extension ('.zip' or '.gz') determines the decompression.
+     * @param archive     The content of the archive.
+     * @param who         The name of the user who created the SCL from the CIM Data.
+     * @return The created SCL Model.
+     */
+    public SCL mapArchive(String archiveName, InputStream archive, String who) {
+        try (var dataSource = new CimFileDataSource()) {
+            dataSource.addArchive(archiveName, archive);
+            return mapFiles(dataSource, who);
+        } catch (IOException exp) {
+            throw new CompasCimMappingException(READ_DATA_ERROR_CODE,
+                    "Unable to read the CIM archive '" + archiveName + "': " + exp.getMessage());
+        }
+    }
+
+    /**
+     * Read the passed CIM XML and return the SCL of which the Substations are mapped while they're consumed.
+     * This way the SCL can be written while it's created, without the complete SCL in memory.
+     *
+     * @param cimData The CIM XML Data.
+     * @param who     The name of the user who created the SCL from the CIM Data.
+     * @return The SCL Header and the Substations to be mapped.
+     */
+    public CimToSclStream stream(List<CimData> cimData, String who) {
+        var scl = createBasicSCL(cimData, who);
+
+        CimToSclMapperContext context = null;
+        if (cimData != null && !cimData.isEmpty()) {
+            context = createContext(() -> cgmesCimReader.readModelIndex(cimData),
+                    () -> cgmesCimReader.readModel(cimData));
+        }
+        return new CimToSclStream(scl, cimToSclMapper, context);
+    }
+
+    /**
+     * Read the CIM XML Files found in the data source and return the SCL of which the Substations are mapped
+     * while they're consumed. The CIM Model is completely read before this method returns, so the data source
+     * can be closed after it.
+     *
+     * @param dataSource The data source containing the CIM XML Files.
+     * @param who        The name of the user who created the SCL from the CIM Data.
+     * @return The SCL Header and the Substations to be mapped.
+     */
+    public CimToSclStream streamFiles(ReadOnlyDataSource dataSource, String who) {
+        var fileNames = listFileNames(dataSource);
+        var scl = createBasicSCLForFileNames(fileNames, who);
+
+        CimToSclMapperContext context = null;
+        if (!fileNames.isEmpty()) {
+            context = createContext(() -> cgmesCimReader.readModelIndex(dataSource),
+                    () -> cgmesCimReader.readModel(dataSource));
+        }
+        return new CimToSclStream(scl, cimToSclMapper, context);
+    }
+
+    /**
+     * Convert the passed CIM XML once while measuring the time and memory per search in the CIM Model and per
+     * SCL Element type. The Substations are always mapped one after another and the cache isn't used, so the
+     * profile shows the complete conversion of this CIM Model.
+     *
+     * @param cimData The CIM XML Data.
+     * @return The profile of the conversion.
+     */
+    public CimMappingProfile profile(List<CimData> cimData) {
+        if (cimData == null || cimData.isEmpty()) {
+            throw new CompasCimMappingException(NO_DATA_ERROR_CODE, "No CIM Data passed!");
+        }
+
+        var profile = new CimMappingProfile();
+        var start = System.nanoTime();
+        CimToSclMapperContext context;
+        if (cgmesCimReader.getCimReaderMode() == CimReaderMode.STAX) {
+            context = new CimToSclMapperContext(cgmesCimReader.readModelIndex(cimData));
+            profile.setReadTime(Duration.ofNanos(System.nanoTime() - start));
+        } else {
+            var cgmesModel = cgmesCimReader.readModel(cimData);
+            profile.setReadTime(Duration.ofNanos(System.nanoTime() - start));
+            profile.setTriplesByClass(cgmesCimReader.countTriplesByClass(cgmesModel));
+            context = new CimToSclMapperContext(cgmesModel, cimQueryMode, cimQueryRegistry);
+        }
+
+        start = System.nanoTime();
+        cimToSclMapper.mapToScl(createBasicSCL(cimData, null),
+                new CimProfilingContext(context.getModelAccess(), profile));
+        profile.setMapTime(Duration.ofNanos(System.nanoTime() - start));
+        return profile;
+    }
+
+    private Set<String> listFileNames(ReadOnlyDataSource dataSource) {
+        try {
+            return dataSource.listNames(".*");
+        } catch (IOException exp) {
+            throw new CompasCimMappingException(READ_DATA_ERROR_CODE, "Unable to list the CIM Files: " + exp.getMessage());
+        }
+    }
+
+    private String createKey(ReadOnlyDataSource dataSource, Set<String> fileNames) {
+        try {
+            return CimContentHash.of(dataSource, fileNames);
+        } catch (IOException exp) {
+            throw new CompasCimMappingException(READ_DATA_ERROR_CODE, "Unable to read the CIM Files: " + exp.getMessage());
+        }
+    }
+
+    /**
+     * Add the Substations to the SCL, taken from the cache when the same CIM Files were mapped before. Otherwise,
+     * the CIM Model is read and mapped, and the mapped Substations are added to the cache.
+     *
+     * @param scl      The SCL to add the Substations to, containing the Header of this request.
+     * @param cacheKey Creates the key of the CIM Files in the cache, only called when the cache is enabled.
+     * @param context  Reads the CIM Model and creates the context, only called when the cache isn't hit.
+     */
+    private void mapToScl(SCL scl, Supplier<String> cacheKey, Supplier<CimToSclMapperContext> context) {
+        if (!cimMappingResultCache.isEnabled()) {
+            mapToScl(scl, context.get());
+            return;
+        }
+
+        var key = cacheKey.get();
+        Optional<List<TSubstation>> cachedSubstations = cimMappingResultCache.get(key);
+        if (cachedSubstations.isPresent()) {
+            scl.getSubstation().addAll(cachedSubstations.get());
+        } else {
+            mapToScl(scl, context.get());
+            cimMappingResultCache.put(key, scl.getSubstation());
+        }
+    }
+
+    /**
+     * Map the CIM Model in the context to the SCL, if configured the Substations are mapped in parallel.
+     * The time it took and the number of mapped Elements are recorded in the metrics, the mapping is traced in
+     * its own span.
+     *
+     * @param scl     The SCL to add the mapped content to.
+     * @param context The context holding the CIM Model.
+     */
+    private void mapToScl(SCL scl, CimToSclMapperContext context) {
+        var start = System.nanoTime();
+        try (var span = cimMappingTracing.startStage(CimMappingStage.MAP_TO_SCL)) {
+            if (cimMappingParallelism.isParallel()) {
+                cimToSclMapper.mapToScl(scl, context, cimMappingParallelism.getPool());
+            } else {
+                cimToSclMapper.mapToScl(scl, context);
+            }
+        } finally {
+            cimMappingMetrics.recordStage(CimMappingStage.MAP_TO_SCL, System.nanoTime() - start);
+        }
+        if (cimMappingMetrics.isEnabled()) {
+            cimMappingMetrics.countOutputElements(SclElementCounter.count(scl.getSubstation()));
+        }
+    }
+
+    /**
+     * Create the context used by the mapper, depending on the mode of the reader the CIM Model is only indexed
+     * or loaded in a Triple Store.
+     *
+     * @param modelIndex Reads the index of the CIM Model, used in the StAX mode.
+     * @param cgmesModel Reads the Network Model from PowSyBl, used in the Triple Store mode.
+     * @return The context to pass to the mapper.
+     */
+    private CimToSclMapperContext createContext(Supplier<CimModelIndex> modelIndex, Supplier<CgmesModel> cgmesModel) {
+        if (cgmesCimReader.getCimReaderMode() == CimReaderMode.STAX) {
+            return new CimToSclMapperContext(modelIndex.get());
+        }
+        return new CimToSclMapperContext(cgmesModel.get(), cimQueryMode, cimQueryRegistry);
+    }
+
     /**
      * Create a basic SCL Object with common values filled.
      *
@@ -66,6 +301,18 @@ public class CompasCimMappingService {
      * @return The created SCL Model.
      */
     SCL createBasicSCL(List<CimData> cimData, String who) {
+        var fileNames = cimData == null ? List.<String>of() : cimData.stream().map(CimData::getName).toList();
+        return createBasicSCLForFileNames(fileNames, who);
+    }
+
+    /**
+     * Create a basic SCL Object with common values filled.
+     *
+     * @param fileNames The names of the CIM Files used to create the SCL.
+     * @param who       The name of the user who created the SCL from the CIM Data.
+     * @return The created SCL Model.
+     */
+    SCL createBasicSCLForFileNames(Collection<String> fileNames, String who) {
         var formatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX");
         var factory = new ObjectFactory();
 
@@ -92,10 +339,8 @@ public class CompasCimMappingService {
 
         // Add all CIM filenames that where used to create the SCL Content.
         var what = "SCL created from CIM File(s)";
-        if (cimData != null && !cimData.isEmpty()) {
-            what += ": " + cimData.stream()
-                    .map(CimData::getName)
-                    .collect(Collectors.joining(", "));
+        if (!fileNames.isEmpty()) {
+            what += ": " + String.join(", ", fileNames);
         }
         item.setWhat(what);
         header.getHistory().getHitem().add(item);
@@ -0,0 +1,62 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.lfenergy.compas.scl2007b4.model.TBay;
+import org.lfenergy.compas.scl2007b4.model.TPowerTransformer;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
+import org.lfenergy.compas.scl2007b4.model.TVoltageLevel;
+
+import java.util.Collection;
+
+/**
+ * Counts the SCL Elements created by the mapper below the Substations, used as the output size in the metrics.
+ * Only the Elements the mapper creates are counted, the Header and Private Elements aren't.
+ */
+final class SclElementCounter {
+    SclElementCounter() {
+        throw new UnsupportedOperationException("SclElementCounter class");
+    }
+
+    static long count(Collection<TSubstation> tSubstations) {
+        var count = 0L;
+        for (var tSubstation : tSubstations) {
+            count += 1 + countTransformers(tSubstation.getPowerTransformer());
+            for (var tVoltageLevel : tSubstation.getVoltageLevel()) {
+                count += count(tVoltageLevel);
+            }
+        }
+        return count;
+    }
+
+    private static long count(TVoltageLevel tVoltageLevel) {
+        var count = 1L + countTransformers(tVoltageLevel.getPowerTransformer());
+        for (var tBay : tVoltageLevel.getBay()) {
+            count += count(tBay);
+        }
+        return count;
+    }
+
+    private static long count(TBay tBay) {
+        var count = 1L + tBay.getConnectivityNode().size() + countTransformers(tBay.getPowerTransformer());
+        for (var tConductingEquipment : tBay.getConductingEquipment()) {
+            count += 1 + tConductingEquipment.getTerminal().size();
+        }
+        return count;
+    }
+
+    private static long countTransformers(Collection<TPowerTransformer> tPowerTransformers) {
+        var count = 0L;
+        for (var tPowerTransformer : tPowerTransformers) {
+            count++;
+            for (var tTransformerWinding : tPowerTransformer.getTransformerWinding()) {
+                count += 1 + tTransformerWinding.getTerminal().size();
+                if (tTransformerWinding.getTapChanger() != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -3,28 +3,46 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.lfenergy.compas.cim.mapping.cgmes;
 
+import com.powsybl.triplestore.api.TripleStoreFactory;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapperContext;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingStage;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
 import org.lfenergy.compas.cim.mapping.model.CimData;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 
 import static java.util.Objects.requireNonNull;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.NO_DATA_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.READ_DATA_ERROR_CODE;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
-@ExtendWith(MockitoExtension.class)
 class CgmesCimReaderTest {
-    @InjectMocks
-    private CgmesCimReader cgmesCimReader;
+    private static final String MINIGRID_EQ_FILE = "/minigrid/MiniGridTestConfiguration_BC_EQ_v3.0.0.xml";
+    private static final String BOUNDARY_FILE_NAME = "MiniGridTestConfiguration_EQ_BD_v3.0.0.xml";
+    private static final String BOUNDARY_CONTENT = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <rdf:RDF xmlns:cim="http://iec.ch/TC57/2013/CIM-schema-cim16#"
+                     xmlns:rdf="http://www.w3.org/1999/02/22-rdf-syntax-ns#">
+                <cim:Substation rdf:ID="_boundary-substation">
+                    <cim:IdentifiedObject.name>Boundary Substation</cim:IdentifiedObject.name>
+                </cim:Substation>
+            </rdf:RDF>
+            """;
+
+    private final CgmesCimReader cgmesCimReader = new CgmesCimReader(CimTripleStore.defaultTripleStore(),
+            CimReaderMode.TRIPLE_STORE, CimBoundaryCache.disabled(), CimMappingMetrics.NONE, CimMappingTracing.NONE);
 
     @Test
     void readModel_WhenReadingCimModel_ThenCgmesModelReturnedWithSubstations() throws IOException {
@@ -51,13 +69,163 @@ class CgmesCimReaderTest {
     @Test
     void readModel_WhenReadingWithNullList_ThenExceptionThrown() {
         var exception = assertThrows(CompasCimMappingException.class,
-                () -> cgmesCimReader.readModel(null));
+                () -> cgmesCimReader.readModel((List<CimData>) null));
+
+        assertEquals(NO_DATA_ERROR_CODE, exception.getErrorCode());
+    }
+
+    @Test
+    void readModel_WhenReadingCimModelFromDataSource_ThenCgmesModelReturnedWithSubstations() throws IOException {
+        try (var dataSource = new CimFileDataSource();
+             var content = requireNonNull(getClass().getResourceAsStream(MINIGRID_EQ_FILE))) {
+            dataSource.addFile("MiniGridTestConfiguration_BC_EQ_v3.0.0.xml", content);
+
+            var result = cgmesCimReader.readModel(dataSource);
+
+            assertEquals(5, result.substations().size());
+        }
+    }
+
+    @Test
+    void readModel_WhenReadingWithSelectedTripleStore_ThenCgmesModelReturnedWithSubstations() throws IOException {
+        var cimTripleStore = new CimTripleStore(TripleStoreFactory.defaultImplementation());
+        var reader = new CgmesCimReader(cimTripleStore, CimReaderMode.TRIPLE_STORE, CimBoundaryCache.disabled(),
+                CimMappingMetrics.NONE, CimMappingTracing.NONE);
+        var cimData = new CimData();
+        cimData.setName("MiniGridTestConfiguration_BC_EQ_v3.0.0.xml");
+        cimData.setRdfData(readFile());
+
+        var result = reader.readModel(List.of(cimData));
+
+        assertEquals(5, result.substations().size());
+    }
+
+    @Test
+    void readModel_WhenMetricsEnabled_ThenReadTimeRecordedAndTriplesNotCounted() throws IOException {
+        var cimMappingMetrics = mock(CimMappingMetrics.class);
+        when(cimMappingMetrics.isEnabled()).thenReturn(true);
+        var reader = new CgmesCimReader(CimTripleStore.defaultTripleStore(), CimReaderMode.TRIPLE_STORE,
+                CimBoundaryCache.disabled(), cimMappingMetrics, CimMappingTracing.NONE);
+        var cimData = new CimData();
+        cimData.setName("MiniGridTestConfiguration_BC_EQ_v3.0.0.xml");
+        cimData.setRdfData(readFile());
+
+        reader.readModel(List.of(cimData));
+
+        verify(cimMappingMetrics, times(1)).recordStage(eq(CimMappingStage.READ_MODEL), anyLong());
+        verify(cimMappingMetrics, never()).countInputTriples(anyLong());
+    }
+
+    @Test
+    void readModel_WhenCountingTriplesEnabled_ThenReadTimeAndTriplesRecorded() throws IOException {
+        var cimMappingMetrics = mock(CimMappingMetrics.class);
+        when(cimMappingMetrics.isEnabled()).thenReturn(true);
+        when(cimMappingMetrics.isCountingInputTriples()).thenReturn(true);
+        var reader = new CgmesCimReader(CimTripleStore.defaultTripleStore(), CimReaderMode.TRIPLE_STORE,
+                CimBoundaryCache.disabled(), cimMappingMetrics, CimMappingTracing.NONE);
+        var cimData = new CimData();
+        cimData.setName("MiniGridTestConfiguration_BC_EQ_v3.0.0.xml");
+        cimData.setRdfData(readFile());
+
+        reader.readModel(List.of(cimData));
+
+        verify(cimMappingMetrics, times(1)).recordStage(eq(CimMappingStage.READ_MODEL), anyLong());
+        verify(cimMappingMetrics, times(1)).countInputTriples(longThat(triples -> triples > 0));
+    }
+
+    @Test
+    void countTriplesByClass_WhenModelRead_ThenTriplesCountedPerCimClass() throws IOException {
+        var cimData = new CimData();
+        cimData.setName("MiniGridTestConfiguration_BC_EQ_v3.0.0.xml");
+        cimData.setRdfData(readFile());
+        var cgmesModel = cgmesCimReader.readModel(List.of(cimData));
+
+        var result = cgmesCimReader.countTriplesByClass(cgmesModel);
+
+        // Every Substation has at least its type, name and Region.
+        assertTrue(result.get("Substation") >= 5 * 3);
+        assertTrue(result.containsKey("VoltageLevel"));
+    }
+
+    @Test
+    void readModel_WhenBoundaryCacheEnabled_ThenBoundaryParsedOnceAndAddedToEveryModel() throws IOException {
+        var cimBoundaryCache = new CimBoundaryCache(10_000_000L);
+        var reader = new CgmesCimReader(CimTripleStore.defaultTripleStore(), CimReaderMode.TRIPLE_STORE,
+                cimBoundaryCache, CimMappingMetrics.NONE, CimMappingTracing.NONE);
+
+        for (var i = 0; i < 2; i++) {
+            try (var dataSource = new CimFileDataSource();
+                 var content = requireNonNull(getClass().getResourceAsStream(MINIGRID_EQ_FILE))) {
+                dataSource.addFile("MiniGridTestConfiguration_BC_EQ_v3.0.0.xml", content);
+                dataSource.addFile(BOUNDARY_FILE_NAME,
+                        new ByteArrayInputStream(BOUNDARY_CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+                var result = reader.readModel(dataSource);
+
+                assertEquals(6, new CimToSclMapperContext(result).getSubstations().size());
+            }
+        }
+        assertTrue(cimBoundaryCache.getSize() > 0);
+        assertEquals(0, cimBoundaryCache.getSize() % CimBoundaryCache.ESTIMATED_BYTES_PER_TRIPLE);
+    }
+
+    @Test
+    void readModel_WhenBoundaryCacheDisabled_ThenBoundaryReadWithOtherFiles() throws IOException {
+        var cimData = new CimData();
+        cimData.setName("MiniGridTestConfiguration_BC_EQ_v3.0.0.xml");
+        cimData.setRdfData(readFile());
+        var boundaryData = new CimData();
+        boundaryData.setName(BOUNDARY_FILE_NAME);
+        boundaryData.setRdfData(BOUNDARY_CONTENT);
+
+        var result = cgmesCimReader.readModel(List.of(cimData, boundaryData));
+
+        assertEquals(6, new CimToSclMapperContext(result).getSubstations().size());
+    }
+
+    @Test
+    void boundaryFileRegex_WhenMatchingNames_ThenOnlyBoundaryFilesMatch() {
+        assertTrue(BOUNDARY_FILE_NAME.matches(CgmesCimReader.BOUNDARY_FILE_REGEX));
+        assertTrue("20171002T0930Z_ENTSO-E_TP_BD_1130.xml".matches(CgmesCimReader.BOUNDARY_FILE_REGEX));
+        assertFalse("MiniGridTestConfiguration_BC_EQ_v3.0.0.xml".matches(CgmesCimReader.BOUNDARY_FILE_REGEX));
+    }
+
+    @Test
+    void readModelIndex_WhenReadingCimModel_ThenIndexReturnedWithSubstations() throws IOException {
+        var cimData = new CimData();
+        cimData.setName("MiniGridTestConfiguration_BC_EQ_v3.0.0.xml");
+        cimData.setRdfData(readFile());
+
+        var result = cgmesCimReader.readModelIndex(List.of(cimData));
+
+        assertEquals(5, result.substations().size());
+    }
+
+    @Test
+    void readModelIndex_WhenReadingInvalidXml_ThenExceptionThrown() {
+        var cimData = new CimData();
+        cimData.setName("Invalid_EQ.xml");
+        cimData.setRdfData("<rdf:RDF");
+        var cimDataList = List.of(cimData);
+
+        var exception = assertThrows(CompasCimMappingException.class,
+                () -> cgmesCimReader.readModelIndex(cimDataList));
+
+        assertEquals(READ_DATA_ERROR_CODE, exception.getErrorCode());
+    }
+
+    @Test
+    void readModelIndex_WhenReadingWithEmptyCimDataList_ThenExceptionThrown() {
+        List<CimData> cimDataList = Collections.emptyList();
+
+        var exception = assertThrows(CompasCimMappingException.class,
+                () -> cgmesCimReader.readModelIndex(cimDataList));
 
         assertEquals(NO_DATA_ERROR_CODE, exception.getErrorCode());
     }
 
     private String readFile() throws IOException {
-        var resource = requireNonNull(getClass().getResource("/minigrid/MiniGridTestConfiguration_BC_EQ_v3.0.0.xml"));
+        var resource = requireNonNull(getClass().getResource(MINIGRID_EQ_FILE));
         var path = Paths.get(resource.getPath());
         return String.join("", Files.readAllLines(path));
     }
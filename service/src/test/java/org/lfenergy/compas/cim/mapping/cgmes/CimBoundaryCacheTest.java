@@ -0,0 +1,45 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.cgmes;
+
+import com.powsybl.triplestore.api.TripleStore;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lfenergy.compas.cim.mapping.cgmes.CimBoundaryCache.ESTIMATED_BYTES_PER_TRIPLE;
+import static org.mockito.Mockito.mock;
+
+class CimBoundaryCacheTest {
+    @Test
+    void put_WhenMaxSizeReached_ThenLeastRecentlyUsedRemoved() {
+        var cache = new CimBoundaryCache(100 * ESTIMATED_BYTES_PER_TRIPLE);
+        var first = mock(TripleStore.class);
+        cache.put("first", first, 40);
+        cache.put("second", mock(TripleStore.class), 40);
+        cache.get("first");
+
+        cache.put("third", mock(TripleStore.class), 40);
+
+        assertSame(first, cache.get("first").orElseThrow());
+        assertTrue(cache.get("second").isEmpty());
+        assertTrue(cache.get("third").isPresent());
+        assertEquals(80 * ESTIMATED_BYTES_PER_TRIPLE, cache.getSize());
+    }
+
+    @Test
+    void put_WhenFileLargerThanCache_ThenNotCached() {
+        var cache = new CimBoundaryCache(100 * ESTIMATED_BYTES_PER_TRIPLE);
+
+        cache.put("large", mock(TripleStore.class), 101);
+
+        assertTrue(cache.get("large").isEmpty());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void disabled_WhenCalled_ThenCacheNotEnabled() {
+        assertFalse(CimBoundaryCache.disabled().isEnabled());
+        assertTrue(new CimBoundaryCache(1).isEnabled());
+    }
+}
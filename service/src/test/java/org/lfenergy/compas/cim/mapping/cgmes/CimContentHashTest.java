@@ -0,0 +1,91 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.cgmes;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.cim.mapping.model.CimData;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CimContentHashTest {
+    @Test
+    void constructor_WhenConstructorCalled_ThenShouldThrowExceptionCauseForbidden() {
+        assertThrows(UnsupportedOperationException.class, CimContentHash::new);
+    }
+
+    @Test
+    void of_WhenContentDiffers_ThenDifferentHashCreated() {
+        var first = hash("FILE1_EQ.xml", "<rdf/>");
+
+        assertEquals(first, hash("FILE1_EQ.xml", "<rdf/>"));
+        assertNotEquals(first, hash("FILE1_EQ.xml", "<rdf></rdf>"));
+        assertNotEquals(first, hash("FILE2_EQ.xml", "<rdf/>"));
+        // Moving characters between the name and the content changes the hash.
+        assertNotEquals(hash("A", "BC"), hash("AB", "C"));
+    }
+
+    @Test
+    void of_WhenCimDataPassedInOtherOrder_ThenSameHashCreated() {
+        var eq = cimData("FILE1_EQ.xml", "<eq/>");
+        var tp = cimData("FILE1_TP.xml", "<tp/>");
+
+        assertEquals(CimContentHash.of(List.of(eq, tp)), CimContentHash.of(List.of(tp, eq)));
+    }
+
+    @Test
+    void of_WhenContentLargerThanBuffer_ThenWholeContentHashed() throws NoSuchAlgorithmException {
+        var name = "FILE1_EQ.xml";
+        var content = "<rdf>" + "\u00e9".repeat(10_000) + "</rdf>";
+        var digest = MessageDigest.getInstance("SHA-256");
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(name.length()).array());
+        digest.update(name.getBytes(UTF_8));
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(content.length()).array());
+        digest.update(content.getBytes(UTF_8));
+
+        assertEquals(HexFormat.of().formatHex(digest.digest()), hash(name, content));
+    }
+
+    @Test
+    void of_WhenFilesAddedInOtherOrder_ThenSameHashCreated() throws IOException {
+        try (var first = new CimFileDataSource(); var second = new CimFileDataSource()) {
+            first.addFile("FILE1_EQ.xml", new ByteArrayInputStream("<eq/>".getBytes(UTF_8)));
+            first.addFile("FILE1_TP.xml", new ByteArrayInputStream("<tp/>".getBytes(UTF_8)));
+            second.addFile("FILE1_TP.xml", new ByteArrayInputStream("<tp/>".getBytes(UTF_8)));
+            second.addFile("FILE1_EQ.xml", new ByteArrayInputStream("<eq/>".getBytes(UTF_8)));
+
+            assertEquals(CimContentHash.of(first, first.listNames(".*")),
+                    CimContentHash.of(second, second.listNames(".*")));
+        }
+    }
+
+    @Test
+    void of_WhenSingleFileContentPassed_ThenSameHashAsFromDataSource() throws IOException {
+        try (var dataSource = new CimFileDataSource()) {
+            dataSource.addFile("FILE1_EQ_BD.xml", new ByteArrayInputStream("<bd/>".getBytes(UTF_8)));
+
+            assertEquals(CimContentHash.of(dataSource, List.of("FILE1_EQ_BD.xml")),
+                    CimContentHash.of("FILE1_EQ_BD.xml", "<bd/>".getBytes(UTF_8)));
+        }
+    }
+
+    private String hash(String name, String rdfData) {
+        return CimContentHash.of(List.of(cimData(name, rdfData)));
+    }
+
+    private CimData cimData(String name, String rdfData) {
+        var cimData = new CimData();
+        cimData.setName(name);
+        cimData.setRdfData(rdfData);
+        return cimData;
+    }
+}
@@ -0,0 +1,202 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.cgmes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CimFileDataSourceTest {
+    @Test
+    void newInputStream_WhenFileAdded_ThenContentCanBeReadMoreThanOnce() throws IOException {
+        try (var dataSource = new CimFileDataSource()) {
+            dataSource.addFile("FILE1_EQ.xml", new ByteArrayInputStream("<rdf/>".getBytes(UTF_8)));
+
+            for (var i = 0; i < 2; i++) {
+                try (var content = dataSource.newInputStream("FILE1_EQ.xml")) {
+                    assertEquals("<rdf/>", new String(content.readAllBytes(), UTF_8));
+                }
+            }
+        }
+    }
+
+    @Test
+    void newInputStream_WhenUnknownFile_ThenExceptionThrown() throws IOException {
+        try (var dataSource = new CimFileDataSource()) {
+            assertThrows(NoSuchFileException.class, () -> dataSource.newInputStream("UNKNOWN_EQ.xml"));
+        }
+    }
+
+    @Test
+    void exists_WhenCalledWithSuffixAndExtension_ThenFileNameIsCombined() throws IOException {
+        try (var dataSource = new CimFileDataSource()) {
+            dataSource.addFile("FILE1_EQ.xml", new ByteArrayInputStream(new byte[0]));
+
+            assertTrue(dataSource.exists("FILE1_EQ", "xml"));
+            assertTrue(dataSource.exists("FILE1_EQ.xml"));
+            assertFalse(dataSource.exists("FILE1_TP", "xml"));
+        }
+    }
+
+    @Test
+    void getSize_WhenFileReplaced_ThenOnlyLastContentCounted() throws IOException {
+        try (var dataSource = new CimFileDataSource()) {
+            dataSource.addFile("FILE1_EQ.xml", new ByteArrayInputStream("<rdf/>".getBytes(UTF_8)));
+            dataSource.addFile("FILE2_TP.xml", new ByteArrayInputStream("<rdf></rdf>".getBytes(UTF_8)));
+            dataSource.addFile("FILE1_EQ.xml", new ByteArrayInputStream("<rdf>  </rdf>".getBytes(UTF_8)));
+
+            assertEquals(11 + 13, dataSource.getSize());
+        }
+    }
+
+    @Test
+    void addFile_WhenFileReplacedBeforeOtherFileAdded_ThenAllFilesKept() throws IOException {
+        try (var dataSource = new CimFileDataSource()) {
+            dataSource.addFile("FILE1_EQ.xml", new ByteArrayInputStream("<eq/>".getBytes(UTF_8)));
+            dataSource.addFile("FILE1_EQ.xml", new ByteArrayInputStream("<eq></eq>".getBytes(UTF_8)));
+            dataSource.addFile("FILE2_TP.xml", new ByteArrayInputStream("<tp/>".getBytes(UTF_8)));
+
+            try (var content = dataSource.newInputStream("FILE1_EQ.xml")) {
+                assertEquals("<eq></eq>", new String(content.readAllBytes(), UTF_8));
+            }
+            try (var content = dataSource.newInputStream("FILE2_TP.xml")) {
+                assertEquals("<tp/>", new String(content.readAllBytes(), UTF_8));
+            }
+            assertEquals(9 + 5, dataSource.getSize());
+        }
+    }
+
+    @Test
+    void listNames_WhenCalledWithRegex_ThenMatchingNamesReturnedInOrder() throws IOException {
+        try (var dataSource = new CimFileDataSource()) {
+            dataSource.addFile("FILE2_TP.xml", new ByteArrayInputStream(new byte[0]));
+            dataSource.addFile("FILE1_EQ.xml", new ByteArrayInputStream(new byte[0]));
+            dataSource.addFile("README.txt", new ByteArrayInputStream(new byte[0]));
+
+            assertEquals(List.of("FILE2_TP.xml", "FILE1_EQ.xml"), List.copyOf(dataSource.listNames(".*\\.xml")));
+        }
+    }
+
+    @Test
+    void addArchive_WhenZipArchive_ThenCimEntriesAreAdded() throws IOException {
+        var archive = new ByteArrayOutputStream();
+        try (var zipStream = new ZipOutputStream(archive)) {
+            zipStream.putNextEntry(new ZipEntry("bundle/"));
+            zipStream.putNextEntry(new ZipEntry("bundle/FILE1_EQ.xml"));
+            zipStream.write("<eq/>".getBytes(UTF_8));
+            zipStream.putNextEntry(new ZipEntry("FILE1_TP.xml"));
+            zipStream.write("<tp/>".getBytes(UTF_8));
+            zipStream.putNextEntry(new ZipEntry("README.txt"));
+            zipStream.write("Readme".getBytes(UTF_8));
+        }
+
+        try (var dataSource = new CimFileDataSource()) {
+            dataSource.addArchive("bundle.ZIP", new ByteArrayInputStream(archive.toByteArray()));
+
+            assertEquals(List.of("FILE1_EQ.xml", "FILE1_TP.xml"), List.copyOf(dataSource.listNames(".*")));
+            try (var content = dataSource.newInputStream("FILE1_TP.xml")) {
+                assertEquals("<tp/>", new String(content.readAllBytes(), UTF_8));
+            }
+        }
+    }
+
+    @Test
+    void addArchive_WhenGzipArchive_ThenFileAddedWithoutExtension() throws IOException {
+        var archive = new ByteArrayOutputStream();
+        try (var gzipStream = new GZIPOutputStream(archive)) {
+            gzipStream.write("<eq/>".getBytes(UTF_8));
+        }
+
+        try (var dataSource = new CimFileDataSource()) {
+            dataSource.addArchive("FILE1_EQ.xml.gz", new ByteArrayInputStream(archive.toByteArray()));
+
+            try (var content = dataSource.newInputStream("FILE1_EQ.xml")) {
+                assertEquals("<eq/>", new String(content.readAllBytes(), UTF_8));
+            }
+        }
+    }
+
+    @Test
+    void addArchive_WhenZipEntryInWindowsDirectory_ThenDirectoryRemovedFromName() throws IOException {
+        var archive = new ByteArrayOutputStream();
+        try (var zipStream = new ZipOutputStream(archive)) {
+            zipStream.putNextEntry(new ZipEntry("bundle\\FILE1_EQ.xml"));
+            zipStream.write("<eq/>".getBytes(UTF_8));
+        }
+
+        try (var dataSource = new CimFileDataSource()) {
+            dataSource.addArchive("bundle.zip", new ByteArrayInputStream(archive.toByteArray()));
+
+            assertEquals(List.of("FILE1_EQ.xml"), List.copyOf(dataSource.listNames(".*")));
+        }
+    }
+
+    @Test
+    void addArchive_WhenArchiveInflatesToMoreThanMaximum_ThenExceptionThrown() throws IOException {
+        var archive = new ByteArrayOutputStream();
+        try (var gzipStream = new GZIPOutputStream(archive)) {
+            gzipStream.write(new byte[10_000]);
+        }
+
+        try (var dataSource = new CimFileDataSource(1_000, 10)) {
+            var content = new ByteArrayInputStream(archive.toByteArray());
+            assertThrows(IOException.class, () -> dataSource.addArchive("FILE1_EQ.xml.gz", content));
+
+            assertFalse(dataSource.exists("FILE1_EQ.xml"));
+            assertEquals(0, dataSource.getSize());
+        }
+    }
+
+    @Test
+    void addArchive_WhenZipContainsMoreEntriesThanMaximum_ThenExceptionThrown() throws IOException {
+        var archive = new ByteArrayOutputStream();
+        try (var zipStream = new ZipOutputStream(archive)) {
+            for (var i = 0; i < 3; i++) {
+                zipStream.putNextEntry(new ZipEntry("README" + i + ".txt"));
+            }
+        }
+
+        try (var dataSource = new CimFileDataSource(1_000, 2)) {
+            var content = new ByteArrayInputStream(archive.toByteArray());
+            assertThrows(IOException.class, () -> dataSource.addArchive("bundle.zip", content));
+        }
+    }
+
+    @Test
+    void addArchive_WhenUnsupportedArchive_ThenExceptionThrown() throws IOException {
+        try (var dataSource = new CimFileDataSource()) {
+            var content = new ByteArrayInputStream(new byte[0]);
+            assertThrows(IOException.class, () -> dataSource.addArchive("bundle.7z", content));
+        }
+    }
+
+    @Test
+    void isArchive_WhenCalled_ThenArchiveExtensionsRecognized() {
+        assertTrue(CimFileDataSource.isArchive("bundle.zip"));
+        assertTrue(CimFileDataSource.isArchive("FILE1_EQ.xml.GZ"));
+        assertFalse(CimFileDataSource.isArchive("FILE1_EQ.xml"));
+    }
+
+    @Test
+    void close_WhenCalled_ThenFilesAreRemoved() throws IOException {
+        var dataSource = new CimFileDataSource();
+        dataSource.addFile("../../FILE1_EQ.xml", new ByteArrayInputStream("<rdf/>".getBytes(UTF_8)));
+        assertTrue(dataSource.exists("../../FILE1_EQ.xml"));
+
+        dataSource.close();
+
+        assertEquals(Set.of(), dataSource.listNames(".*"));
+    }
+}
@@ -0,0 +1,136 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.cgmes;
+
+import com.powsybl.commons.datasource.ReadOnlyMemDataSource;
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapperContext;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
+import org.lfenergy.compas.cim.mapping.model.CgmesTerminal;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CimStaxReaderTest {
+    private static final String MINIGRID_EQ_FILE_NAME = "MiniGridTestConfiguration_BC_EQ_v3.0.0.xml";
+
+    @Test
+    void read_WhenReadingMiniGrid_ThenSameElementsFoundAsWithTripleStore() throws IOException, XMLStreamException {
+        var source = new ReadOnlyMemDataSource();
+        try (var content = requireNonNull(getClass().getResourceAsStream("/minigrid/" + MINIGRID_EQ_FILE_NAME))) {
+            source.putData(MINIGRID_EQ_FILE_NAME, content);
+        }
+
+        var cgmesCimReader = new CgmesCimReader(CimTripleStore.defaultTripleStore(), CimReaderMode.TRIPLE_STORE,
+                CimBoundaryCache.disabled(), CimMappingMetrics.NONE, CimMappingTracing.NONE);
+        var expected = new CimToSclMapperContext(cgmesCimReader.readModel(source));
+        var result = new CimToSclMapperContext(new CimStaxReader().read(source));
+
+        assertEquals(5, result.getSubstations().size());
+        assertSameElements(expected.getSubstations(), result.getSubstations());
+        for (var substation : expected.getSubstations()) {
+            assertSameElements(expected.getVoltageLevelsBySubstation(substation.id()),
+                    result.getVoltageLevelsBySubstation(substation.id()));
+            assertSameElements(expected.getTransformers(substation.id()), result.getTransformers(substation.id()));
+
+            for (var transformer : expected.getTransformers(substation.id())) {
+                assertSameElements(expected.getTransformerEnds(transformer.id()),
+                        result.getTransformerEnds(transformer.id()));
+                for (var transformerEnd : expected.getTransformerEnds(transformer.id())) {
+                    assertEquals(expected.getTapChanger(transformerEnd.id()), result.getTapChanger(transformerEnd.id()));
+                    assertEquals(expected.getTerminalById(transformerEnd.terminalId()),
+                            result.getTerminalById(transformerEnd.terminalId()));
+                }
+            }
+
+            for (var voltageLevel : expected.getVoltageLevelsBySubstation(substation.id())) {
+                assertSameElements(expected.getBaysByVoltageLevel(voltageLevel.id()),
+                        result.getBaysByVoltageLevel(voltageLevel.id()));
+                assertSameElements(expected.getBusbarSectionsByEquipmentContainer(voltageLevel.id()),
+                        result.getBusbarSectionsByEquipmentContainer(voltageLevel.id()));
+
+                for (var busbarSection : expected.getBusbarSectionsByEquipmentContainer(voltageLevel.id())) {
+                    assertSameElements(expected.getConnectivityNodeByBusbarSection(busbarSection.id()),
+                            result.getConnectivityNodeByBusbarSection(busbarSection.id()));
+                }
+                for (var bay : expected.getBaysByVoltageLevel(voltageLevel.id())) {
+                    // The Connectivity Nodes of a Bay are sorted by name, so also the order should be the same.
+                    assertEquals(expected.getConnectivityNodeByBay(bay.id()), result.getConnectivityNodeByBay(bay.id()));
+                    assertSameElements(expected.getSwitches(bay.id()), result.getSwitches(bay.id()));
+                    for (var cgmesSwitch : expected.getSwitches(bay.id())) {
+                        assertSameElements(expected.getTerminalsByConductingEquipment(cgmesSwitch.id()),
+                                result.getTerminalsByConductingEquipment(cgmesSwitch.id()));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void read_WhenElementDescribedInTwoFiles_ThenPropertiesAreCombined() throws IOException, XMLStreamException {
+        var source = new ReadOnlyMemDataSource();
+        source.putData("Test_EQ.xml", toInputStream("""
+                <rdf:RDF xmlns:cim="http://iec.ch/TC57/CIM100#" xmlns:rdf="http://www.w3.org/1999/02/22-rdf-syntax-ns#">
+                    <cim:Breaker rdf:ID="_breaker">
+                        <cim:IdentifiedObject.name>Breaker</cim:IdentifiedObject.name>
+                        <cim:Equipment.EquipmentContainer rdf:resource="#_bay"/>
+                    </cim:Breaker>
+                    <cim:Terminal rdf:ID="_terminal">
+                        <cim:IdentifiedObject.name>T1</cim:IdentifiedObject.name>
+                        <cim:Terminal.ConductingEquipment rdf:resource="#_breaker"/>
+                    </cim:Terminal>
+                </rdf:RDF>
+                """));
+        source.putData("Test_TP.xml", toInputStream("""
+                <rdf:RDF xmlns:cim="http://iec.ch/TC57/CIM100#" xmlns:rdf="http://www.w3.org/1999/02/22-rdf-syntax-ns#">
+                    <cim:Terminal rdf:about="#_terminal">
+                        <cim:Terminal.ConnectivityNode rdf:resource="#_node"/>
+                    </cim:Terminal>
+                </rdf:RDF>
+                """));
+
+        var result = new CimStaxReader().read(source);
+
+        var expectedTerminal = new CgmesTerminal("terminal", "T1", "node");
+        assertEquals(List.of(expectedTerminal), result.terminalsByConductingEquipment().get("breaker"));
+        assertEquals(expectedTerminal, result.terminalsById().get("terminal"));
+        assertEquals("Breaker", result.switchesByContainer().get("bay").get(0).name());
+        assertEquals("Breaker", result.switchesByContainer().get("bay").get(0).type());
+    }
+
+    @Test
+    void read_WhenInvalidXml_ThenExceptionThrown() throws IOException {
+        var source = new ReadOnlyMemDataSource();
+        source.putData("Test_EQ.xml", toInputStream("<rdf:RDF"));
+        var reader = new CimStaxReader();
+
+        assertThrows(XMLStreamException.class, () -> reader.read(source));
+    }
+
+    @Test
+    void toId_WhenCalled_ThenNamespaceAndUnderscoreRemoved() {
+        assertEquals("abc", CimStaxReader.toId("_abc"));
+        assertEquals("abc", CimStaxReader.toId("#_abc"));
+        assertEquals("abc", CimStaxReader.toId("http://default-cgmes-model/#_abc"));
+        assertEquals("abc", CimStaxReader.toId("urn:uuid:abc"));
+        assertEquals("abc", CimStaxReader.toId("abc"));
+    }
+
+    private static ByteArrayInputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(UTF_8));
+    }
+
+    private static <T> void assertSameElements(List<T> expected, List<T> actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+    }
+}
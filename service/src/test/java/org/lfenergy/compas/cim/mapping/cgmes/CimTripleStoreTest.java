@@ -0,0 +1,33 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.cgmes;
+
+import com.powsybl.triplestore.api.TripleStoreFactory;
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.UNKNOWN_TRIPLE_STORE_ERROR_CODE;
+
+class CimTripleStoreTest {
+    @Test
+    void defaultTripleStore_WhenCalled_ThenDefaultImplementationOfPowSyBlReturned() {
+        assertEquals(TripleStoreFactory.defaultImplementation(), CimTripleStore.defaultTripleStore().getImplementation());
+    }
+
+    @Test
+    void constructor_WhenCalledWithKnownImplementation_ThenImplementationReturned() {
+        var implementation = TripleStoreFactory.allImplementations().get(0);
+
+        assertEquals(implementation, new CimTripleStore(implementation).getImplementation());
+    }
+
+    @Test
+    void constructor_WhenCalledWithUnknownImplementation_ThenExceptionThrown() {
+        var exception = assertThrows(CompasCimMappingException.class, () -> new CimTripleStore("unknown"));
+
+        assertEquals(UNKNOWN_TRIPLE_STORE_ERROR_CODE, exception.getErrorCode());
+    }
+}
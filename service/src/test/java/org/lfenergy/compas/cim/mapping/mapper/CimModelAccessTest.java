@@ -0,0 +1,221 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.triplestore.api.PropertyBag;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.TripleStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingSpan;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
+import org.lfenergy.compas.cim.mapping.model.CgmesSwitch;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.MAPPING_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.mapper.CimModelAccess.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CimModelAccessTest {
+    private static final String NAMESPACE = "http://default-cgmes-model/#_";
+
+    @Mock
+    private CgmesModel cgmesModel;
+
+    @Test
+    void prepareIndexes_WhenQueryModeIndexed_ThenEveryQueryExecutedOnce() {
+        var tripleStore = setupTripleStore(new PropertyBags());
+        var modelAccess = new CimModelAccess(cgmesModel);
+
+        modelAccess.prepareIndexes();
+        modelAccess.getSwitches("Container ID");
+        modelAccess.getTerminalById("Terminal ID");
+
+        // All queries except the one for the Substations, which aren't indexed.
+        verify(tripleStore, times(CimQuery.values().length - 1)).query(anyString());
+    }
+
+    @Test
+    void getSubstations_WhenQueryModeIndexed_ThenTripleStoreQueriedOnce() {
+        var tripleStore = setupTripleStore(new PropertyBags());
+        var modelAccess = new CimModelAccess(cgmesModel);
+
+        modelAccess.getSubstations();
+        modelAccess.getSubstations();
+
+        verify(tripleStore, times(1)).query(anyString());
+    }
+
+    @Test
+    void prepareIndexes_WhenQueryModePerParent_ThenNothingQueried() {
+        var modelAccess = new CimModelAccess(cgmesModel, CimQueryMode.PER_PARENT);
+
+        modelAccess.prepareIndexes();
+
+        verifyNoInteractions(cgmesModel);
+    }
+
+    @Test
+    void getSwitches_WhenCalledFromMultipleThreads_ThenEveryThreadGetsCompleteIndex()
+            throws InterruptedException, ExecutionException {
+        var bags = new PropertyBags();
+        for (var index = 0; index < 1000; index++) {
+            bags.add(createSwitchBag("Switch" + index, "Container" + (index % 10)));
+        }
+        setupTripleStore(bags);
+        var modelAccess = new CimModelAccess(cgmesModel);
+
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = new ArrayList<Callable<List<CgmesSwitch>>>();
+            for (var index = 0; index < 100; index++) {
+                var containerId = "Container" + (index % 10);
+                tasks.add(() -> modelAccess.getSwitches(containerId));
+            }
+            for (Future<List<CgmesSwitch>> result : executor.invokeAll(tasks)) {
+                assertEquals(100, result.get().size());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void getTerminalById_WhenQueryModePerParentAndMoreRowsFound_ThenOtherRowsRecordedAsFiltered() {
+        var tripleStore = mock(TripleStore.class);
+        when(cgmesModel.tripleStore()).thenReturn(tripleStore);
+        var terminalBags = new PropertyBags();
+        terminalBags.add(createTerminalBag(NAMESPACE + "TerminalId"));
+        terminalBags.add(createTerminalBag(NAMESPACE + "TerminalId"));
+        when(tripleStore.query(anyString())).thenReturn(createSubstationBags(), terminalBags);
+        var tracing = mock(CimMappingTracing.class);
+        var span = mock(CimMappingSpan.class);
+        when(tracing.startQuery(CimQuery.SUBSTATION.name())).thenReturn(mock(CimMappingSpan.class));
+        when(tracing.startQuery(CimQuery.TERMINAL.name())).thenReturn(span);
+        var modelAccess = new CimModelAccess(cgmesModel, CimQueryMode.PER_PARENT,
+                new CimQueryRegistry(CimMappingMetrics.NONE, tracing));
+
+        modelAccess.getSubstations();
+        var result = modelAccess.getTerminalById("TerminalId");
+
+        assertEquals("TerminalId", result.orElseThrow().id());
+        verify(span).setRows(2);
+        verify(span).setFilteredRows(1);
+        verify(span).close();
+    }
+
+    @Test
+    void getTapChanger_WhenQueryModeIndexedAndTransformerEndHasBothKinds_ThenPhaseTapChangerRecordedAsFiltered() {
+        var tripleStore = mock(TripleStore.class);
+        when(cgmesModel.tripleStore()).thenReturn(tripleStore);
+        var ratioBags = new PropertyBags();
+        ratioBags.add(createTapChangerBag(RATIO_TAP_CHANGER_PROP, "Ratio ID", "End ID"));
+        var phaseBags = new PropertyBags();
+        phaseBags.add(createTapChangerBag(PHASE_TAP_CHANGER_PROP, "Phase ID", "End ID"));
+        when(tripleStore.query(CimQuery.RATIO_TAP_CHANGER.unbound())).thenReturn(ratioBags);
+        when(tripleStore.query(CimQuery.PHASE_TAP_CHANGER.unbound())).thenReturn(phaseBags);
+        var tracing = mock(CimMappingTracing.class);
+        var ratioSpan = mock(CimMappingSpan.class);
+        var phaseSpan = mock(CimMappingSpan.class);
+        when(tracing.startQuery(CimQuery.RATIO_TAP_CHANGER.name())).thenReturn(ratioSpan);
+        when(tracing.startQuery(CimQuery.PHASE_TAP_CHANGER.name())).thenReturn(phaseSpan);
+        var modelAccess = new CimModelAccess(cgmesModel, CimQueryMode.INDEXED,
+                new CimQueryRegistry(CimMappingMetrics.NONE, tracing));
+
+        var result = modelAccess.getTapChanger("End ID");
+
+        assertEquals("Ratio ID", result.orElseThrow().id());
+        verify(ratioSpan).setFilteredRows(0);
+        verify(phaseSpan).setFilteredRows(1);
+    }
+
+    @Test
+    void bindParent_WhenNamespaceLearned_ThenIriOfParentBoundExactly() {
+        setupTripleStore(createSubstationBags());
+        var modelAccess = new CimModelAccess(cgmesModel, CimQueryMode.PER_PARENT);
+
+        modelAccess.getSubstations();
+        var result = modelAccess.bindParent(VOLTAGE_LEVEL_PROP, "VoltageLevelId");
+
+        assertEquals("VALUES ?VoltageLevel { <" + NAMESPACE + "VoltageLevelId> }", result);
+    }
+
+    @Test
+    void bindParent_WhenNoNamespaceKnown_ThenExceptionThrown() {
+        var modelAccess = new CimModelAccess(cgmesModel, CimQueryMode.PER_PARENT);
+
+        var exception = assertThrows(CompasCimMappingException.class,
+                () -> modelAccess.bindParent(SUBSTATION_PROP, "SubstationId"));
+
+        assertEquals(MAPPING_ERROR_CODE, exception.getErrorCode());
+    }
+
+    @Test
+    void bindParent_WhenIdInvalidInIri_ThenExceptionThrown() {
+        setupTripleStore(createSubstationBags());
+        var modelAccess = new CimModelAccess(cgmesModel, CimQueryMode.PER_PARENT);
+        modelAccess.getSubstations();
+
+        var exception = assertThrows(CompasCimMappingException.class,
+                () -> modelAccess.bindParent(SUBSTATION_PROP, "Some> Id"));
+
+        assertEquals(MAPPING_ERROR_CODE, exception.getErrorCode());
+    }
+
+    private PropertyBags createSubstationBags() {
+        var bag = new PropertyBag(List.of(SUBSTATION_PROP, NAME_PROP), true);
+        bag.put(SUBSTATION_PROP, NAMESPACE + "SubstationId");
+        bag.put(NAME_PROP, "Name Substation");
+        var bags = new PropertyBags();
+        bags.add(bag);
+        return bags;
+    }
+
+    private PropertyBag createSwitchBag(String switchId, String containerId) {
+        var bag = new PropertyBag(List.of(SWITCH_PROP, NAME_PROP, TYPE_PROP, EQUIPMENT_CONTAINER_PROP), true);
+        bag.put(SWITCH_PROP, switchId);
+        bag.put(NAME_PROP, "Name " + switchId);
+        bag.put(TYPE_PROP, "Breaker");
+        bag.put(EQUIPMENT_CONTAINER_PROP, containerId);
+        return bag;
+    }
+
+    private PropertyBag createTerminalBag(String terminalId) {
+        var bag = new PropertyBag(List.of(TERMINAL_PROP, NAME_PROP, CONDUCTING_EQUIPMENT_PROP), true);
+        bag.put(TERMINAL_PROP, terminalId);
+        bag.put(NAME_PROP, "Name " + terminalId);
+        bag.put(CONDUCTING_EQUIPMENT_PROP, "Equipment ID");
+        return bag;
+    }
+
+    private PropertyBag createTapChangerBag(String idProp, String tapChangerId, String transformerEndId) {
+        var bag = new PropertyBag(List.of(idProp, NAME_PROP, TRANSFORMER_END_PROP), true);
+        bag.put(idProp, tapChangerId);
+        bag.put(NAME_PROP, "Name " + tapChangerId);
+        bag.put(TRANSFORMER_END_PROP, transformerEndId);
+        return bag;
+    }
+
+    private TripleStore setupTripleStore(PropertyBags bags) {
+        var tripleStore = mock(TripleStore.class);
+        when(cgmesModel.tripleStore()).thenReturn(tripleStore);
+        when(tripleStore.query(anyString())).thenReturn(bags);
+        return tripleStore;
+    }
+}
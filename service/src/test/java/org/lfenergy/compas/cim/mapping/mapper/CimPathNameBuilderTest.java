@@ -0,0 +1,56 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.TBay;
+import org.lfenergy.compas.scl2007b4.model.TConnectivityNode;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CimPathNameBuilderTest {
+    private final CimPathNameBuilder builder = new CimPathNameBuilder();
+
+    @Test
+    void createPathName_WhenNamesFilledAfterAdding_ThenNamesAtCreationUsed() {
+        var tSubstation = new TSubstation();
+        builder.addLast(tSubstation);
+        var tBay = new TBay();
+        builder.addLast(tBay);
+
+        tSubstation.setName("S1");
+        tBay.setName("BAY1");
+
+        assertEquals("S1/BAY1", builder.createPathName());
+    }
+
+    @Test
+    void createPathName_WhenSiblingsAdded_ThenPathOfParentReused() {
+        var tBay = new TBay();
+        tBay.setName("BAY1");
+        builder.addLast(tBay);
+
+        var firstNode = new TConnectivityNode();
+        firstNode.setName("CN1");
+        builder.addLast(firstNode);
+        var firstPathName = builder.createPathName();
+        assertSame(firstNode, builder.removeLast());
+
+        var secondNode = new TConnectivityNode();
+        secondNode.setName("CN2");
+        builder.addLast(secondNode);
+        var secondPathName = builder.createPathName();
+        builder.removeLast();
+
+        assertEquals("BAY1/CN1", firstPathName);
+        assertEquals("BAY1/CN2", secondPathName);
+        assertEquals("BAY1", builder.createPathName());
+    }
+
+    @Test
+    void createPathName_WhenStackEmpty_ThenEmptyStringReturned() {
+        assertEquals("", builder.createPathName());
+    }
+}
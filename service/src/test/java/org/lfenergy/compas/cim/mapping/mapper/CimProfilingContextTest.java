@@ -0,0 +1,88 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.cim.mapping.cgmes.CgmesCimReader;
+import org.lfenergy.compas.cim.mapping.cgmes.CimBoundaryCache;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.cgmes.CimTripleStore;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
+import org.lfenergy.compas.cim.mapping.model.CimData;
+import org.lfenergy.compas.cim.mapping.model.CimModelIndex;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
+import org.lfenergy.compas.scl2007b4.model.TVoltageLevel;
+import org.mapstruct.factory.Mappers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CimProfilingContextTest {
+    private final CimMappingProfile profile = new CimMappingProfile();
+
+    @Test
+    void removeLast_WhenElementsNested_ThenEveryElementTypeRecordedOnce() {
+        var context = new CimProfilingContext(new CimModelAccess(createEmptyModelIndex()), profile);
+        var tSubstation = new TSubstation();
+        var tVoltageLevel = new TVoltageLevel();
+
+        context.addLast(tSubstation);
+        context.addLast(tVoltageLevel);
+        assertSame(tVoltageLevel, context.removeLast());
+        assertSame(tSubstation, context.removeLast());
+
+        assertEquals(List.of("VoltageLevel", "Substation"), List.copyOf(profile.getElements().keySet()));
+        assertEquals(1, profile.getElements().get("Substation").count());
+        assertEquals(1, profile.getElements().get("VoltageLevel").count());
+    }
+
+    @Test
+    void getSwitches_WhenCalledTwice_ThenBothCallsRecorded() {
+        var context = new CimProfilingContext(new CimModelAccess(createEmptyModelIndex()), profile);
+
+        context.getSwitches("Container ID");
+        context.getSwitches("Other Container ID");
+
+        assertEquals(2, profile.getMethods().get("getSwitches").count());
+    }
+
+    @Test
+    void mapToScl_WhenMappedWithProfilingContext_ThenSameSclAndProfileFilled() throws IOException {
+        var cimData = new CimData();
+        cimData.setName("MiniGridTestConfiguration_BC_EQ_v3.0.0.xml");
+        cimData.setRdfData(readFile());
+        var cgmesCimReader = new CgmesCimReader(CimTripleStore.defaultTripleStore(), CimReaderMode.TRIPLE_STORE,
+                CimBoundaryCache.disabled(), CimMappingMetrics.NONE, CimMappingTracing.NONE);
+        var cgmesModel = cgmesCimReader.readModel(List.of(cimData));
+        var context = new CimProfilingContext(new CimModelAccess(cgmesModel), profile);
+
+        var scl = new SCL();
+        Mappers.getMapper(CimToSclMapper.class).mapToScl(scl, context);
+
+        assertEquals(5, scl.getSubstation().size());
+        assertEquals(1, profile.getMethods().get("getSubstations").count());
+        assertTrue(profile.getMethods().containsKey("getVoltageLevelsBySubstation"));
+        assertEquals(5, profile.getElements().get("Substation").count());
+        assertTrue(profile.getElements().containsKey("Bay"));
+    }
+
+    private CimModelIndex createEmptyModelIndex() {
+        return new CimModelIndex(List.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(),
+                Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    private String readFile() throws IOException {
+        var resource = requireNonNull(getClass().getResource("/minigrid/MiniGridTestConfiguration_BC_EQ_v3.0.0.xml"));
+        var path = Paths.get(resource.getPath());
+        return String.join("\n", Files.readAllLines(path)).trim().replaceFirst("^([\\W]+)<", "<");
+    }
+}
@@ -0,0 +1,120 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.mapper;
+
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.triplestore.api.PropertyBag;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.TripleStore;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingSpan;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lfenergy.compas.cim.mapping.mapper.CimModelAccess.NAME_PROP;
+import static org.lfenergy.compas.cim.mapping.mapper.CimModelAccess.SUBSTATION_PROP;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CimQueryRegistryTest {
+    @Mock
+    private CgmesModel cgmesModel;
+    @Mock
+    private TripleStore tripleStore;
+
+    private final CimQueryRegistry registry = new CimQueryRegistry();
+
+    @Test
+    void execute_WhenCalledWithoutBinding_ThenUnboundQueryExecutedAndStatisticsUpdated() {
+        var bags = new PropertyBags();
+        bags.add(new PropertyBag(List.of(SUBSTATION_PROP, NAME_PROP), true));
+        bags.add(new PropertyBag(List.of(SUBSTATION_PROP, NAME_PROP), true));
+        when(cgmesModel.tripleStore()).thenReturn(tripleStore);
+        when(tripleStore.query(CimQuery.SUBSTATION.unbound())).thenReturn(bags);
+
+        var result = registry.execute(cgmesModel, CimQuery.SUBSTATION, null);
+
+        assertSame(bags, result);
+        var statistics = registry.getStatistics().get(CimQuery.SUBSTATION);
+        assertEquals(1, statistics.getExecutions());
+        assertEquals(2, statistics.getRows());
+        assertEquals(0, registry.getStatistics().get(CimQuery.BAY).getExecutions());
+    }
+
+    @Test
+    void execute_WhenCalledWithBinding_ThenBoundQueryExecuted() {
+        var binding = "VALUES ?VoltageLevel { <http://default-cgmes-model/#_VoltageLevelId> }";
+        when(cgmesModel.tripleStore()).thenReturn(tripleStore);
+        when(tripleStore.query(CimQuery.BAY.bound(binding))).thenReturn(new PropertyBags());
+
+        registry.execute(cgmesModel, CimQuery.BAY, binding);
+
+        verify(tripleStore, times(1)).query(contains(binding));
+        assertEquals(1, registry.getStatistics().get(CimQuery.BAY).getExecutions());
+    }
+
+    @Test
+    void execute_WhenMetricsPassed_ThenQueryRecordedInMetrics() {
+        var cimMappingMetrics = mock(CimMappingMetrics.class);
+        var registryWithMetrics = new CimQueryRegistry(cimMappingMetrics);
+        when(cgmesModel.tripleStore()).thenReturn(tripleStore);
+        when(tripleStore.query(CimQuery.SWITCH.unbound())).thenReturn(new PropertyBags());
+
+        registryWithMetrics.execute(cgmesModel, CimQuery.SWITCH, null);
+
+        verify(cimMappingMetrics).recordQuery(eq("SWITCH"), anyLong());
+    }
+
+    @Test
+    void execute_WhenTracingPassed_ThenQueryExecutedInSpanWithRows() {
+        var tracing = mock(CimMappingTracing.class);
+        var span = mock(CimMappingSpan.class);
+        when(tracing.startQuery("SUBSTATION")).thenReturn(span);
+        var bags = new PropertyBags();
+        bags.add(new PropertyBag(List.of(SUBSTATION_PROP, NAME_PROP), true));
+        when(cgmesModel.tripleStore()).thenReturn(tripleStore);
+        when(tripleStore.query(CimQuery.SUBSTATION.unbound())).thenReturn(bags);
+
+        new CimQueryRegistry(CimMappingMetrics.NONE, tracing).execute(cgmesModel, CimQuery.SUBSTATION, null);
+
+        var inOrder = inOrder(tripleStore, span);
+        inOrder.verify(tripleStore).query(CimQuery.SUBSTATION.unbound());
+        inOrder.verify(span).setRows(1);
+        inOrder.verify(span).close();
+    }
+
+    @Test
+    void start_WhenClosedWithoutExecuting_ThenNoExecutionAddedToStatistics() {
+        registry.start(CimQuery.BAY).close();
+
+        assertEquals(0, registry.getStatistics().get(CimQuery.BAY).getExecutions());
+    }
+
+    @Test
+    void warmUp_WhenCalledWithDefaultImplementation_ThenAllQueriesAreWarmedUp() {
+        registry.warmUp(TripleStoreFactory.defaultImplementation());
+
+        registry.getStatistics().values()
+                .forEach(statistics -> {
+                    assertTrue(statistics.getWarmUpTime().compareTo(Duration.ZERO) > 0);
+                    assertEquals(0, statistics.getExecutions());
+                });
+    }
+
+    @Test
+    void unbound_WhenCalled_ThenNoPlaceholderLeftInQuery() {
+        for (var query : CimQuery.values()) {
+            assertFalse(query.unbound().contains("%s"), query.name());
+        }
+    }
+}
@@ -7,31 +7,35 @@ import com.powsybl.cgmes.model.CgmesModel;
 import com.powsybl.triplestore.api.PropertyBag;
 import com.powsybl.triplestore.api.PropertyBags;
 import com.powsybl.triplestore.api.TripleStore;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.lfenergy.compas.scl2007b4.model.TConnectivityNode;
 import org.lfenergy.compas.scl2007b4.model.TSubstation;
 import org.lfenergy.compas.scl2007b4.model.TVoltageLevel;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.lfenergy.compas.cim.mapping.mapper.CimToSclMapperContext.*;
+import static org.lfenergy.compas.cim.mapping.mapper.CimModelAccess.*;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CimToSclMapperContextTest {
     @Mock
     private CgmesModel cgmesModel;
 
-    @InjectMocks
     private CimToSclMapperContext context;
 
+    @BeforeEach
+    void setup() {
+        context = new CimToSclMapperContext(cgmesModel);
+    }
+
     @Test
     void getSubstations_WhenCalled_ThenPropertyBagsIsConvertedToCgmesSubstation() {
         var substationId = "SubstationId";
@@ -239,6 +243,54 @@ class CimToSclMapperContextTest {
         assertEquals(tcName, tapChanger.name());
     }
 
+    @Test
+    void getTapChanger_WhenRatioAndPhaseTapChangersFound_ThenConvertedRatioTapChangerReturned() {
+        var tfeId = "Known Transformer End ID";
+
+        var ratioBags = new PropertyBags();
+        var ratioBag = new PropertyBag(List.of(RATIO_TAP_CHANGER_PROP, NAME_PROP, TRANSFORMER_END_PROP), true);
+        ratioBag.put(RATIO_TAP_CHANGER_PROP, "RatioTapChangerId");
+        ratioBag.put(NAME_PROP, "Name RatioTapChanger");
+        ratioBag.put(TRANSFORMER_END_PROP, tfeId);
+        ratioBags.add(ratioBag);
+
+        var phaseBags = new PropertyBags();
+        var phaseBag = new PropertyBag(List.of(PHASE_TAP_CHANGER_PROP, NAME_PROP, TRANSFORMER_END_PROP), true);
+        phaseBag.put(PHASE_TAP_CHANGER_PROP, "PhaseTapChangerId");
+        phaseBag.put(NAME_PROP, "Name PhaseTapChanger");
+        phaseBag.put(TRANSFORMER_END_PROP, tfeId);
+        phaseBags.add(phaseBag);
+
+        setupTripleStore(ratioBags, phaseBags);
+
+        var result = context.getTapChanger(tfeId);
+        assertTrue(result.isPresent());
+        assertEquals("RatioTapChangerId", result.get().id());
+    }
+
+    @Test
+    void getTapChanger_WhenCalledForMultipleTransformerEnds_ThenTripleStoreQueriedOncePerTapChangerType() {
+        var ratioBags = new PropertyBags();
+        var ratioBag = new PropertyBag(List.of(RATIO_TAP_CHANGER_PROP, NAME_PROP, TRANSFORMER_END_PROP), true);
+        ratioBag.put(RATIO_TAP_CHANGER_PROP, "RatioTapChangerId");
+        ratioBag.put(TRANSFORMER_END_PROP, "First Transformer End ID");
+        ratioBags.add(ratioBag);
+
+        var phaseBags = new PropertyBags();
+        var phaseBag = new PropertyBag(List.of(PHASE_TAP_CHANGER_PROP, NAME_PROP, TRANSFORMER_END_PROP), true);
+        phaseBag.put(PHASE_TAP_CHANGER_PROP, "PhaseTapChangerId");
+        phaseBag.put(TRANSFORMER_END_PROP, "Second Transformer End ID");
+        phaseBags.add(phaseBag);
+
+        var tripleStore = setupTripleStore(ratioBags, phaseBags);
+
+        assertEquals("RatioTapChangerId", context.getTapChanger("First Transformer End ID").orElseThrow().id());
+        assertEquals("PhaseTapChangerId", context.getTapChanger("Second Transformer End ID").orElseThrow().id());
+        assertFalse(context.getTapChanger("Unknown Transformer End ID").isPresent());
+
+        verify(tripleStore, times(2)).query(anyString());
+    }
+
     @Test
     void getConnectivityNodeByBusbarSection_WhenCalledWithKnownId_ThenPropertyBagsIsConvertedToCgmesConnectivityNode() {
         var ccnId = "CcnId";
@@ -309,6 +361,74 @@ class CimToSclMapperContextTest {
         assertEquals(switchName, switchEquipment.name());
     }
 
+    @Test
+    void getSwitches_WhenCalledWithUnknownId_ThenEmptyListReturned() {
+        var bags = new PropertyBags();
+        var bag = new PropertyBag(List.of(SWITCH_PROP, NAME_PROP, TYPE_PROP, EQUIPMENT_CONTAINER_PROP), true);
+        bag.put(SWITCH_PROP, "SwitchId");
+        bag.put(NAME_PROP, "Name Switch");
+        bag.put(TYPE_PROP, "Breaker");
+        bag.put(EQUIPMENT_CONTAINER_PROP, "Known Container ID");
+        bags.add(bag);
+
+        setupTripleStore(bags);
+
+        var result = context.getSwitches("Unknown Container ID");
+        assertNotNull(result);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void getSwitches_WhenCalledForMultipleContainers_ThenTripleStoreQueriedOnce() {
+        var firstContainerId = "First Container ID";
+        var secondContainerId = "Second Container ID";
+
+        var bags = new PropertyBags();
+        bags.add(createSwitchBag("Switch1", firstContainerId));
+        bags.add(createSwitchBag("Switch2", secondContainerId));
+        bags.add(createSwitchBag("Switch3", firstContainerId));
+
+        var tripleStore = setupTripleStore(bags);
+
+        var firstResult = context.getSwitches(firstContainerId);
+        assertEquals(2, firstResult.size());
+        assertEquals("Switch1", firstResult.get(0).id());
+        assertEquals("Switch3", firstResult.get(1).id());
+
+        var secondResult = context.getSwitches(secondContainerId);
+        assertEquals(1, secondResult.size());
+        assertEquals("Switch2", secondResult.get(0).id());
+
+        verify(tripleStore, times(1)).query(anyString());
+    }
+
+    @Test
+    void forSubstation_WhenIndexesPrepared_ThenModelAccessSharedButNotConnectivityNodes() {
+        var tripleStore = setupTripleStore(new PropertyBags());
+        context.saveTConnectivityNode("CN ID", new TConnectivityNode());
+
+        context.getModelAccess().prepareIndexes();
+        clearInvocations(tripleStore);
+        var substationContext = context.forSubstation();
+
+        assertSame(context.getModelAccess(), substationContext.getModelAccess());
+        assertTrue(substationContext.getSwitches("Container ID").isEmpty());
+        assertTrue(substationContext.getTerminalById("Terminal ID").isEmpty());
+        assertFalse(substationContext.containsTConnectivityNode("CN ID"));
+        assertTrue(context.containsTConnectivityNode("CN ID"));
+        // All indexes are filled by preparing the shared model access, so the new context doesn't query anymore.
+        verifyNoInteractions(tripleStore);
+    }
+
+    private PropertyBag createSwitchBag(String switchId, String containerId) {
+        var bag = new PropertyBag(List.of(SWITCH_PROP, NAME_PROP, TYPE_PROP, EQUIPMENT_CONTAINER_PROP), true);
+        bag.put(SWITCH_PROP, switchId);
+        bag.put(NAME_PROP, "Name " + switchId);
+        bag.put(TYPE_PROP, "Breaker");
+        bag.put(EQUIPMENT_CONTAINER_PROP, containerId);
+        return bag;
+    }
+
     @Test
     void getTerminalsByConductingEquipment_WhenCalledWithKnownId_ThenPropertyBagsIsFilteredOnIdAndConvertedToCgmesTerminal() {
         var terminalId = "TerminalId";
@@ -359,6 +479,91 @@ class CimToSclMapperContextTest {
         assertEquals(ccnNode, terminal.connectivityNodeId());
     }
 
+    @Test
+    void getTerminalById_WhenCalledWithUnknownId_ThenEmptyOptionalReturned() {
+        var bags = new PropertyBags();
+        var bag = new PropertyBag(List.of(TERMINAL_PROP, NAME_PROP, CONNECTIVITY_NODE_PROP), true);
+        bag.put(TERMINAL_PROP, "TerminalId");
+        bag.put(NAME_PROP, "Name Terminal");
+        bags.add(bag);
+
+        setupTripleStore(bags);
+
+        var result = context.getTerminalById("Unknown Terminal ID");
+        assertNotNull(result);
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    void getTerminalById_WhenCalledAfterTerminalsByConductingEquipment_ThenTripleStoreQueriedOnce() {
+        var terminalId = "TerminalId";
+        var conductingEquipmentId = "Known Conducting Equipment ID";
+
+        var bags = new PropertyBags();
+        var bag = new PropertyBag(List.of(TERMINAL_PROP, NAME_PROP, CONNECTIVITY_NODE_PROP, CONDUCTING_EQUIPMENT_PROP), true);
+        bag.put(TERMINAL_PROP, terminalId);
+        bag.put(NAME_PROP, "Name Terminal");
+        bag.put(CONDUCTING_EQUIPMENT_PROP, conductingEquipmentId);
+        bags.add(bag);
+
+        var tripleStore = setupTripleStore(bags);
+
+        assertEquals(1, context.getTerminalsByConductingEquipment(conductingEquipmentId).size());
+        assertTrue(context.getTerminalById(terminalId).isPresent());
+        assertTrue(context.getTerminalById(terminalId).isPresent());
+
+        verify(tripleStore, times(1)).query(anyString());
+    }
+
+    @Test
+    void getVoltageLevelsBySubstation_WhenQueryModePerParentAndSubstationKnown_ThenIriOfSubstationBoundInQuery() {
+        var substationIri = "http://default-cgmes-model/#_SubstationId";
+        var perParentContext = new CimToSclMapperContext(cgmesModel, CimQueryMode.PER_PARENT);
+
+        var substationBags = new PropertyBags();
+        var substationBag = new PropertyBag(List.of(SUBSTATION_PROP, NAME_PROP), true);
+        substationBag.put(SUBSTATION_PROP, substationIri);
+        substationBags.add(substationBag);
+
+        var voltageLevelBags = new PropertyBags();
+        var voltageLevelBag = new PropertyBag(List.of(VOLTAGE_LEVEL_PROP, NAME_PROP, NOMINAL_VOLTAGE_PROP, SUBSTATION_PROP), true);
+        voltageLevelBag.put(VOLTAGE_LEVEL_PROP, "VoltageLevelId");
+        voltageLevelBag.put(NOMINAL_VOLTAGE_PROP, "1.0");
+        voltageLevelBag.put(SUBSTATION_PROP, substationIri);
+        voltageLevelBags.add(voltageLevelBag);
+
+        var tripleStore = setupTripleStore(substationBags, voltageLevelBags);
+
+        var substation = perParentContext.getSubstations().get(0);
+        var result = perParentContext.getVoltageLevelsBySubstation(substation.id());
+        assertEquals(1, result.size());
+        assertEquals("VoltageLevelId", result.get(0).id());
+
+        verify(tripleStore, times(1)).query(contains("VALUES ?Substation { <" + substationIri + "> }"));
+    }
+
+    @Test
+    void getSwitches_WhenQueryModePerParent_ThenTripleStoreQueriedForEveryContainer() {
+        var perParentContext = new CimToSclMapperContext(cgmesModel, CimQueryMode.PER_PARENT);
+
+        var substationBags = new PropertyBags();
+        var substationBag = new PropertyBag(List.of(SUBSTATION_PROP, NAME_PROP), true);
+        substationBag.put(SUBSTATION_PROP, "http://default-cgmes-model/#_SubstationId");
+        substationBags.add(substationBag);
+
+        var switchBags = new PropertyBags();
+        switchBags.add(createSwitchBag("Switch1", "FirstContainerId"));
+
+        var tripleStore = setupTripleStore(substationBags, switchBags);
+
+        perParentContext.getSubstations();
+        assertEquals(1, perParentContext.getSwitches("FirstContainerId").size());
+        perParentContext.getSwitches("SecondContainerId");
+
+        // Once for the Substations and once for every Container.
+        verify(tripleStore, times(3)).query(anyString());
+    }
+
     @Test
     void createPathName_WhenCalledWithNoStack_ThenEmptyStringIsReturned() {
         assertEquals("", context.createPathName());
@@ -468,9 +673,10 @@ class CimToSclMapperContextTest {
         assertFalse(result.isPresent());
     }
 
-    private void setupTripleStore(PropertyBags bags, PropertyBags... otherBags) {
+    private TripleStore setupTripleStore(PropertyBags bags, PropertyBags... otherBags) {
         var tripleStore = mock(TripleStore.class);
         when(cgmesModel.tripleStore()).thenReturn(tripleStore);
         when(tripleStore.query(anyString())).thenReturn(bags, otherBags);
+        return tripleStore;
     }
 }
\ No newline at end of file
@@ -7,6 +7,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.lfenergy.compas.cim.mapping.cgmes.CgmesCimReader;
+import org.lfenergy.compas.cim.mapping.cgmes.CimBoundaryCache;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.cgmes.CimTripleStore;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
 import org.lfenergy.compas.cim.mapping.model.*;
 import org.lfenergy.compas.scl2007b4.model.*;
 import org.mapstruct.factory.Mappers;
@@ -17,9 +22,11 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,7 +48,7 @@ class CimToSclMapperTest {
     @Test
     void map_WhenWithCimData_ThenSclMapped() throws IOException {
         // This is an overall test to see the whole mapping working with a test CIM File.
-        var reader = new CgmesCimReader();
+        var reader = createCgmesCimReader();
         var cimData = new CimData();
         cimData.setName("MiniGridTestConfiguration_BC_EQ_v3.0.0.xml");
         cimData.setRdfData(readFile());
@@ -92,6 +99,51 @@ class CimToSclMapperTest {
                 "af9a4ae3-ba2e-4c34-8e47-5af894ee20f4/S1 380kV/BAY_T4_2/CONNECTIVITY_NODE83");
     }
 
+    @Test
+    void mapToScl_WhenMappedInParallel_ThenSameResultAsSequential() throws IOException {
+        var reader = createCgmesCimReader();
+        var cimData = new CimData();
+        cimData.setName("MiniGridTestConfiguration_BC_EQ_v3.0.0.xml");
+        cimData.setRdfData(readFile());
+        var cgmesModel = reader.readModel(List.of(cimData));
+
+        var sequential = new SCL();
+        mapper.mapToScl(sequential, new CimToSclMapperContext(cgmesModel));
+        var parallel = new SCL();
+        var pool = new ForkJoinPool(4);
+        try {
+            mapper.mapToScl(parallel, new CimToSclMapperContext(cgmesModel), pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(5, parallel.getSubstation().size());
+        assertEquals(describe(sequential), describe(parallel));
+    }
+
+    /**
+     * Create a description of the Substations, Voltage Levels, Bays and their Connectivity Nodes and Terminals,
+     * including the order, to compare two mapped SCLs.
+     */
+    private List<String> describe(SCL scl) {
+        var description = new ArrayList<String>();
+        scl.getSubstation().forEach(tSubstation -> {
+            description.add("Substation " + tSubstation.getName());
+            tSubstation.getVoltageLevel().forEach(tVoltageLevel -> {
+                description.add("VoltageLevel " + tVoltageLevel.getName());
+                tVoltageLevel.getBay().forEach(tBay -> {
+                    description.add("Bay " + tBay.getName());
+                    tBay.getConnectivityNode().forEach(cn -> description.add("CN " + cn.getPathName()));
+                    tBay.getConductingEquipment().forEach(ce -> ce.getTerminal()
+                            .forEach(terminal -> description.add("Terminal " + terminal.getConnectivityNode())));
+                });
+            });
+            tSubstation.getPowerTransformer().forEach(tPowerTransformer ->
+                    description.add("PowerTransformer " + tPowerTransformer.getName()));
+        });
+        return description;
+    }
+
     private void assertBay(TBay tBay, String name, int numberOfConnectivityNodes, int numberOfConductionEquipment) {
         assertEquals(name, tBay.getName());
         assertEquals(numberOfConnectivityNodes, tBay.getConnectivityNode().size());
@@ -341,4 +393,9 @@ class CimToSclMapperTest {
         verify(context, times(1)).getPathnameFromConnectivityNode(connectivityNode);
         verify(context, times(1)).getNameFromConnectivityNode(connectivityNode);
     }
-}
\ No newline at end of file
+
+    private static CgmesCimReader createCgmesCimReader() {
+        return new CgmesCimReader(CimTripleStore.defaultTripleStore(), CimReaderMode.TRIPLE_STORE,
+                CimBoundaryCache.disabled(), CimMappingMetrics.NONE, CimMappingTracing.NONE);
+    }
+}
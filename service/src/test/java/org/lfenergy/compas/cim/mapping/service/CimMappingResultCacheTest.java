@@ -0,0 +1,92 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CimMappingResultCacheTest {
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-01-01T12:00:00Z"));
+
+    @Test
+    void get_WhenPutBefore_ThenSubstationsReturned() {
+        var cache = createCache(2);
+        var substation = new TSubstation();
+        substation.setName("Substation 1");
+
+        cache.put("key", List.of(substation));
+
+        var result = cache.get("key").orElseThrow();
+        assertEquals(1, result.size());
+        assertEquals("Substation 1", result.get(0).getName());
+    }
+
+    @Test
+    void get_WhenResultChanged_ThenCachedSubstationsNotChanged() {
+        var cache = createCache(2);
+        var substation = new TSubstation();
+        substation.setName("Substation 1");
+        cache.put("key", List.of(substation));
+
+        substation.setName("Changed after put");
+        var first = cache.get("key").orElseThrow();
+        first.get(0).setName("Changed after get");
+        var second = cache.get("key").orElseThrow();
+
+        assertNotSame(first.get(0), second.get(0));
+        assertEquals("Substation 1", second.get(0).getName());
+    }
+
+    @Test
+    void get_WhenTtlExpired_ThenEmptyReturned() {
+        var cache = createCache(2);
+        cache.put("key", List.of(new TSubstation()));
+
+        now.set(now.get().plus(TTL).plusSeconds(1));
+
+        assertTrue(cache.get("key").isEmpty());
+    }
+
+    @Test
+    void put_WhenMaxEntriesReached_ThenLeastRecentlyUsedRemoved() {
+        var cache = createCache(2);
+        cache.put("first", List.of());
+        cache.put("second", List.of());
+        cache.get("first");
+
+        cache.put("third", List.of());
+
+        assertTrue(cache.get("first").isPresent());
+        assertTrue(cache.get("second").isEmpty());
+        assertTrue(cache.get("third").isPresent());
+    }
+
+    @Test
+    void put_WhenDisabled_ThenNothingKept() {
+        var cache = CimMappingResultCache.disabled();
+
+        cache.put("key", List.of());
+
+        assertFalse(cache.isEnabled());
+        assertTrue(cache.get("key").isEmpty());
+    }
+
+    private CimMappingResultCache createCache(int maxEntries) {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        return new CimMappingResultCache(maxEntries, TTL, clock);
+    }
+}
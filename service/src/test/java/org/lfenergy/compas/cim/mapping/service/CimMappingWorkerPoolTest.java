@@ -0,0 +1,157 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIf;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.UNSUPPORTED_THREAD_MODE_ERROR_CODE;
+
+class CimMappingWorkerPoolTest {
+    private CimMappingWorkerPool workerPool;
+
+    @AfterEach
+    void close() {
+        workerPool.close();
+    }
+
+    @Test
+    void supply_WhenThreadFree_ThenResultOfTaskReturned()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        workerPool = new CimMappingWorkerPool("test-worker", 1, 0);
+
+        var result = workerPool.supply(() -> Thread.currentThread().getName());
+
+        assertEquals("test-worker-1", result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @EnabledIf("virtualThreadsSupported")
+    void supply_WhenVirtualRequested_ThenTaskRunOnVirtualThread()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        workerPool = new CimMappingWorkerPool("test-worker", 1, 0, CimMappingThreadMode.VIRTUAL);
+
+        var threadName = workerPool.supply(() -> Thread.currentThread().getName());
+
+        assertEquals(CimMappingThreadMode.VIRTUAL, workerPool.getThreadMode());
+        assertEquals("test-worker-1", threadName.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisabledIf("virtualThreadsSupported")
+    void constructor_WhenVirtualRequestedButNotSupported_ThenExceptionThrown() {
+        var exception = assertThrows(CompasCimMappingException.class,
+                () -> new CimMappingWorkerPool("test-worker", 1, 0, CimMappingThreadMode.VIRTUAL));
+        assertEquals(UNSUPPORTED_THREAD_MODE_ERROR_CODE, exception.getErrorCode());
+    }
+
+    @Test
+    void supply_WhenThreadsBusyAndQueueFull_ThenTaskRejected() throws InterruptedException {
+        workerPool = new CimMappingWorkerPool("test-worker", 1, 1);
+        assertRejectedWhenThreadsBusyAndQueueFull();
+    }
+
+    @Test
+    @EnabledIf("virtualThreadsSupported")
+    void supply_WhenVirtualAndThreadsBusyAndQueueFull_ThenTaskRejected() throws InterruptedException {
+        workerPool = new CimMappingWorkerPool("test-worker", 1, 1, CimMappingThreadMode.VIRTUAL);
+        assertRejectedWhenThreadsBusyAndQueueFull();
+    }
+
+    @Test
+    @EnabledIf("virtualThreadsSupported")
+    void supply_WhenVirtualAndTaskFinished_ThenNextTaskAccepted()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        workerPool = new CimMappingWorkerPool("test-worker", 1, 0, CimMappingThreadMode.VIRTUAL);
+
+        assertEquals("first", workerPool.supply(() -> "first").get(10, TimeUnit.SECONDS));
+        // The permits of the first task are released when it's finished, shortly after its result is set.
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            try {
+                assertEquals("second", workerPool.supply(() -> "second").get(10, TimeUnit.SECONDS));
+                return;
+            } catch (RejectedExecutionException exp) {
+                Thread.sleep(10);
+            }
+        }
+        fail("Second task never accepted");
+    }
+
+    @Test
+    void supplyWhenAccepted_WhenThreadsBusyAndQueueFull_ThenWaitsForTaskToFinish()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        workerPool = new CimMappingWorkerPool("test-worker", 1, 0);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        workerPool.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        var result = CompletableFuture.supplyAsync(() -> workerPool.supplyWhenAccepted(() -> "accepted"));
+        Thread.sleep(200);
+        assertFalse(result.isDone());
+
+        release.countDown();
+        assertEquals("accepted", result.get(10, TimeUnit.SECONDS).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @EnabledIf("virtualThreadsSupported")
+    void supplyWhenAccepted_WhenClosedWhileWaiting_ThenTaskRejected() throws InterruptedException {
+        workerPool = new CimMappingWorkerPool("test-worker", 1, 0, CimMappingThreadMode.VIRTUAL);
+        var started = new CountDownLatch(1);
+        workerPool.execute(() -> {
+            started.countDown();
+            awaitQuietly(new CountDownLatch(1));
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        var result = CompletableFuture.supplyAsync(() -> workerPool.supplyWhenAccepted(() -> "rejected"));
+        workerPool.close();
+
+        var exception = assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+    }
+
+    private void assertRejectedWhenThreadsBusyAndQueueFull() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        workerPool.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        // The queue can hold a single task, the next one is rejected.
+        workerPool.execute(() -> awaitQuietly(release));
+
+        assertThrows(RejectedExecutionException.class, () -> workerPool.supply(() -> "rejected"));
+        release.countDown();
+    }
+
+    static boolean virtualThreadsSupported() {
+        return CimMappingThreadMode.VIRTUAL.isSupported();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
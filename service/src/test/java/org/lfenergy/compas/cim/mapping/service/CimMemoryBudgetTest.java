@@ -0,0 +1,138 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.MEMORY_BUDGET_FULL_ERROR_CODE;
+
+class CimMemoryBudgetTest {
+    @Test
+    void reserve_WhenBudgetAvailable_ThenEstimateReservedUntilClosed() {
+        var budget = new CimMemoryBudget(1000, 10, Duration.ZERO);
+
+        try (var reservation = budget.reserve(30)) {
+            assertEquals(300, reservation.getBytes());
+            assertEquals(300, budget.getReservedBytes());
+        }
+
+        assertEquals(0, budget.getReservedBytes());
+    }
+
+    @Test
+    void reserve_WhenBudgetFull_ThenRejected() {
+        var budget = new CimMemoryBudget(1000, 10, Duration.ofMillis(50));
+
+        try (var ignored = budget.reserve(80)) {
+            var exception = assertThrows(CompasCimMappingException.class, () -> budget.reserve(30));
+
+            assertEquals(MEMORY_BUDGET_FULL_ERROR_CODE, exception.getErrorCode());
+            assertEquals(800, budget.getReservedBytes());
+        }
+    }
+
+    @Test
+    void reserve_WhenMemoryReleasedWhileWaiting_ThenReserved()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        var budget = new CimMemoryBudget(1000, 10, Duration.ofSeconds(10));
+        var first = budget.reserve(80);
+
+        var second = CompletableFuture.supplyAsync(() -> budget.reserve(30));
+        assertThrows(TimeoutException.class, () -> second.get(100, TimeUnit.MILLISECONDS));
+        first.close();
+
+        assertEquals(300, second.get(10, TimeUnit.SECONDS).getBytes());
+        assertEquals(300, budget.getReservedBytes());
+    }
+
+    @Test
+    @EnabledIf("virtualThreadsSupported")
+    void reserve_WhenWaitingOnVirtualThreads_ThenAllReservedInTurn()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        var budget = new CimMemoryBudget(1000, 10, Duration.ofSeconds(10));
+        // More waiting conversions than carrier threads, another task still needs a carrier to run.
+        var conversions = Runtime.getRuntime().availableProcessors() * 2;
+        var first = budget.reserve(100);
+
+        try (var workerPool = new CimMappingWorkerPool("test-worker", conversions + 1, 0,
+                CimMappingThreadMode.VIRTUAL)) {
+            var waiting = IntStream.range(0, conversions)
+                    .mapToObj(index -> workerPool.supply(() -> {
+                        try (var reservation = budget.reserve(100)) {
+                            return reservation.getBytes();
+                        }
+                    }))
+                    .toList();
+            var carrierCheck = workerPool.supply(() -> "not pinned");
+            Thread.sleep(100);
+            assertTrue(waiting.stream().noneMatch(CompletableFuture::isDone));
+            assertEquals("not pinned", carrierCheck.get(10, TimeUnit.SECONDS));
+
+            first.close();
+
+            for (var reservation : waiting) {
+                assertEquals(1000, reservation.get(10, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(0, budget.getReservedBytes());
+    }
+
+    @Test
+    void reserve_WhenEstimateLargerThanBudget_ThenCompleteBudgetReserved() {
+        var budget = new CimMemoryBudget(1000, 10, Duration.ZERO);
+
+        try (var reservation = budget.reserve(Long.MAX_VALUE)) {
+            assertEquals(1000, reservation.getBytes());
+        }
+    }
+
+    @Test
+    void close_WhenCalledTwice_ThenReleasedOnce() {
+        var budget = new CimMemoryBudget(1000, 1, Duration.ZERO);
+        var first = budget.reserve(400);
+        var second = budget.reserve(400);
+
+        first.close();
+        first.close();
+
+        assertEquals(400, budget.getReservedBytes());
+        second.close();
+    }
+
+    @Test
+    void isAvailable_WhenOtherConversionRunning_ThenOnlyRemainingBudgetAvailable() {
+        var budget = new CimMemoryBudget(1000, 10, Duration.ZERO);
+
+        try (var ignored = budget.reserve(60)) {
+            assertTrue(budget.isAvailable(40));
+            assertFalse(budget.isAvailable(41));
+            assertEquals(600, budget.getReservedBytes());
+        }
+        assertTrue(budget.isAvailable(Long.MAX_VALUE));
+        assertTrue(CimMemoryBudget.unlimited().isAvailable(Long.MAX_VALUE));
+    }
+
+    @Test
+    void reserve_WhenUnlimited_ThenNothingReserved() {
+        var budget = CimMemoryBudget.unlimited();
+
+        assertFalse(budget.isEnabled());
+        assertEquals(0, budget.reserve(Long.MAX_VALUE).getBytes());
+        assertEquals(0, budget.getReservedBytes());
+    }
+
+    static boolean virtualThreadsSupported() {
+        return CimMappingThreadMode.VIRTUAL.isSupported();
+    }
+}
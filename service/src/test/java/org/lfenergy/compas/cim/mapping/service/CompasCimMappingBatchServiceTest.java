@@ -0,0 +1,200 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.cim.mapping.model.CimData;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.BATCH_QUEUE_FULL_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.MAPPING_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.MEMORY_BUDGET_FULL_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.READ_DATA_ERROR_CODE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompasCimMappingBatchServiceTest {
+    @Mock
+    private CompasCimMappingService compasCimMappingService;
+
+    private CompasCimMappingBatchService batchService;
+
+    @AfterEach
+    void shutdown() {
+        if (batchService != null) {
+            batchService.shutdown();
+        }
+    }
+
+    @Test
+    void mapBatch_WhenGroupsMappedInParallel_ThenResultsInOrderOfGroups() throws InterruptedException {
+        batchService = new CompasCimMappingBatchService(compasCimMappingService,
+                new CimMappingBatchSettings(2, 10, CimMappingThreadMode.PLATFORM));
+        // Both groups need to be running at the same time, before the first one can finish.
+        var running = new CountDownLatch(2);
+        when(compasCimMappingService.map(any(), eq("username"))).thenAnswer(invocation -> {
+            running.countDown();
+            assertTrue(running.await(10, TimeUnit.SECONDS));
+            List<CimData> cimData = invocation.getArgument(0);
+            var scl = new SCL();
+            scl.setVersion(cimData.get(0).getName());
+            return scl;
+        });
+
+        var results = new ArrayList<CimMappingBatchResult>();
+        batchService.mapBatch(List.of(createGroup("first"), createGroup("second")), "username", results::add);
+
+        assertEquals(List.of("first", "second"), results.stream().map(CimMappingBatchResult::id).toList());
+        assertEquals("first_EQ.xml", results.get(0).scl().getVersion());
+        assertEquals("second_EQ.xml", results.get(1).scl().getVersion());
+        assertNull(results.get(0).errorCode());
+    }
+
+    @Test
+    void mapBatch_WhenGroupFails_ThenErrorReturnedAndOtherGroupsMapped() {
+        batchService = new CompasCimMappingBatchService(compasCimMappingService,
+                new CimMappingBatchSettings(1, 10, CimMappingThreadMode.PLATFORM));
+        var first = createGroup("first");
+        var second = createGroup("second");
+        var third = createGroup("third");
+        when(compasCimMappingService.map(first.cimData(), "username"))
+                .thenThrow(new CompasCimMappingException(READ_DATA_ERROR_CODE, "Invalid RDF"));
+        when(compasCimMappingService.map(second.cimData(), "username"))
+                .thenThrow(new IllegalStateException("Unknown Terminal"));
+        when(compasCimMappingService.map(third.cimData(), "username")).thenReturn(new SCL());
+
+        var results = new ArrayList<CimMappingBatchResult>();
+        batchService.mapBatch(List.of(first, second, third), "username", results::add);
+
+        assertEquals(3, results.size());
+        assertEquals(READ_DATA_ERROR_CODE, results.get(0).errorCode());
+        assertEquals("Invalid RDF", results.get(0).errorMessage());
+        assertNull(results.get(0).scl());
+        assertEquals(MAPPING_ERROR_CODE, results.get(1).errorCode());
+        assertNotNull(results.get(2).scl());
+    }
+
+    @Test
+    void mapBatch_WhenQueueFull_ThenGroupWaitsForThread() throws InterruptedException {
+        batchService = new CompasCimMappingBatchService(compasCimMappingService,
+                new CimMappingBatchSettings(1, 0, CimMappingThreadMode.PLATFORM));
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(compasCimMappingService.map(any(), eq("other"))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return new SCL();
+        });
+        // Occupy the only thread with a group of another batch.
+        var otherBatch = new Thread(() -> batchService.mapBatch(List.of(createGroup("other")), "other", result -> {
+        }));
+        otherBatch.start();
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        when(compasCimMappingService.map(any(), eq("username"))).thenReturn(new SCL());
+        var results = new ArrayList<CimMappingBatchResult>();
+        var batch = new Thread(() -> batchService.mapBatch(List.of(createGroup("first")), "username", results::add));
+        batch.start();
+        batch.join(200);
+
+        // The group waits for the thread of the other batch, instead of being rejected.
+        assertTrue(batch.isAlive());
+        verify(compasCimMappingService, never()).map(any(), eq("username"));
+
+        release.countDown();
+        batch.join(10_000);
+        otherBatch.join(10_000);
+        assertEquals(1, results.size());
+        assertNull(results.get(0).errorCode());
+        assertNotNull(results.get(0).scl());
+    }
+
+    @Test
+    void mapBatch_WhenShutdownWhileWaiting_ThenGroupFailed() throws InterruptedException {
+        batchService = new CompasCimMappingBatchService(compasCimMappingService,
+                new CimMappingBatchSettings(1, 0, CimMappingThreadMode.PLATFORM));
+        var started = new CountDownLatch(1);
+        when(compasCimMappingService.map(any(), eq("other"))).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                // Interrupted when the batch service is shut down.
+                new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exp) {
+                Thread.currentThread().interrupt();
+            }
+            return new SCL();
+        });
+        var otherBatch = new Thread(() -> batchService.mapBatch(List.of(createGroup("other")), "other", result -> {
+        }));
+        otherBatch.start();
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        var results = new ArrayList<CimMappingBatchResult>();
+        var batch = new Thread(() -> batchService.mapBatch(List.of(createGroup("first")), "username", results::add));
+        batch.start();
+
+        batchService.shutdown();
+        batch.join(10_000);
+        otherBatch.join(10_000);
+
+        assertEquals(1, results.size());
+        assertEquals(BATCH_QUEUE_FULL_ERROR_CODE, results.get(0).errorCode());
+        verify(compasCimMappingService, never()).map(any(), eq("username"));
+    }
+
+    @Test
+    void mapBatch_WhenMemoryBudgetFull_ThenGroupRejected() {
+        var budget = new CimMemoryBudget(100, 10, Duration.ZERO);
+        batchService = new CompasCimMappingBatchService(compasCimMappingService, budget,
+                new CimMappingBatchSettings(1, 10, CimMappingThreadMode.PLATFORM));
+
+        var results = new ArrayList<CimMappingBatchResult>();
+        try (var ignored = budget.reserve(Long.MAX_VALUE)) {
+            batchService.mapBatch(List.of(createGroup("first")), "username", results::add);
+        }
+
+        assertEquals(MEMORY_BUDGET_FULL_ERROR_CODE, results.get(0).errorCode());
+        verifyNoInteractions(compasCimMappingService);
+    }
+
+    @Test
+    void mapBatch_WhenConsumerFails_ThenGroupsNotStartedAreSkipped() {
+        batchService = new CompasCimMappingBatchService(compasCimMappingService,
+                new CimMappingBatchSettings(1, 10, CimMappingThreadMode.PLATFORM));
+        var mapped = new AtomicInteger();
+        when(compasCimMappingService.map(any(), eq("username"))).thenAnswer(invocation -> {
+            mapped.incrementAndGet();
+            return new SCL();
+        });
+        var groups = List.of(createGroup("first"), createGroup("second"), createGroup("third"));
+
+        assertThrows(IllegalStateException.class, () -> batchService.mapBatch(groups, "username", result -> {
+            throw new IllegalStateException("Client went away");
+        }));
+
+        // Only a single group is submitted ahead with one thread, so the others are never mapped.
+        assertEquals(1, mapped.get());
+    }
+
+    private CimMappingBatchGroup createGroup(String id) {
+        var cimData = new CimData();
+        cimData.setName(id + "_EQ.xml");
+        cimData.setRdfData("<rdf:RDF/>");
+        return new CimMappingBatchGroup(id, List.of(cimData));
+    }
+}
@@ -0,0 +1,238 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.lfenergy.compas.cim.mapping.cgmes.CimFileDataSource;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.JOB_QUEUE_FULL_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.MEMORY_BUDGET_FULL_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.READ_DATA_ERROR_CODE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompasCimMappingJobServiceTest {
+    private static final Duration RESULT_TTL = Duration.ofMinutes(10);
+
+    @Mock
+    private CompasCimMappingService compasCimMappingService;
+    @Mock
+    private CimToSclStream cimToSclStream;
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-01-01T12:00:00Z"));
+    private CompasCimMappingJobService jobService;
+
+    @AfterEach
+    void shutdown() {
+        if (jobService != null) {
+            jobService.shutdown();
+        }
+    }
+
+    @Test
+    void submit_WhenMappingSucceeds_ThenJobCompletedWithSclAndProgress() throws Exception {
+        createJobService(1, 1);
+        var scl = new SCL();
+        when(compasCimMappingService.streamFiles(any(CimFileDataSource.class), eq("username"))).thenReturn(cimToSclStream);
+        when(cimToSclStream.getScl()).thenReturn(scl);
+        when(cimToSclStream.countSubstations()).thenReturn(2);
+        doAnswer(invocation -> {
+            Consumer<TSubstation> consumer = invocation.getArgument(0);
+            consumer.accept(new TSubstation());
+            consumer.accept(new TSubstation());
+            return null;
+        }).when(cimToSclStream).mapSubstations(any());
+
+        var job = jobService.submit(createDataSource(), "username");
+        awaitFinished(job);
+
+        assertEquals(CimMappingJobStatus.COMPLETED, job.getStatus());
+        assertEquals(List.of("FILE1_EQ.xml"), job.getFileNames());
+        assertEquals(2, job.getTotalSubstations());
+        assertEquals(2, job.getMappedSubstations());
+        assertSame(scl, job.getScl());
+        assertEquals(2, scl.getSubstation().size());
+        assertNotNull(job.getStarted());
+        assertNull(job.getErrorCode());
+    }
+
+    @Test
+    void submit_WhenMappingFails_ThenJobFailedWithErrorCode() throws Exception {
+        createJobService(1, 1);
+        when(compasCimMappingService.streamFiles(any(CimFileDataSource.class), eq("username")))
+                .thenThrow(new CompasCimMappingException(READ_DATA_ERROR_CODE, "Unable to read"));
+
+        var job = jobService.submit(createDataSource(), "username");
+        awaitFinished(job);
+
+        assertEquals(CimMappingJobStatus.FAILED, job.getStatus());
+        assertEquals(READ_DATA_ERROR_CODE, job.getErrorCode());
+        assertEquals("Unable to read", job.getErrorMessage());
+        assertNull(job.getScl());
+    }
+
+    @Test
+    void submit_WhenMemoryBudgetFull_ThenJobFailedAndMappingNotStarted() throws Exception {
+        var cimMemoryBudget = new CimMemoryBudget(1000, 10, Duration.ZERO);
+        createJobService(1, 1, 10, Duration.ofHours(1), cimMemoryBudget);
+
+        try (var ignored = cimMemoryBudget.reserve(Long.MAX_VALUE)) {
+            var job = jobService.submit(createDataSource(), "username");
+            awaitFinished(job);
+
+            assertEquals(CimMappingJobStatus.FAILED, job.getStatus());
+            assertEquals(MEMORY_BUDGET_FULL_ERROR_CODE, job.getErrorCode());
+        }
+        verifyNoInteractions(compasCimMappingService);
+    }
+
+    @Test
+    void submit_WhenMapping_ThenMemoryReservedUntilJobFinished() throws Exception {
+        var cimMemoryBudget = new CimMemoryBudget(1000, 10, Duration.ZERO);
+        createJobService(1, 1, 10, Duration.ofHours(1), cimMemoryBudget);
+        var reservedWhileMapping = new AtomicReference<Long>();
+        when(compasCimMappingService.streamFiles(any(CimFileDataSource.class), eq("username"))).thenAnswer(invocation -> {
+            reservedWhileMapping.set(cimMemoryBudget.getReservedBytes());
+            return cimToSclStream;
+        });
+        when(cimToSclStream.getScl()).thenReturn(new SCL());
+
+        var job = jobService.submit(createDataSource(), "username");
+        awaitFinished(job);
+
+        assertEquals(CimMappingJobStatus.COMPLETED, job.getStatus());
+        assertEquals("<rdf/>".length() * 10L, reservedWhileMapping.get());
+        assertEquals(0, cimMemoryBudget.getReservedBytes());
+    }
+
+    @Test
+    void submit_WhenQueueFull_ThenExceptionThrown() throws Exception {
+        createJobService(1, 0);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(compasCimMappingService.streamFiles(any(CimFileDataSource.class), eq("username"))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            throw new CompasCimMappingException(READ_DATA_ERROR_CODE, "Stopped");
+        });
+
+        var firstJob = jobService.submit(createDataSource(), "username");
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        var dataSource = createDataSource();
+        var exception = assertThrows(CompasCimMappingException.class, () -> jobService.submit(dataSource, "username"));
+        assertEquals(JOB_QUEUE_FULL_ERROR_CODE, exception.getErrorCode());
+
+        release.countDown();
+        awaitFinished(firstJob);
+    }
+
+    @Test
+    void getJob_WhenTtlOfFinishedJobExpired_ThenJobRemoved() throws Exception {
+        createJobService(1, 1);
+        when(compasCimMappingService.streamFiles(any(CimFileDataSource.class), eq("username")))
+                .thenThrow(new CompasCimMappingException(READ_DATA_ERROR_CODE, "Unable to read"));
+
+        var job = jobService.submit(createDataSource(), "username");
+        awaitFinished(job);
+        assertTrue(jobService.getJob(job.getId()).isPresent());
+
+        now.set(now.get().plus(RESULT_TTL).plusSeconds(1));
+        assertTrue(jobService.getJob(job.getId()).isEmpty());
+    }
+
+    @Test
+    void getJob_WhenMoreJobsFinishedThanKept_ThenOldestJobRemoved() throws Exception {
+        createJobService(1, 1, 1, Duration.ofHours(1));
+        when(compasCimMappingService.streamFiles(any(CimFileDataSource.class), eq("username")))
+                .thenThrow(new CompasCimMappingException(READ_DATA_ERROR_CODE, "Unable to read"));
+
+        var firstJob = jobService.submit(createDataSource(), "username");
+        awaitFinished(firstJob);
+        now.set(now.get().plusSeconds(1));
+        var secondJob = jobService.submit(createDataSource(), "username");
+        awaitFinished(secondJob);
+
+        assertTrue(jobService.getJob(firstJob.getId()).isEmpty());
+        assertTrue(jobService.getJob(secondJob.getId()).isPresent());
+    }
+
+    @Test
+    void evictJobs_WhenTtlOfFinishedJobExpired_ThenJobRemovedInBackground() throws Exception {
+        createJobService(1, 1, 10, Duration.ofMillis(10));
+        when(compasCimMappingService.streamFiles(any(CimFileDataSource.class), eq("username")))
+                .thenThrow(new CompasCimMappingException(READ_DATA_ERROR_CODE, "Unable to read"));
+        var job = jobService.submit(createDataSource(), "username");
+        awaitFinished(job);
+        assertEquals(1, jobService.getNumberOfJobs());
+
+        now.set(now.get().plus(RESULT_TTL).plusSeconds(1));
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jobService.getNumberOfJobs() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, jobService.getNumberOfJobs());
+    }
+
+    @Test
+    void getJob_WhenUnknownId_ThenEmptyReturned() {
+        createJobService(1, 1);
+
+        assertTrue(jobService.getJob("unknown").isEmpty());
+    }
+
+    private void createJobService(int threads, int queueDepth) {
+        createJobService(threads, queueDepth, 10, Duration.ofHours(1));
+    }
+
+    private void createJobService(int threads, int queueDepth, int maxResults, Duration evictionInterval) {
+        createJobService(threads, queueDepth, maxResults, evictionInterval, CimMemoryBudget.unlimited());
+    }
+
+    private void createJobService(int threads, int queueDepth, int maxResults, Duration evictionInterval,
+                                  CimMemoryBudget cimMemoryBudget) {
+        var clock = mock(Clock.class);
+        lenient().when(clock.instant()).thenAnswer(invocation -> now.get());
+        jobService = new CompasCimMappingJobService(compasCimMappingService,
+                new CimMappingJobSettings(threads, queueDepth, RESULT_TTL, maxResults, CimMappingThreadMode.PLATFORM),
+                cimMemoryBudget, clock, evictionInterval);
+    }
+
+    private CimFileDataSource createDataSource() throws IOException {
+        var dataSource = new CimFileDataSource();
+        dataSource.addFile("FILE1_EQ.xml", new ByteArrayInputStream("<rdf/>".getBytes(UTF_8)));
+        return dataSource;
+    }
+
+    private void awaitFinished(CimMappingJob job) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!job.getStatus().isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(job.getStatus().isFinished(), "Job didn't finish in time");
+    }
+}
@@ -4,22 +4,52 @@
 package org.lfenergy.compas.cim.mapping.service;
 
 import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.lfenergy.compas.cim.mapping.cgmes.CgmesCimReader;
+import org.lfenergy.compas.cim.mapping.cgmes.CimReaderMode;
+import org.lfenergy.compas.cim.mapping.exception.CompasCimMappingException;
+import org.lfenergy.compas.cim.mapping.mapper.CimMappingParallelism;
+import org.lfenergy.compas.cim.mapping.mapper.CimProfilingContext;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryMode;
+import org.lfenergy.compas.cim.mapping.mapper.CimQueryRegistry;
 import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapper;
 import org.lfenergy.compas.cim.mapping.mapper.CimToSclMapperContext;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingMetrics;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingSpan;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingStage;
+import org.lfenergy.compas.cim.mapping.metrics.CimMappingTracing;
 import org.lfenergy.compas.cim.mapping.model.CimData;
+import org.lfenergy.compas.cim.mapping.model.CimModelIndex;
 import org.lfenergy.compas.scl2007b4.model.SCL;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
+import org.lfenergy.compas.scl2007b4.model.TVoltageLevel;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.NO_DATA_ERROR_CODE;
+import static org.lfenergy.compas.cim.mapping.exception.CompasCimMappingErrorCode.READ_DATA_ERROR_CODE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,23 +61,67 @@ class CompasCimMappingServiceTest {
     private CgmesCimReader cgmesCimReader;
     @Mock
     private CimToSclMapper cimToSclMapper;
+    @Mock
+    private CimQueryRegistry cimQueryRegistry;
+    @Mock
+    private CimMappingParallelism cimMappingParallelism;
+    @Mock
+    private CimMappingResultCache cimMappingResultCache;
+    @Mock
+    private CimMappingMetrics cimMappingMetrics;
+    @Mock
+    private CimMappingTracing cimMappingTracing;
 
     @InjectMocks
     private CompasCimMappingService compasCimMappingService;
 
     @Test
     void map_WhenCalledWithData_ThenReaderAndMapperAreCalled() {
-        when(cgmesCimReader.readModel(any())).thenReturn(cgmesModel);
+        when(cgmesCimReader.readModel(anyList())).thenReturn(cgmesModel);
 
         var cimDataList = List.of(new CimData());
         var scl = compasCimMappingService.map(cimDataList, "username");
 
         assertNotNull(scl);
+        verify(cgmesCimReader, times(1)).getCimReaderMode();
         verify(cgmesCimReader, times(1)).readModel(cimDataList);
         verify(cimToSclMapper, times(1)).mapToScl(any(SCL.class), any(CimToSclMapperContext.class));
         verifyNoMoreInteractions(cgmesCimReader, cimToSclMapper);
     }
 
+    @Test
+    void map_WhenCalledWithDataInStaxMode_ThenModelIndexIsRead() {
+        when(cgmesCimReader.getCimReaderMode()).thenReturn(CimReaderMode.STAX);
+        when(cgmesCimReader.readModelIndex(anyList())).thenReturn(createEmptyModelIndex());
+
+        var cimDataList = List.of(new CimData());
+        var scl = compasCimMappingService.map(cimDataList, "username");
+
+        assertNotNull(scl);
+        verify(cgmesCimReader, times(1)).getCimReaderMode();
+        verify(cgmesCimReader, times(1)).readModelIndex(cimDataList);
+        verify(cimToSclMapper, times(1)).mapToScl(any(SCL.class), any(CimToSclMapperContext.class));
+        verifyNoMoreInteractions(cgmesCimReader, cimToSclMapper);
+    }
+
+    @Test
+    void map_WhenCalledWithParallelMapping_ThenMapperIsCalledWithPool() {
+        var pool = new ForkJoinPool(2);
+        when(cimMappingParallelism.isParallel()).thenReturn(true);
+        when(cimMappingParallelism.getPool()).thenReturn(pool);
+        when(cgmesCimReader.readModel(anyList())).thenReturn(cgmesModel);
+
+        var cimDataList = List.of(new CimData());
+        var scl = compasCimMappingService.map(cimDataList, "username");
+
+        assertNotNull(scl);
+        verify(cgmesCimReader, times(1)).getCimReaderMode();
+        verify(cgmesCimReader, times(1)).readModel(cimDataList);
+        verify(cimToSclMapper, times(1)).mapToScl(any(SCL.class), any(CimToSclMapperContext.class), eq(pool));
+        verifyNoMoreInteractions(cgmesCimReader, cimToSclMapper);
+        pool.shutdown();
+    }
+
     @Test
     void map_WhenCalledWithoutData_ThenReaderAndMapperAreNotCalled() {
         var scl = compasCimMappingService.map(Collections.emptyList(), "username");
@@ -64,6 +138,116 @@ class CompasCimMappingServiceTest {
         verifyNoInteractions(cgmesCimReader, cimToSclMapper);
     }
 
+    @Test
+    void mapFiles_WhenCalledWithFiles_ThenReaderAndMapperAreCalled() throws IOException {
+        var dataSource = mock(ReadOnlyDataSource.class);
+        when(dataSource.listNames(".*")).thenReturn(Set.of("FILE1_EQ.xml"));
+        when(cgmesCimReader.readModel(dataSource)).thenReturn(cgmesModel);
+
+        var scl = compasCimMappingService.mapFiles(dataSource, "username");
+
+        assertNotNull(scl);
+        assertTrue(scl.getHeader().getHistory().getHitem().get(0).getWhat().contains("FILE1_EQ.xml"));
+        verify(cgmesCimReader, times(1)).getCimReaderMode();
+        verify(cgmesCimReader, times(1)).readModel(dataSource);
+        verify(cimToSclMapper, times(1)).mapToScl(any(SCL.class), any(CimToSclMapperContext.class));
+        verifyNoMoreInteractions(cgmesCimReader, cimToSclMapper);
+    }
+
+    @Test
+    void mapFiles_WhenCalledWithoutFiles_ThenReaderAndMapperAreNotCalled() throws IOException {
+        var dataSource = mock(ReadOnlyDataSource.class);
+        when(dataSource.listNames(".*")).thenReturn(Set.of());
+
+        var scl = compasCimMappingService.mapFiles(dataSource, "username");
+
+        assertNotNull(scl);
+        verifyNoInteractions(cgmesCimReader, cimToSclMapper);
+    }
+
+    @Test
+    void mapFiles_WhenListingFilesFails_ThenExceptionThrown() throws IOException {
+        var dataSource = mock(ReadOnlyDataSource.class);
+        when(dataSource.listNames(".*")).thenThrow(new IOException("Disk error"));
+
+        var exception = assertThrows(CompasCimMappingException.class,
+                () -> compasCimMappingService.mapFiles(dataSource, "username"));
+
+        assertEquals(READ_DATA_ERROR_CODE, exception.getErrorCode());
+        verifyNoInteractions(cgmesCimReader, cimToSclMapper);
+    }
+
+    @Test
+    void mapArchive_WhenCalledWithZipArchive_ThenEntriesAreRead() throws IOException {
+        when(cgmesCimReader.readModel(any(ReadOnlyDataSource.class))).thenAnswer(invocation -> {
+            ReadOnlyDataSource dataSource = invocation.getArgument(0);
+            assertTrue(dataSource.exists("FILE1_EQ.xml"));
+            return cgmesModel;
+        });
+        var archive = new ByteArrayOutputStream();
+        try (var zipStream = new ZipOutputStream(archive)) {
+            zipStream.putNextEntry(new ZipEntry("FILE1_EQ.xml"));
+            zipStream.write("<rdf/>".getBytes(StandardCharsets.UTF_8));
+        }
+
+        var scl = compasCimMappingService.mapArchive("bundle.zip",
+                new ByteArrayInputStream(archive.toByteArray()), "username");
+
+        assertNotNull(scl);
+        assertTrue(scl.getHeader().getHistory().getHitem().get(0).getWhat().contains("FILE1_EQ.xml"));
+        verify(cimToSclMapper, times(1)).mapToScl(any(SCL.class), any(CimToSclMapperContext.class));
+    }
+
+    @Test
+    void mapArchive_WhenCalledWithUnsupportedArchive_ThenExceptionThrown() {
+        var archive = new ByteArrayInputStream(new byte[0]);
+
+        var exception = assertThrows(CompasCimMappingException.class,
+                () -> compasCimMappingService.mapArchive("bundle.rar", archive, "username"));
+
+        assertEquals(READ_DATA_ERROR_CODE, exception.getErrorCode());
+        verifyNoInteractions(cgmesCimReader, cimToSclMapper);
+    }
+
+    @Test
+    void stream_WhenCalledWithData_ThenModelReadBeforeSubstationsMapped() {
+        when(cgmesCimReader.readModel(anyList())).thenReturn(cgmesModel);
+
+        var cimDataList = List.of(new CimData());
+        var cimToSclStream = compasCimMappingService.stream(cimDataList, "username");
+
+        assertNotNull(cimToSclStream.getScl().getHeader());
+        verify(cgmesCimReader, times(1)).readModel(cimDataList);
+        verifyNoInteractions(cimToSclMapper);
+
+        Consumer<TSubstation> consumer = tSubstation -> {
+        };
+        cimToSclStream.mapSubstations(consumer);
+        verify(cimToSclMapper, times(1)).mapSubstations(any(CimToSclMapperContext.class), eq(consumer));
+    }
+
+    @Test
+    void stream_WhenCalledWithoutData_ThenNoSubstationsMapped() {
+        var cimToSclStream = compasCimMappingService.stream(Collections.emptyList(), "username");
+
+        assertNotNull(cimToSclStream.getScl());
+        cimToSclStream.mapSubstations(tSubstation -> fail("No Substations expected"));
+        verifyNoInteractions(cgmesCimReader, cimToSclMapper);
+    }
+
+    @Test
+    void streamFiles_WhenCalledWithFiles_ThenModelReadFromDataSource() throws IOException {
+        var dataSource = mock(ReadOnlyDataSource.class);
+        when(dataSource.listNames(".*")).thenReturn(Set.of("FILE1_EQ.xml"));
+        when(cgmesCimReader.readModel(dataSource)).thenReturn(cgmesModel);
+
+        var cimToSclStream = compasCimMappingService.streamFiles(dataSource, "username");
+
+        assertTrue(cimToSclStream.getScl().getHeader().getHistory().getHitem().get(0).getWhat().contains("FILE1_EQ.xml"));
+        verify(cgmesCimReader, times(1)).readModel(dataSource);
+        verifyNoInteractions(cimToSclMapper);
+    }
+
     @Test
     void createBasicSCL_WhenCalledWithData_ThenNewSCLInstanceReturnedWithPartsFilled() {
         var cimData = new CimData();
@@ -83,6 +267,127 @@ class CompasCimMappingServiceTest {
         createBasicSCL_WhenCalled_ThenExpectedName(null);
     }
 
+    @Test
+    void map_WhenSameCimDataMappedTwice_ThenSubstationsTakenFromCacheWithNewHeader() {
+        var service = new CompasCimMappingService(cgmesCimReader, cimToSclMapper, cimQueryRegistry,
+                CimMappingParallelism.sequential(), new CimMappingResultCache(10, Duration.ofMinutes(10)),
+                CimMappingMetrics.NONE, CimMappingTracing.NONE, CimQueryMode.INDEXED);
+        when(cgmesCimReader.readModel(anyList())).thenReturn(cgmesModel);
+        doAnswer(invocation -> {
+            SCL scl = invocation.getArgument(0);
+            var substation = new TSubstation();
+            substation.setName("Substation 1");
+            scl.getSubstation().add(substation);
+            return null;
+        }).when(cimToSclMapper).mapToScl(any(SCL.class), any(CimToSclMapperContext.class));
+        var cimData = new CimData();
+        cimData.setName("FILE1_EQ.xml");
+        cimData.setRdfData("<rdf/>");
+
+        var first = service.map(List.of(cimData), "first user");
+        var second = service.map(List.of(cimData), "second user");
+
+        verify(cgmesCimReader, times(1)).readModel(anyList());
+        verify(cimToSclMapper, times(1)).mapToScl(any(SCL.class), any(CimToSclMapperContext.class));
+        assertEquals(1, second.getSubstation().size());
+        assertNotSame(first.getSubstation().get(0), second.getSubstation().get(0));
+        assertEquals("Substation 1", second.getSubstation().get(0).getName());
+        assertNotEquals(first.getHeader().getId(), second.getHeader().getId());
+        assertEquals("second user", second.getHeader().getHistory().getHitem().get(0).getWho());
+    }
+
+    @Test
+    void map_WhenCacheDisabled_ThenKeyNotCreated() {
+        when(cgmesCimReader.readModel(anyList())).thenReturn(cgmesModel);
+
+        compasCimMappingService.map(List.of(new CimData()), "username");
+
+        verify(cimMappingResultCache, times(1)).isEnabled();
+        verifyNoMoreInteractions(cimMappingResultCache);
+    }
+
+    @Test
+    void map_WhenMetricsEnabled_ThenMappingTimeAndOutputElementsRecorded() {
+        when(cimMappingMetrics.isEnabled()).thenReturn(true);
+        when(cgmesCimReader.readModel(anyList())).thenReturn(cgmesModel);
+        doAnswer(invocation -> {
+            SCL scl = invocation.getArgument(0);
+            var tSubstation = new TSubstation();
+            tSubstation.getVoltageLevel().add(new TVoltageLevel());
+            scl.getSubstation().add(tSubstation);
+            return null;
+        }).when(cimToSclMapper).mapToScl(any(SCL.class), any(CimToSclMapperContext.class));
+
+        compasCimMappingService.map(List.of(new CimData()), "username");
+
+        verify(cimMappingMetrics, times(1)).recordStage(eq(CimMappingStage.MAP_TO_SCL), anyLong());
+        verify(cimMappingMetrics, times(1)).countOutputElements(2);
+    }
+
+    @Test
+    void map_WhenMetricsDisabled_ThenOutputElementsNotCounted() {
+        when(cgmesCimReader.readModel(anyList())).thenReturn(cgmesModel);
+
+        compasCimMappingService.map(List.of(new CimData()), "username");
+
+        verify(cimMappingMetrics, times(1)).recordStage(eq(CimMappingStage.MAP_TO_SCL), anyLong());
+        verify(cimMappingMetrics, never()).countOutputElements(anyLong());
+    }
+
+    @Test
+    void map_WhenCalledWithData_ThenMappingTracedInOwnSpan() {
+        var span = mock(CimMappingSpan.class);
+        when(cimMappingTracing.startStage(CimMappingStage.MAP_TO_SCL)).thenReturn(span);
+        when(cgmesCimReader.readModel(anyList())).thenReturn(cgmesModel);
+
+        compasCimMappingService.map(List.of(new CimData()), "username");
+
+        var inOrder = inOrder(cimMappingTracing, cimToSclMapper, span);
+        inOrder.verify(cimMappingTracing).startStage(CimMappingStage.MAP_TO_SCL);
+        inOrder.verify(cimToSclMapper).mapToScl(any(SCL.class), any(CimToSclMapperContext.class));
+        inOrder.verify(span).close();
+    }
+
+    @Test
+    void profile_WhenCalledWithData_ThenMappedWithProfilingContextAndTriplesCounted() {
+        when(cgmesCimReader.readModel(anyList())).thenReturn(cgmesModel);
+        when(cgmesCimReader.countTriplesByClass(cgmesModel)).thenReturn(Map.of("Substation", 15L));
+
+        var result = compasCimMappingService.profile(List.of(new CimData()));
+
+        assertEquals(Map.of("Substation", 15L), result.getTriplesByClass());
+        verify(cimToSclMapper, times(1)).mapToScl(any(SCL.class), any(CimProfilingContext.class));
+        verifyNoInteractions(cimMappingParallelism, cimMappingResultCache);
+    }
+
+    @Test
+    void profile_WhenCalledInStaxMode_ThenNoTriplesCounted() {
+        when(cgmesCimReader.getCimReaderMode()).thenReturn(CimReaderMode.STAX);
+        when(cgmesCimReader.readModelIndex(anyList())).thenReturn(createEmptyModelIndex());
+
+        var result = compasCimMappingService.profile(List.of(new CimData()));
+
+        assertTrue(result.getTriplesByClass().isEmpty());
+        verify(cgmesCimReader, never()).countTriplesByClass(any());
+        verify(cimToSclMapper, times(1)).mapToScl(any(SCL.class), any(CimProfilingContext.class));
+    }
+
+    @Test
+    void profile_WhenCalledWithoutData_ThenExceptionThrown() {
+        List<CimData> cimData = List.of();
+
+        var exception = assertThrows(CompasCimMappingException.class,
+                () -> compasCimMappingService.profile(cimData));
+
+        assertEquals(NO_DATA_ERROR_CODE, exception.getErrorCode());
+        verifyNoInteractions(cgmesCimReader, cimToSclMapper);
+    }
+
+    private CimModelIndex createEmptyModelIndex() {
+        return new CimModelIndex(List.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(),
+                Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+    }
+
     private void createBasicSCL_WhenCalled_ThenExpectedName(List<CimData> cimDataList) {
         var expectedName = "Mr. Name";
 
@@ -0,0 +1,55 @@
+// SPDX-FileCopyrightText: 2026 Alliander N.V.
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.lfenergy.compas.cim.mapping.service;
+
+import org.junit.jupiter.api.Test;
+import org.lfenergy.compas.scl2007b4.model.TBay;
+import org.lfenergy.compas.scl2007b4.model.TConductingEquipment;
+import org.lfenergy.compas.scl2007b4.model.TConnectivityNode;
+import org.lfenergy.compas.scl2007b4.model.TPowerTransformer;
+import org.lfenergy.compas.scl2007b4.model.TSubstation;
+import org.lfenergy.compas.scl2007b4.model.TTapChanger;
+import org.lfenergy.compas.scl2007b4.model.TTerminal;
+import org.lfenergy.compas.scl2007b4.model.TTransformerWinding;
+import org.lfenergy.compas.scl2007b4.model.TVoltageLevel;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SclElementCounterTest {
+    @Test
+    void count_WhenSubstationsFilled_ThenAllMappedElementsCounted() {
+        var tConductingEquipment = new TConductingEquipment();
+        tConductingEquipment.getTerminal().add(new TTerminal());
+        var tBay = new TBay();
+        tBay.getConductingEquipment().add(tConductingEquipment);
+        tBay.getConnectivityNode().add(new TConnectivityNode());
+        var tVoltageLevel = new TVoltageLevel();
+        tVoltageLevel.getBay().add(tBay);
+
+        var tTransformerWinding = new TTransformerWinding();
+        tTransformerWinding.setTapChanger(new TTapChanger());
+        var tPowerTransformer = new TPowerTransformer();
+        tPowerTransformer.getTransformerWinding().add(tTransformerWinding);
+
+        var tSubstation = new TSubstation();
+        tSubstation.getVoltageLevel().add(tVoltageLevel);
+        tSubstation.getPowerTransformer().add(tPowerTransformer);
+
+        // Substation, Voltage Level, Bay, Equipment, Terminal, Node, Transformer, Winding and Tap Changer.
+        assertEquals(9, SclElementCounter.count(List.of(tSubstation)));
+    }
+
+    @Test
+    void count_WhenNoSubstations_ThenZeroReturned() {
+        assertEquals(0, SclElementCounter.count(List.of()));
+    }
+
+    @Test
+    void constructor_WhenCalled_ThenExceptionThrown() {
+        assertThrows(UnsupportedOperationException.class, SclElementCounter::new);
+    }
+}